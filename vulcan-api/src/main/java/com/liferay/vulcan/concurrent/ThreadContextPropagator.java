@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.concurrent;
+
+import aQute.bnd.annotation.ConsumerType;
+
+/**
+ * Propagates the context a thread holds for the current request, such as the
+ * current user's permissions or company, to the threads Vulcan uses to write
+ * parts of the response in parallel.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ConsumerType
+public interface ThreadContextPropagator {
+
+	/**
+	 * Captures the current thread's context and returns a runnable that runs
+	 * the provided one with that context. This method is called from the
+	 * request's thread; the returned runnable runs in a pool thread, and must
+	 * clear the context it set when it finishes.
+	 *
+	 * @param  runnable the task to run with the current thread's context
+	 * @return the task that runs the provided one with the captured context
+	 * @review
+	 */
+	public Runnable propagate(Runnable runnable);
+
+}
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.vulcan.endpoint;
 
 import aQute.bnd.annotation.ProviderType;
 
+import com.liferay.vulcan.pagination.CollectionStream;
 import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.pagination.SingleModel;
 import com.liferay.vulcan.result.Try;
@@ -131,6 +132,21 @@ public interface RootEndpoint {
 	public <T> Try<Page<T>> getCollectionPageTry(
 		@PathParam("name") String name);
 
+	/**
+	 * Returns every model of the specified resource as a {@link
+	 * CollectionStream}, so the whole collection can be exported in a single
+	 * response.
+	 *
+	 * @param  name the resource's name, extracted from the URL
+	 * @return the {@link CollectionStream} for the specified resource, or an
+	 *         exception if an error occurred
+	 * @review
+	 */
+	@GET
+	@Path("/e/{name}")
+	public <T> Try<CollectionStream<T>> getCollectionStreamTry(
+		@PathParam("name") String name);
+
 	/**
 	 * Returns the representation of the "home" of the application.
 	 *
@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.exception;
+
+/**
+ * Defines the exception returned when a path's endpoint doesn't support the
+ * request's HTTP method. This exception doesn't fill in its stack trace, so
+ * requests with unsupported methods are cheap to answer.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MethodNotAllowedException extends RuntimeException {
+
+	public MethodNotAllowedException(String message) {
+		super(message, null, false, false);
+	}
+
+}
\ No newline at end of file
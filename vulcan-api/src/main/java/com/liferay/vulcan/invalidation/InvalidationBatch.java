@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Accumulates invalidation events until they are sent together, coalescing
+ * them on the way: duplicated events, and events included by another one (see
+ * {@link InvalidationEvent#includes(InvalidationEvent)}), are kept once. If
+ * the batch grows beyond its maximum size, its events are replaced by a single
+ * event that invalidates everything.
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class InvalidationBatch {
+
+	public InvalidationBatch(int maxSize) {
+		_maxSize = maxSize;
+	}
+
+	/**
+	 * Adds an event to the batch, unless an event already in the batch
+	 * includes it. Events in the batch included by the new event are removed.
+	 *
+	 * @param  invalidationEvent the event
+	 * @return {@code true} if the batch changed; {@code false} otherwise
+	 * @review
+	 */
+	public synchronized boolean add(InvalidationEvent invalidationEvent) {
+		for (InvalidationEvent batchedInvalidationEvent : _invalidationEvents) {
+			if (batchedInvalidationEvent.includes(invalidationEvent)) {
+				return false;
+			}
+		}
+
+		Iterator<InvalidationEvent> iterator = _invalidationEvents.iterator();
+
+		while (iterator.hasNext()) {
+			if (invalidationEvent.includes(iterator.next())) {
+				iterator.remove();
+			}
+		}
+
+		if (_invalidationEvents.size() >= _maxSize) {
+			_invalidationEvents.clear();
+
+			_invalidationEvents.add(new InvalidationEvent());
+		}
+		else {
+			_invalidationEvents.add(invalidationEvent);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the events in the batch, in the order they were added, and
+	 * empties the batch.
+	 *
+	 * @return the events in the batch
+	 * @review
+	 */
+	public synchronized List<InvalidationEvent> drain() {
+		List<InvalidationEvent> invalidationEvents = new ArrayList<>(
+			_invalidationEvents);
+
+		_invalidationEvents.clear();
+
+		return invalidationEvents;
+	}
+
+	/**
+	 * Returns {@code true} if the batch has no events.
+	 *
+	 * @return {@code true} if the batch is empty; {@code false} otherwise
+	 * @review
+	 */
+	public synchronized boolean isEmpty() {
+		return _invalidationEvents.isEmpty();
+	}
+
+	private final Set<InvalidationEvent> _invalidationEvents =
+		new LinkedHashSet<>();
+	private final int _maxSize;
+
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import aQute.bnd.annotation.ProviderType;
+
+/**
+ * Publishes invalidation events to the caches of the current node, right
+ * away, and to the caches of the other nodes of the cluster, through the
+ * registered {@link InvalidationTransport}. Events sent to other nodes are
+ * batched and coalesced (see {@link InvalidationBatch}).
+ *
+ * <p>
+ * Caches receive the events by registering an {@link InvalidationListener}
+ * service.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ProviderType
+public interface InvalidationBus {
+
+	/**
+	 * Publishes an invalidation event.
+	 *
+	 * @param  invalidationEvent the event
+	 * @review
+	 */
+	public void publish(InvalidationEvent invalidationEvent);
+
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes a change that makes cached representations stale. An event can
+ * refer to the pages of a collection (for example, after adding an item to
+ * it), to one of the collection's items, or to every cached representation.
+ *
+ * <p>
+ * Invalidating an item also invalidates its collection's pages, since they can
+ * contain the item. See {@link #includes(InvalidationEvent)}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class InvalidationEvent {
+
+	/**
+	 * Creates an event that invalidates every cached representation.
+	 *
+	 * @review
+	 */
+	public InvalidationEvent() {
+		_name = null;
+		_id = null;
+	}
+
+	/**
+	 * Creates an event that invalidates the pages of a collection.
+	 *
+	 * @param  name the collection's name
+	 * @review
+	 */
+	public InvalidationEvent(String name) {
+		this(name, null);
+	}
+
+	/**
+	 * Creates an event that invalidates an item of a collection and the
+	 * collection's pages. If the item's ID is {@code null}, only the pages are
+	 * invalidated.
+	 *
+	 * @param  name the collection's name
+	 * @param  id the item's ID
+	 * @review
+	 */
+	public InvalidationEvent(String name, String id) {
+		_name = Objects.requireNonNull(name);
+		_id = id;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+
+		if (!(object instanceof InvalidationEvent)) {
+			return false;
+		}
+
+		InvalidationEvent invalidationEvent = (InvalidationEvent)object;
+
+		if (Objects.equals(_name, invalidationEvent._name) &&
+			Objects.equals(_id, invalidationEvent._id)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the ID of the invalidated item, if the event refers to an item.
+	 *
+	 * @return the item's ID, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getIdOptional() {
+		return Optional.ofNullable(_id);
+	}
+
+	/**
+	 * Returns the name of the invalidated collection, if the event doesn't
+	 * invalidate every cached representation.
+	 *
+	 * @return the collection's name, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getNameOptional() {
+		return Optional.ofNullable(_name);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(_name, _id);
+	}
+
+	/**
+	 * Returns {@code true} if handling this event also handles the provided
+	 * one, so the provided event can be discarded.
+	 *
+	 * @param  invalidationEvent the other event
+	 * @return {@code true} if this event includes the other one; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean includes(InvalidationEvent invalidationEvent) {
+		if (_name == null) {
+			return true;
+		}
+
+		if (!_name.equals(invalidationEvent._name)) {
+			return false;
+		}
+
+		if ((invalidationEvent._id == null) ||
+			invalidationEvent._id.equals(_id)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		if (_name == null) {
+			return "{*}";
+		}
+
+		if (_id == null) {
+			return "{" + _name + "}";
+		}
+
+		return "{" + _name + "/" + _id + "}";
+	}
+
+	private final String _id;
+	private final String _name;
+
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.List;
+
+/**
+ * Receives the invalidation events published in the current node or in any
+ * other node of the cluster. Register instances of this interface as OSGi
+ * services to have them notified by the {@link InvalidationBus}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ConsumerType
+@FunctionalInterface
+public interface InvalidationListener {
+
+	/**
+	 * Removes the cached representations made stale by the events.
+	 *
+	 * @param  invalidationEvents the events
+	 * @review
+	 */
+	public void onInvalidation(List<InvalidationEvent> invalidationEvents);
+
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.List;
+
+/**
+ * Carries batches of invalidation events between the nodes of a cluster.
+ * Register an instance of this interface as an OSGi service to have the
+ * {@link InvalidationBus} use it. Without a transport, events only reach the
+ * caches of the current node.
+ *
+ * <p>
+ * Transports are responsible for their own retries and error reporting: the
+ * bus doesn't resend batches.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ConsumerType
+public interface InvalidationTransport {
+
+	/**
+	 * Stops delivering the batches sent by other nodes.
+	 *
+	 * @review
+	 */
+	public void close();
+
+	/**
+	 * Starts delivering the batches sent by other nodes to the listener.
+	 *
+	 * @param  invalidationListener the listener of the batches received
+	 * @review
+	 */
+	public void open(InvalidationListener invalidationListener);
+
+	/**
+	 * Sends a batch of events to the other nodes.
+	 *
+	 * @param  invalidationEvents the events
+	 * @review
+	 */
+	public void send(List<InvalidationEvent> invalidationEvents);
+
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory {@link InvalidationTransport} connecting nodes running in the same
+ * JVM, for tests and single-node setups. Every batch sent by a transport is
+ * delivered synchronously to the other open transports created with {@link
+ * #createPeer()}, but not to the sender.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+	public LoopbackInvalidationTransport() {
+		this(new CopyOnWriteArrayList<>());
+	}
+
+	private LoopbackInvalidationTransport(
+		CopyOnWriteArrayList<LoopbackInvalidationTransport>
+			loopbackInvalidationTransports) {
+
+		_loopbackInvalidationTransports = loopbackInvalidationTransports;
+	}
+
+	@Override
+	public void close() {
+		_loopbackInvalidationTransports.remove(this);
+
+		_invalidationListener = null;
+	}
+
+	/**
+	 * Creates a transport connected to this one and to its other peers.
+	 *
+	 * @return the new transport
+	 * @review
+	 */
+	public LoopbackInvalidationTransport createPeer() {
+		return new LoopbackInvalidationTransport(
+			_loopbackInvalidationTransports);
+	}
+
+	@Override
+	public void open(InvalidationListener invalidationListener) {
+		_invalidationListener = invalidationListener;
+
+		_loopbackInvalidationTransports.addIfAbsent(this);
+	}
+
+	@Override
+	public void send(List<InvalidationEvent> invalidationEvents) {
+		for (LoopbackInvalidationTransport loopbackInvalidationTransport :
+				_loopbackInvalidationTransports) {
+
+			InvalidationListener invalidationListener =
+				loopbackInvalidationTransport._invalidationListener;
+
+			if ((loopbackInvalidationTransport != this) &&
+				(invalidationListener != null)) {
+
+				invalidationListener.onInvalidation(invalidationEvents);
+			}
+		}
+	}
+
+	private volatile InvalidationListener _invalidationListener;
+	private final CopyOnWriteArrayList<LoopbackInvalidationTransport>
+		_loopbackInvalidationTransports;
+
+}
\ No newline at end of file
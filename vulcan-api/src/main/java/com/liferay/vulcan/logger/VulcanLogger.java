@@ -26,6 +26,16 @@ import com.liferay.vulcan.result.APIError;
 @ConsumerType
 public interface VulcanLogger {
 
+	/**
+	 * Logs a debug message. Loggers that don't support debug messages ignore
+	 * it.
+	 *
+	 * @param message the message
+	 * @review
+	 */
+	public default void debug(String message) {
+	}
+
 	/**
 	 * Logs a message in the form of an {@link APIError}.
 	 *
@@ -33,4 +43,16 @@ public interface VulcanLogger {
 	 */
 	public void error(APIError apiError);
 
+	/**
+	 * Returns {@code true} if debug messages are logged, so callers can skip
+	 * building them otherwise.
+	 *
+	 * @return {@code true} if debug messages are logged; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public default boolean isDebugEnabled() {
+		return false;
+	}
+
 }
\ No newline at end of file
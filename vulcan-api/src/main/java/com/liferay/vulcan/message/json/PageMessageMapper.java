@@ -42,6 +42,15 @@ import javax.ws.rs.core.HttpHeaders;
  * Otherwise, the page message mapper's methods aren't called in a particular
  * order.
  *
+ * The writer may write several items at the same time, in different threads,
+ * each one to its own item JSON object builder. Only {@link
+ * #onStartItem(JSONObjectBuilder, JSONObjectBuilder, Object, Class,
+ * HttpHeaders)} and {@link #onFinishItem(JSONObjectBuilder, JSONObjectBuilder,
+ * Object, Class, HttpHeaders)} are called in the request's thread, in the
+ * order of the items. The rest of the item methods ({@code mapItem*}) must
+ * only write to the item JSON object builder, and never to the shared page
+ * JSON object builder they also receive.
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.pagination;
+
+import java.util.stream.Stream;
+
+/**
+ * Provides the stream of every model of a collection, so export writers can
+ * write the whole collection one model at a time. Like {@link SingleModel},
+ * this wrapper avoids problems related to the Java generics system.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class CollectionStream<T> {
+
+	public CollectionStream(Stream<T> stream, Class<T> modelClass) {
+		_stream = stream;
+		_modelClass = modelClass;
+	}
+
+	/**
+	 * Returns the model class.
+	 *
+	 * @return the model class
+	 * @review
+	 */
+	public Class<T> getModelClass() {
+		return _modelClass;
+	}
+
+	/**
+	 * Returns the stream of the collection's models. The stream can only be
+	 * consumed once, and must be closed after consuming it.
+	 *
+	 * @return the stream of the collection's models
+	 * @review
+	 */
+	public Stream<T> getStream() {
+		return _stream;
+	}
+
+	private final Class<T> _modelClass;
+	private final Stream<T> _stream;
+
+}
\ No newline at end of file
@@ -19,6 +19,8 @@ import aQute.bnd.annotation.ProviderType;
 import com.liferay.vulcan.uri.Path;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Represents a page in a collection. Writers can use instances of this
@@ -31,6 +33,16 @@ import java.util.Collection;
 @ProviderType
 public interface Page<T> {
 
+	/**
+	 * Returns the cursor used to request the page, if the collection is cursor
+	 * paginated and this isn't its first page.
+	 *
+	 * @return the page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getCursorOptional();
+
 	/**
 	 * Returns the page's items.
 	 *
@@ -38,6 +50,16 @@ public interface Page<T> {
 	 */
 	public Collection<T> getItems();
 
+	/**
+	 * Returns the page's items as a stream, so they can be written one at a
+	 * time without copying the page into memory. The stream can only be
+	 * consumed once, and must be closed after consuming it.
+	 *
+	 * @return the stream of the page's items
+	 * @review
+	 */
+	public Stream<T> getItemsStream();
+
 	/**
 	 * Returns the number of items the user selected on the page.
 	 *
@@ -59,6 +81,16 @@ public interface Page<T> {
 	 */
 	public Class<T> getModelClass();
 
+	/**
+	 * Returns the cursor of the next page, if the collection is cursor
+	 * paginated and this isn't its last page.
+	 *
+	 * @return the next page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getNextCursorOptional();
+
 	/**
 	 * Returns the page number in the collection.
 	 *
@@ -100,4 +132,26 @@ public interface Page<T> {
 	 */
 	public boolean hasPrevious();
 
+	/**
+	 * Returns {@code true} if the page belongs to a cursor paginated
+	 * collection. Cursor paginated collections can only be traversed forward,
+	 * from their first page.
+	 *
+	 * @return {@code true} if the page is cursor paginated; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isCursorPaginated();
+
+	/**
+	 * Returns {@code true} if the client asked not to calculate the
+	 * collection's total count. Writers shouldn't call {@link
+	 * #getTotalCount()} or {@link #getLastPageNumber()} in that case.
+	 *
+	 * @return {@code true} if the total count is skipped; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isTotalCountSkipped();
+
 }
\ No newline at end of file
@@ -14,7 +14,16 @@
 
 package com.liferay.vulcan.pagination;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Provides the information needed by {@link
@@ -25,12 +34,98 @@ import java.util.Collection;
 public class PageItems<T> {
 
 	public PageItems(Collection<T> items, int totalCount) {
-		_items = items;
-		_totalCount = totalCount;
+		this(items, () -> totalCount);
+	}
+
+	/**
+	 * Creates the items of a cursor paginated collection. The next cursor is
+	 * the opaque value clients send back in the {@code cursor} parameter to
+	 * get the page after this one. The page is cursor paginated even if the
+	 * next cursor is {@code null}.
+	 *
+	 * @param  items the page's items
+	 * @param  totalCount the total number of elements in the collection
+	 * @param  nextCursor the cursor of the next page, or {@code null} if this
+	 *         is the collection's last page
+	 * @review
+	 */
+	public PageItems(Collection<T> items, int totalCount, String nextCursor) {
+		this(items, () -> totalCount, nextCursor);
+	}
+
+	/**
+	 * Creates the items of a collection whose total count is only calculated
+	 * if a writer needs it. The count isn't calculated if the client asks to
+	 * skip it, so expensive count queries can be avoided.
+	 *
+	 * @param  items the page's items
+	 * @param  totalCountSupplier the supplier of the total number of elements
+	 *         in the collection
+	 * @review
+	 */
+	public PageItems(Collection<T> items, IntSupplier totalCountSupplier) {
+		this(items, items.stream(), totalCountSupplier, null, false);
+	}
+
+	/**
+	 * Creates the items of a cursor paginated collection whose total count is
+	 * only calculated if a writer needs it.
+	 *
+	 * @param  items the page's items
+	 * @param  totalCountSupplier the supplier of the total number of elements
+	 *         in the collection
+	 * @param  nextCursor the cursor of the next page, or {@code null} if this
+	 *         is the collection's last page
+	 * @review
+	 */
+	public PageItems(
+		Collection<T> items, IntSupplier totalCountSupplier,
+		String nextCursor) {
+
+		this(items, items.stream(), totalCountSupplier, nextCursor, true);
+	}
+
+	/**
+	 * Creates the items of a collection from a stream. Writers pull the items
+	 * from the stream one at a time while writing them, and close the stream
+	 * when they are done, so the page never has to be copied into memory.
+	 * Resources release the items' source (for example, a database cursor)
+	 * with {@link Stream#onClose(Runnable)}.
+	 *
+	 * @param  itemsStream the stream of the page's items
+	 * @param  totalCountSupplier the supplier of the total number of elements
+	 *         in the collection
+	 * @review
+	 */
+	public PageItems(Stream<T> itemsStream, IntSupplier totalCountSupplier) {
+		this(
+			_toCollection(itemsStream), itemsStream, totalCountSupplier, null,
+			false);
+	}
+
+	/**
+	 * Creates the items of a cursor paginated collection from a stream.
+	 *
+	 * @param  itemsStream the stream of the page's items
+	 * @param  totalCountSupplier the supplier of the total number of elements
+	 *         in the collection
+	 * @param  nextCursor the cursor of the next page, or {@code null} if this
+	 *         is the collection's last page
+	 * @review
+	 */
+	public PageItems(
+		Stream<T> itemsStream, IntSupplier totalCountSupplier,
+		String nextCursor) {
+
+		this(
+			_toCollection(itemsStream), itemsStream, totalCountSupplier,
+			nextCursor, true);
 	}
 
 	/**
-	 * Returns the page's items.
+	 * Returns the page's items. If the items are supplied as a stream, the
+	 * first access to the returned collection consumes and closes the stream,
+	 * and later accesses reuse the collected items.
 	 *
 	 * @return the page's items
 	 */
@@ -39,15 +134,116 @@ public class PageItems<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the stream of the page's items. The stream can only be consumed
+	 * once, so it can't be used after accessing the items returned by {@link
+	 * #getItems()}.
+	 *
+	 * @return the stream of the page's items
+	 * @review
+	 */
+	public Stream<T> getItemsStream() {
+		return _itemsStream;
+	}
+
+	/**
+	 * Returns the cursor of the next page, if present. Returns {@code
+	 * Optional#empty()} if the collection isn't cursor paginated or this is
+	 * its last page.
+	 *
+	 * @return the cursor of the next page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getNextCursorOptional() {
+		return _nextCursorOptional;
+	}
+
+	/**
+	 * Returns the total number of elements in the collection. If the count is
+	 * supplied lazily, every call calculates it again.
 	 *
 	 * @return the total number of elements in the collection
 	 */
 	public int getTotalCount() {
-		return _totalCount;
+		return _totalCountSupplier.getAsInt();
+	}
+
+	/**
+	 * Returns the supplier of the total number of elements in the collection.
+	 *
+	 * @return the supplier of the total number of elements in the collection
+	 * @review
+	 */
+	public IntSupplier getTotalCountSupplier() {
+		return _totalCountSupplier;
+	}
+
+	/**
+	 * Returns {@code true} if the items were created with a next cursor, even
+	 * a {@code null} one for the collection's last page.
+	 *
+	 * @return {@code true} if the collection is cursor paginated; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public boolean isCursorPaginated() {
+		return _cursorPaginated;
+	}
+
+	private PageItems(
+		Collection<T> items, Stream<T> itemsStream,
+		IntSupplier totalCountSupplier, String nextCursor,
+		boolean cursorPaginated) {
+
+		_items = items;
+		_itemsStream = itemsStream;
+		_totalCountSupplier = totalCountSupplier;
+		_nextCursorOptional = Optional.ofNullable(nextCursor);
+		_cursorPaginated = cursorPaginated;
+	}
+
+	private static <T> Collection<T> _toCollection(Stream<T> itemsStream) {
+		AtomicReference<List<T>> itemsReference = new AtomicReference<>();
+
+		Supplier<List<T>> itemsSupplier = () -> {
+			synchronized (itemsReference) {
+				List<T> items = itemsReference.get();
+
+				if (items == null) {
+					try (Stream<T> stream = itemsStream) {
+						items = stream.collect(Collectors.toList());
+					}
+
+					itemsReference.set(items);
+				}
+
+				return items;
+			}
+		};
+
+		return new AbstractCollection<T>() {
+
+			@Override
+			public Iterator<T> iterator() {
+				List<T> items = itemsSupplier.get();
+
+				return items.iterator();
+			}
+
+			@Override
+			public int size() {
+				List<T> items = itemsSupplier.get();
+
+				return items.size();
+			}
+
+		};
 	}
 
+	private final boolean _cursorPaginated;
 	private final Collection<T> _items;
-	private final int _totalCount;
+	private final Stream<T> _itemsStream;
+	private final Optional<String> _nextCursorOptional;
+	private final IntSupplier _totalCountSupplier;
 
 }
\ No newline at end of file
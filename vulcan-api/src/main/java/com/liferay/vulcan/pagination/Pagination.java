@@ -16,6 +16,8 @@ package com.liferay.vulcan.pagination;
 
 import aQute.bnd.annotation.ProviderType;
 
+import java.util.Optional;
+
 /**
  * Defines pagination for a collection endpoint. An instance of this interface
  * is handed to resources that handle pagination parameters.
@@ -29,7 +31,21 @@ import aQute.bnd.annotation.ProviderType;
 public interface Pagination {
 
 	/**
-	 * Returns the position of the requested page's last element.
+	 * Returns the opaque cursor the client sent to get the requested page, if
+	 * present. Resources that support cursor pagination should return the
+	 * items that follow the cursor, instead of skipping to the start position,
+	 * and add the cursor of the next page to their {@link PageItems}.
+	 *
+	 * @return the requested page's cursor, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getCursorOptional();
+
+	/**
+	 * Returns the position of the requested page's last element. If the total
+	 * count is skipped, the position is one element past the page's last
+	 * element, so the items fetched tell whether a next page exists.
 	 *
 	 * @return the position of the requested page's last element
 	 */
@@ -56,4 +72,15 @@ public interface Pagination {
 	 */
 	public int getStartPosition();
 
+	/**
+	 * Returns {@code true} if the client asked not to calculate the
+	 * collection's total count. Resources supplying their total count lazily
+	 * don't run their count query in that case.
+	 *
+	 * @return {@code true} if the total count is skipped; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isTotalCountSkipped();
+
 }
\ No newline at end of file
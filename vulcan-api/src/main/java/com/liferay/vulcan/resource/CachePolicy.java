@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.resource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how browsers and shared caches, like CDNs, may store the
+ * representations of a {@link CollectionResource}'s pages or items. The
+ * policy is sent in the {@code Cache-Control} header.
+ *
+ * <p>
+ * Public policies let shared caches store the representations, so they
+ * should only be used by routes whose representations are the same for every
+ * user. Private policies only let the user's browser store them.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are immutable and should be created with {@link
+ * #ofPrivate(long, long, TimeUnit)} or {@link #ofPublic(long, long,
+ * TimeUnit)}, and added through a {@link
+ * com.liferay.vulcan.resource.builder.RoutesBuilder}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class CachePolicy {
+
+	/**
+	 * Returns a policy that only lets the user's browser store the
+	 * representations.
+	 *
+	 * @param  maxAge the time a representation is fresh
+	 * @param  staleWhileRevalidate the time a stale representation may be
+	 *         used while it's revalidated in the background
+	 * @param  timeUnit the unit of both times
+	 * @return the private policy
+	 * @review
+	 */
+	public static CachePolicy ofPrivate(
+		long maxAge, long staleWhileRevalidate, TimeUnit timeUnit) {
+
+		return new CachePolicy(
+			_toSeconds(maxAge, timeUnit),
+			_toSeconds(staleWhileRevalidate, timeUnit), false);
+	}
+
+	/**
+	 * Returns a policy that lets browsers and shared caches store the
+	 * representations.
+	 *
+	 * @param  maxAge the time a representation is fresh
+	 * @param  staleWhileRevalidate the time a stale representation may be
+	 *         used while it's revalidated in the background
+	 * @param  timeUnit the unit of both times
+	 * @return the public policy
+	 * @review
+	 */
+	public static CachePolicy ofPublic(
+		long maxAge, long staleWhileRevalidate, TimeUnit timeUnit) {
+
+		return new CachePolicy(
+			_toSeconds(maxAge, timeUnit),
+			_toSeconds(staleWhileRevalidate, timeUnit), true);
+	}
+
+	/**
+	 * Returns the policy as a {@code Cache-Control} header value. For example,
+	 * {@code public, max-age=60, stale-while-revalidate=30}.
+	 *
+	 * @return the {@code Cache-Control} header value
+	 * @review
+	 */
+	public String asHeaderValue() {
+		StringBuilder sb = new StringBuilder();
+
+		if (_public) {
+			sb.append("public");
+		}
+		else {
+			sb.append("private");
+		}
+
+		sb.append(", max-age=");
+		sb.append(_maxAge);
+
+		if (_staleWhileRevalidate > 0) {
+			sb.append(", stale-while-revalidate=");
+			sb.append(_staleWhileRevalidate);
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the time a representation is fresh, in seconds.
+	 *
+	 * @return the time a representation is fresh, in seconds
+	 * @review
+	 */
+	public long getMaxAge() {
+		return _maxAge;
+	}
+
+	/**
+	 * Returns the time a stale representation may be used while it's
+	 * revalidated in the background, in seconds.
+	 *
+	 * @return the time a stale representation may be used, in seconds
+	 * @review
+	 */
+	public long getStaleWhileRevalidate() {
+		return _staleWhileRevalidate;
+	}
+
+	/**
+	 * Returns {@code true} if shared caches may store the representations.
+	 *
+	 * @return {@code true} if the policy is public; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isPublic() {
+		return _public;
+	}
+
+	@Override
+	public String toString() {
+		return asHeaderValue();
+	}
+
+	private CachePolicy(
+		long maxAge, long staleWhileRevalidate, boolean publicPolicy) {
+
+		_maxAge = maxAge;
+		_staleWhileRevalidate = staleWhileRevalidate;
+		_public = publicPolicy;
+	}
+
+	private static long _toSeconds(long time, TimeUnit timeUnit) {
+		if (time < 0) {
+			throw new IllegalArgumentException(
+				"Cache policy times must not be negative");
+		}
+
+		return timeUnit.toSeconds(time);
+	}
+
+	private final long _maxAge;
+	private final boolean _public;
+	private final long _staleWhileRevalidate;
+
+}
\ No newline at end of file
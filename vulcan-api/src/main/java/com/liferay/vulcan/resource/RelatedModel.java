@@ -14,6 +14,10 @@
 
 package com.liferay.vulcan.resource;
 
+import com.liferay.vulcan.resource.identifier.Identifier;
+
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -30,9 +34,82 @@ public class RelatedModel<T, S> {
 		String key, Class<S> modelClass,
 		Function<T, Optional<S>> modelFunction) {
 
+		this(key, modelClass, modelFunction, null);
+	}
+
+	/**
+	 * Creates a relation that also knows how to calculate the related model's
+	 * identifier from the model, so the related model's URL can be obtained
+	 * without retrieving the related model.
+	 *
+	 * @param key the relation's key
+	 * @param modelClass the related model's class
+	 * @param modelFunction the function that calculates the related model
+	 * @param identifierFunction the function that calculates the related
+	 *        model's identifier
+	 * @review
+	 */
+	public RelatedModel(
+		String key, Class<S> modelClass, Function<T, Optional<S>> modelFunction,
+		Function<T, Identifier> identifierFunction) {
+
+		this(key, modelClass, modelFunction, identifierFunction, null);
+	}
+
+	/**
+	 * Creates a relation that also knows how to calculate the related models
+	 * of several models at once, so the related models of a collection page
+	 * can be retrieved with a single call.
+	 *
+	 * @param key the relation's key
+	 * @param modelClass the related model's class
+	 * @param modelFunction the function that calculates the related model
+	 * @param identifierFunction the function that calculates the related
+	 *        model's identifier
+	 * @param batchFunction the function that calculates the related models of
+	 *        a collection of models
+	 * @review
+	 */
+	public RelatedModel(
+		String key, Class<S> modelClass, Function<T, Optional<S>> modelFunction,
+		Function<T, Identifier> identifierFunction,
+		Function<Collection<T>, Map<T, S>> batchFunction) {
+
 		_key = key;
 		_modelClass = modelClass;
 		_modelFunction = modelFunction;
+		_identifierFunction = identifierFunction;
+		_batchFunction = batchFunction;
+	}
+
+	/**
+	 * Returns the function you can use to retrieve the related models of a
+	 * collection of models at once. The function returns a map from each model
+	 * to its related model; models without a related model aren't present in
+	 * the map. Returns {@code null} if the relation doesn't provide one, in
+	 * which case each related model must be retrieved with {@link
+	 * #getModelFunction()}.
+	 *
+	 * @return the function that calculates the related models of a collection
+	 *         of models, or {@code null}
+	 * @review
+	 */
+	public Function<Collection<T>, Map<T, S>> getBatchFunction() {
+		return _batchFunction;
+	}
+
+	/**
+	 * Returns the function you can use to retrieve the related model's
+	 * identifier without retrieving the related model. Returns {@code null}
+	 * if the relation doesn't provide one, in which case the related model
+	 * must be retrieved with {@link #getModelFunction()}.
+	 *
+	 * @return the function that calculates the related model's identifier, or
+	 *         {@code null}
+	 * @review
+	 */
+	public Function<T, Identifier> getIdentifierFunction() {
+		return _identifierFunction;
 	}
 
 	/**
@@ -63,6 +140,8 @@ public class RelatedModel<T, S> {
 		return _modelFunction;
 	}
 
+	private final Function<Collection<T>, Map<T, S>> _batchFunction;
+	private final Function<T, Identifier> _identifierFunction;
 	private final String _key;
 	private final Class<S> _modelClass;
 	private final Function<T, Optional<S>> _modelFunction;
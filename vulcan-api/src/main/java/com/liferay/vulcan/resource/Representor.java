@@ -20,8 +20,10 @@ import com.liferay.vulcan.alias.BinaryFunction;
 import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.resource.identifier.Identifier;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -85,6 +87,16 @@ public interface Representor<T, U extends Identifier> {
 	 */
 	public List<RelatedModel<T, ?>> getLinkedRelatedModels();
 
+	/**
+	 * Returns the function used to get a model's last modification date, if
+	 * the resource declares one.
+	 *
+	 * @return the last modification date function, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Function<T, Date>> getLastModifiedFunctionOptional();
+
 	/**
 	 * Returns the links.
 	 *
@@ -131,4 +143,14 @@ public interface Representor<T, U extends Identifier> {
 	 */
 	public List<String> getTypes();
 
+	/**
+	 * Returns the function used to get a model's version, if the resource
+	 * declares one.
+	 *
+	 * @return the version function, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<Function<T, Object>> getVersionFunctionOptional();
+
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package com.liferay.vulcan.resource;
 
 import aQute.bnd.annotation.ProviderType;
 
+import com.liferay.vulcan.pagination.CollectionStream;
 import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.pagination.SingleModel;
 import com.liferay.vulcan.resource.identifier.Identifier;
@@ -26,13 +27,17 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * Holds information about the routes supported for a {@link
  * CollectionResource}.
  *
  * <p>
  * This interface's methods return functions to get the different endpoints of
- * the collection resource. You should always use a {@link
+ * the collection resource. Each function receives the current request and
+ * returns the endpoint's function for that request, so the routes can be built
+ * once and shared by every request. You should always use a {@link
  * com.liferay.vulcan.resource.builder.RoutesBuilder} to create instances of
  * this interface.
  * </p>
@@ -43,6 +48,20 @@ import java.util.function.Function;
 @ProviderType
 public interface Routes<T> {
 
+	/**
+	 * Returns the function used to stream every model of a {@link
+	 * CollectionResource} for exporting, if the endpoint was added through the
+	 * {@link com.liferay.vulcan.resource.builder.RoutesBuilder} and the
+	 * function therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to stream the models, if the function exists;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Function<HttpServletRequest,
+		Function<Identifier, CollectionStream<T>>>>
+			getCollectionStreamFunctionOptional();
+
 	/**
 	 * Returns the function used to remove a single model of a {@link
 	 * CollectionResource}, if the endpoint was added through the {@link
@@ -52,7 +71,20 @@ public interface Routes<T> {
 	 * @return the function used to remove a single model, if the function
 	 *         exists; {@code Optional#empty()} otherwise
 	 */
-	public Optional<Consumer<Path>> getDeleteSingleModelConsumerOptional();
+	public Optional<Function<HttpServletRequest, Consumer<Path>>>
+		getDeleteSingleModelConsumerOptional();
+
+	/**
+	 * Returns the cache policy of the pages of a {@link CollectionResource},
+	 * if it was added through the {@link
+	 * com.liferay.vulcan.resource.builder.RoutesBuilder}. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cache policy of the pages, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<CachePolicy> getPageCachePolicyOptional();
 
 	/**
 	 * Returns the function used to create the page of a {@link
@@ -63,8 +95,8 @@ public interface Routes<T> {
 	 * @return the function used to create the page, if the function exists;
 	 *         {@code Optional#empty()} otherwise
 	 */
-	public Optional<Function<Path, Function<Identifier, Page<T>>>>
-		getPageFunctionOptional();
+	public Optional<Function<HttpServletRequest, Function<Path,
+		Function<Identifier, Page<T>>>>> getPageFunctionOptional();
 
 	/**
 	 * Returns the function that uses a POST request to create the single model
@@ -75,8 +107,21 @@ public interface Routes<T> {
 	 * @return the function that uses a POST request to create the single model,
 	 *         if the function exists; {@code Optional#empty()} otherwise
 	 */
-	public Optional<Function<Identifier, Function<Map<String, Object>,
-		SingleModel<T>>>> getPostSingleModelFunctionOptional();
+	public Optional<Function<HttpServletRequest, Function<Identifier,
+		Function<Map<String, Object>, SingleModel<T>>>>>
+			getPostSingleModelFunctionOptional();
+
+	/**
+	 * Returns the cache policy of the single models of a {@link
+	 * CollectionResource}, if it was added through the {@link
+	 * com.liferay.vulcan.resource.builder.RoutesBuilder}. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cache policy of the single models, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<CachePolicy> getSingleModelCachePolicyOptional();
 
 	/**
 	 * Returns the function that uses a GET request to retrieve the single model
@@ -87,8 +132,8 @@ public interface Routes<T> {
 	 * @return the function that uses a GET request to retrieve the single
 	 *         model, if the function exists; {@code Optional#empty()} otherwise
 	 */
-	public Optional<Function<Path, SingleModel<T>>>
-		getSingleModelFunctionOptional();
+	public Optional<Function<HttpServletRequest,
+		Function<Path, SingleModel<T>>>> getSingleModelFunctionOptional();
 
 	/**
 	 * Returns the function used to update the single model of a {@link
@@ -99,7 +144,8 @@ public interface Routes<T> {
 	 * @return the function used to update the single model, if the function
 	 *         exists; {@code Optional#empty()} otherwise
 	 */
-	public Optional<Function<Path, Function<Map<String, Object>,
-		SingleModel<T>>>> getUpdateSingleModelFunctionOptional();
+	public Optional<Function<HttpServletRequest, Function<Path,
+		Function<Map<String, Object>, SingleModel<T>>>>>
+			getUpdateSingleModelFunctionOptional();
 
 }
\ No newline at end of file
@@ -21,7 +21,9 @@ import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.resource.Representor;
 import com.liferay.vulcan.resource.identifier.Identifier;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -49,6 +51,24 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 
 	public interface FirstStep<T, U extends Identifier> {
 
+		/**
+		 * Adds information about an embeddable related model, using a
+		 * function that returns the related models of several models at once.
+		 * When a collection page is written, the function is called once per
+		 * page instead of once per item. The function must return a map from
+		 * each model to its related model, omitting the models that don't have
+		 * one.
+		 *
+		 * @param  key the relation's name
+		 * @param  modelClass the related model's class
+		 * @param  batchFunction the function used to get the related models
+		 * @return the builder's step
+		 * @review
+		 */
+		public <S> FirstStep<T, U> addBatchEmbeddedModel(
+			String key, Class<S> modelClass,
+			Function<Collection<T>, Map<T, S>> batchFunction);
+
 		/**
 		 * Adds information about the bidirectional relation of a linked model
 		 * in the resource and a collection of {@link
@@ -110,6 +130,41 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 			String key, Class<S> modelClass,
 			Function<T, Optional<S>> modelFunction);
 
+		/**
+		 * Adds information about an embeddable related model, using a function
+		 * that returns the related model's identifier besides the one that
+		 * returns the related model. The identifier lets Vulcan build the
+		 * related model's URL without retrieving it when it isn't embedded, and
+		 * retrieve each distinct related model only once per request when it
+		 * is.
+		 *
+		 * @param  key the relation's name
+		 * @param  modelClass the related model's class
+		 * @param  modelFunction the function used to get the related model
+		 * @param  identifierFunction the function used to get the related
+		 *         model's identifier
+		 * @return the builder's step
+		 * @review
+		 */
+		public <S> FirstStep<T, U> addEmbeddedModel(
+			String key, Class<S> modelClass,
+			Function<T, Optional<S>> modelFunction,
+			Function<T, Identifier> identifierFunction);
+
+		/**
+		 * Adds the function used to get a model's last modification date.
+		 * Vulcan uses it to send {@code ETag} headers, and {@code
+		 * Last-Modified} headers for single models, and to answer conditional
+		 * requests without writing the response.
+		 *
+		 * @param  lastModifiedFunction the function used to get the last
+		 *         modification date
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T, U> addLastModified(
+			Function<T, Date> lastModifiedFunction);
+
 		/**
 		 * Adds information about a resource link.
 		 *
@@ -131,6 +186,23 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 			String key, Class<S> modelClass,
 			Function<T, Optional<S>> modelFunction);
 
+		/**
+		 * Adds information about a non-embeddable related model, using a
+		 * function that returns the related model's identifier. Unlike {@link
+		 * #addLinkedModel(String, Class, Function)}, the related model is never
+		 * retrieved, since its identifier is enough to build its URL.
+		 *
+		 * @param  key the relation's name
+		 * @param  modelClass the related model's class
+		 * @param  identifierFunction the function used to get the related
+		 *         model's identifier
+		 * @return the builder's step
+		 * @review
+		 */
+		public <S> FirstStep<T, U> addLinkedModelIdentifier(
+			String key, Class<S> modelClass,
+			Function<T, Identifier> identifierFunction);
+
 		/**
 		 * Use this method to provide information of a resource localized string
 		 * field.
@@ -184,6 +256,18 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 		 */
 		public FirstStep<T, U> addType(String type);
 
+		/**
+		 * Adds the function used to get a model's version, such as a revision
+		 * number, which must change every time the model does. Vulcan uses it
+		 * to send {@code ETag} headers, and to answer conditional requests
+		 * without writing the response.
+		 *
+		 * @param  versionFunction the function used to get the version
+		 * @return the builder's step
+		 * @review
+		 */
+		public FirstStep<T, U> addVersion(Function<T, Object> versionFunction);
+
 		/**
 		 * Constructs and returns a {@link Representor} instance with the
 		 * information provided to the builder.
@@ -33,8 +33,10 @@ import com.liferay.vulcan.function.PentaFunction;
 import com.liferay.vulcan.function.TetraFunction;
 import com.liferay.vulcan.function.TriFunction;
 import com.liferay.vulcan.function.UndecaFunction;
+import com.liferay.vulcan.pagination.CollectionStream;
 import com.liferay.vulcan.pagination.PageItems;
 import com.liferay.vulcan.pagination.Pagination;
+import com.liferay.vulcan.resource.CachePolicy;
 import com.liferay.vulcan.resource.Routes;
 import com.liferay.vulcan.resource.identifier.Identifier;
 
@@ -43,6 +45,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Creates {@link Routes} of a {@link
@@ -54,6 +57,17 @@ import java.util.function.Function;
 @SuppressWarnings("unused")
 public interface RoutesBuilder<T, U extends Identifier> {
 
+	/**
+	 * Adds the cache policy of the collection pages. Responses to the pages
+	 * will include it in their {@code Cache-Control} header.
+	 *
+	 * @param  cachePolicy the cache policy of the collection pages
+	 * @return the updated builder
+	 * @review
+	 */
+	public RoutesBuilder<T, U> addCollectionPageCachePolicy(
+		CachePolicy cachePolicy);
+
 	/**
 	 * Adds a route to a collection page function with two parameters.
 	 *
@@ -434,6 +448,17 @@ public interface RoutesBuilder<T, U extends Identifier> {
 			Class<C> cClass, Class<D> dClass, Class<E> eClass, Class<F> fClass,
 			Class<G> gClass, Class<H> hClass, Class<I> iClass);
 
+	/**
+	 * Adds the cache policy of the collection items. Responses to the single
+	 * models will include it in their {@code Cache-Control} header.
+	 *
+	 * @param  cachePolicy the cache policy of the collection items
+	 * @return the updated builder
+	 * @review
+	 */
+	public RoutesBuilder<T, U> addCollectionPageItemCachePolicy(
+		CachePolicy cachePolicy);
+
 	/**
 	 * Adds a route to a single model function with two parameters.
 	 *
@@ -890,6 +915,52 @@ public interface RoutesBuilder<T, U extends Identifier> {
 			Class<E> eClass, Class<F> fClass, Class<G> gClass, Class<H> hClass,
 			Class<I> iClass);
 
+	/**
+	 * Adds a route to a collection stream function with two parameters. The
+	 * stream contains every model of the collection, and is used to export it
+	 * in a single response (see {@link CollectionStream}).
+	 *
+	 * @param  biFunction the function that streams the collection's models
+	 * @param  identifierClass the identifier's class
+	 * @param  aClass the class of the stream function's second parameter
+	 * @return the updated builder
+	 * @review
+	 */
+	public <V extends Identifier, A> RoutesBuilder<T, U>
+		addCollectionStreamGetter(
+			BiFunction<V, A, Stream<T>> biFunction, Class<V> identifierClass,
+			Class<A> aClass);
+
+	/**
+	 * Adds a route to a collection stream function with one parameter. The
+	 * stream contains every model of the collection, and is used to export it
+	 * in a single response (see {@link CollectionStream}).
+	 *
+	 * @param  function the function that streams the collection's models
+	 * @param  identifierClass the identifier's class
+	 * @return the updated builder
+	 * @review
+	 */
+	public <V extends Identifier> RoutesBuilder<T, U> addCollectionStreamGetter(
+		Function<V, Stream<T>> function, Class<V> identifierClass);
+
+	/**
+	 * Adds a route to a collection stream function with three parameters. The
+	 * stream contains every model of the collection, and is used to export it
+	 * in a single response (see {@link CollectionStream}).
+	 *
+	 * @param  triFunction the function that streams the collection's models
+	 * @param  identifierClass the identifier's class
+	 * @param  aClass the class of the stream function's second parameter
+	 * @param  bClass the class of the stream function's third parameter
+	 * @return the updated builder
+	 * @review
+	 */
+	public <V extends Identifier, A, B> RoutesBuilder<T, U>
+		addCollectionStreamGetter(
+			TriFunction<V, A, B, Stream<T>> triFunction,
+			Class<V> identifierClass, Class<A> aClass, Class<B> bClass);
+
 	/**
 	 * Constructs the {@link Routes} instance with the information provided to
 	 * the builder.
@@ -39,4 +39,58 @@ public interface Embedded {
 	 */
 	public Predicate<String> getEmbeddedPredicate();
 
+	/**
+	 * Returns the root node of the trie formed by the embedded relation paths
+	 * selected by clients. Writers can walk it one relation key at a time as
+	 * they descend into embedded models, instead of building and testing the
+	 * dotted path of every relation.
+	 *
+	 * @return the root node of the embedded paths trie
+	 * @review
+	 */
+	public Node getRootNode();
+
+	/**
+	 * Defines a node of the embedded paths trie. Each node represents the
+	 * relation path formed by the keys leading to it from the root node.
+	 *
+	 * @review
+	 */
+	@ProviderType
+	public interface Node {
+
+		/**
+		 * Returns the node of the relation path formed by this node's path
+		 * followed by the key. If no embedded path starts with that relation
+		 * path, an empty node (not embedded, without children) is returned.
+		 *
+		 * @param  key the key of the relation
+		 * @return the child node for the key
+		 * @review
+		 */
+		public Node getChild(String key);
+
+		/**
+		 * Returns {@code true} if some embedded path continues below this node.
+		 * If it doesn't, none of the relations below this node can be
+		 * embedded.
+		 *
+		 * @return {@code true} if this node has children; {@code false}
+		 *         otherwise
+		 * @review
+		 */
+		public boolean hasChildren();
+
+		/**
+		 * Returns {@code true} if the relation path of this node must be
+		 * embedded.
+		 *
+		 * @return {@code true} if the relation must be embedded; {@code false}
+		 *         otherwise
+		 * @review
+		 */
+		public boolean isEmbedded();
+
+	}
+
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import aQute.bnd.annotation.ConsumerType;
 
 import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.identifier.Identifier;
 
 /**
  * Customizes the URIs of a resource that follows the collection pattern. For
@@ -42,6 +43,48 @@ public interface CollectionResourceURITransformer {
 	public <T> String transformBinaryURI(
 		String uri, SingleModel<T> singleModel, String binaryId);
 
+	/**
+	 * Returns {@code true} if this transformer transforms the URIs of
+	 * collection items known only by their identifier with {@link
+	 * #transformCollectionItemIdentifierURI(String, Class, Identifier)}. By
+	 * default, returns {@code false}, so those collection items are retrieved
+	 * and their URIs are transformed with {@link
+	 * #transformCollectionItemSingleResourceURI(String, SingleModel)}, like
+	 * the URIs of any other collection item.
+	 *
+	 * @return {@code true} if the transformer transforms the URIs of
+	 *         collection items known only by their identifier; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public default boolean supportsCollectionItemIdentifierURIs() {
+		return false;
+	}
+
+	/**
+	 * Returns the transformed URI of a collection item endpoint whose model
+	 * hasn't been retrieved because only its identifier is known (e.g., a
+	 * related model added with {@code addLinkedModelIdentifier}).
+	 *
+	 * <p>
+	 * Overriding this method is optional. It's only called if {@link
+	 * #supportsCollectionItemIdentifierURIs()} returns {@code true}, so
+	 * transformers that override it to link related models without retrieving
+	 * them must override that method as well.
+	 * </p>
+	 *
+	 * @param  uri the collection item's URI
+	 * @param  modelClass the collection item's model class
+	 * @param  identifier the collection item's identifier
+	 * @return the transformed URI
+	 * @review
+	 */
+	public default <T> String transformCollectionItemIdentifierURI(
+		String uri, Class<T> modelClass, Identifier identifier) {
+
+		return uri;
+	}
+
 	/**
 	 * Returns a collection item endpoint's transformed URI.
 	 *
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class InvalidationBatchTest {
+
+	@Test
+	public void testAddingAnEventIncludedByABatchedOneIgnoresIt() {
+		InvalidationBatch invalidationBatch = new InvalidationBatch(10);
+
+		invalidationBatch.add(new InvalidationEvent("people", "1"));
+
+		assertThat(
+			invalidationBatch.add(new InvalidationEvent("people")), is(false));
+		assertThat(
+			invalidationBatch.add(new InvalidationEvent("people", "1")),
+			is(false));
+
+		List<InvalidationEvent> invalidationEvents = invalidationBatch.drain();
+
+		assertThat(
+			invalidationEvents,
+			contains(new InvalidationEvent("people", "1")));
+	}
+
+	@Test
+	public void testAddingAnEventRemovesTheBatchedEventsItIncludes() {
+		InvalidationBatch invalidationBatch = new InvalidationBatch(10);
+
+		invalidationBatch.add(new InvalidationEvent("blogs"));
+		invalidationBatch.add(new InvalidationEvent("people"));
+		invalidationBatch.add(new InvalidationEvent("people", "1"));
+
+		List<InvalidationEvent> invalidationEvents = invalidationBatch.drain();
+
+		assertThat(
+			invalidationEvents,
+			contains(
+				new InvalidationEvent("blogs"),
+				new InvalidationEvent("people", "1")));
+	}
+
+	@Test
+	public void testAddingMoreEventsThanTheMaxSizeInvalidatesEverything() {
+		InvalidationBatch invalidationBatch = new InvalidationBatch(2);
+
+		invalidationBatch.add(new InvalidationEvent("people", "1"));
+		invalidationBatch.add(new InvalidationEvent("people", "2"));
+		invalidationBatch.add(new InvalidationEvent("people", "3"));
+
+		assertThat(
+			invalidationBatch.add(new InvalidationEvent("blogs")), is(false));
+
+		List<InvalidationEvent> invalidationEvents = invalidationBatch.drain();
+
+		assertThat(invalidationEvents, contains(new InvalidationEvent()));
+	}
+
+	@Test
+	public void testDrainingEmptiesTheBatch() {
+		InvalidationBatch invalidationBatch = new InvalidationBatch(10);
+
+		invalidationBatch.add(new InvalidationEvent("people", "1"));
+
+		invalidationBatch.drain();
+
+		assertThat(invalidationBatch.isEmpty(), is(true));
+	}
+
+}
\ No newline at end of file
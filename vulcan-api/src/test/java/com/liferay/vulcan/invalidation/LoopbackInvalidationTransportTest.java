@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.invalidation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class LoopbackInvalidationTransportTest {
+
+	@Test
+	public void testClosedPeersDontReceiveBatches() {
+		LoopbackInvalidationTransport loopbackInvalidationTransport =
+			new LoopbackInvalidationTransport();
+
+		LoopbackInvalidationTransport peerLoopbackInvalidationTransport =
+			loopbackInvalidationTransport.createPeer();
+
+		List<InvalidationEvent> invalidationEvents = new ArrayList<>();
+
+		peerLoopbackInvalidationTransport.open(invalidationEvents::addAll);
+
+		peerLoopbackInvalidationTransport.close();
+
+		loopbackInvalidationTransport.send(
+			Collections.singletonList(new InvalidationEvent("people")));
+
+		assertThat(invalidationEvents, is(empty()));
+	}
+
+	@Test
+	public void testSendingABatchDeliversItToThePeersButNotToTheSender() {
+		LoopbackInvalidationTransport loopbackInvalidationTransport =
+			new LoopbackInvalidationTransport();
+
+		LoopbackInvalidationTransport peerLoopbackInvalidationTransport =
+			loopbackInvalidationTransport.createPeer();
+
+		List<InvalidationEvent> invalidationEvents = new ArrayList<>();
+		List<InvalidationEvent> peerInvalidationEvents = new ArrayList<>();
+
+		loopbackInvalidationTransport.open(invalidationEvents::addAll);
+		peerLoopbackInvalidationTransport.open(peerInvalidationEvents::addAll);
+
+		loopbackInvalidationTransport.send(
+			Collections.singletonList(new InvalidationEvent("people", "1")));
+
+		assertThat(invalidationEvents, is(empty()));
+		assertThat(
+			peerInvalidationEvents,
+			contains(new InvalidationEvent("people", "1")));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.pagination;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageItemsTest {
+
+	@Test
+	public void testGettingTheItemsOfAStreamCollectsAndClosesItOnce() {
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Stream<String> stream = Stream.of("a", "b");
+
+		PageItems<String> pageItems = new PageItems<>(
+			stream.onClose(() -> closed.set(true)), () -> 2);
+
+		Collection<String> items = pageItems.getItems();
+
+		assertThat(items, contains("a", "b"));
+		assertThat(closed.get(), is(true));
+		assertThat(pageItems.getItems() == items, is(true));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.resource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CachePolicyTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxAgeThrowsException() {
+		CachePolicy.ofPublic(-1, 0, TimeUnit.SECONDS);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeStaleWhileRevalidateThrowsException() {
+		CachePolicy.ofPrivate(0, -1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testPrivatePolicyHeaderValue() {
+		CachePolicy cachePolicy = CachePolicy.ofPrivate(
+			60, 30, TimeUnit.SECONDS);
+
+		assertThat(cachePolicy.isPublic(), is(false));
+		assertThat(
+			cachePolicy.asHeaderValue(),
+			is(equalTo("private, max-age=60, stale-while-revalidate=30")));
+	}
+
+	@Test
+	public void testPublicPolicyHeaderValue() {
+		CachePolicy cachePolicy = CachePolicy.ofPublic(
+			60, 30, TimeUnit.SECONDS);
+
+		assertThat(cachePolicy.isPublic(), is(true));
+		assertThat(
+			cachePolicy.asHeaderValue(),
+			is(equalTo("public, max-age=60, stale-while-revalidate=30")));
+	}
+
+	@Test
+	public void testTimesAreConvertedToSeconds() {
+		CachePolicy cachePolicy = CachePolicy.ofPublic(
+			2, 1500, TimeUnit.MINUTES);
+
+		assertThat(cachePolicy.getMaxAge(), is(120L));
+		assertThat(cachePolicy.getStaleWhileRevalidate(), is(90000L));
+	}
+
+	@Test
+	public void testZeroStaleWhileRevalidateIsNotSent() {
+		CachePolicy cachePolicy = CachePolicy.ofPublic(1, 0, TimeUnit.HOURS);
+
+		assertThat(
+			cachePolicy.asHeaderValue(), is(equalTo("public, max-age=3600")));
+		assertThat(cachePolicy.toString(), is(cachePolicy.asHeaderValue()));
+	}
+
+}
\ No newline at end of file
@@ -18,6 +18,9 @@ import com.google.gson.JsonObject;
 
 import com.liferay.vulcan.alias.BinaryFunction;
 import com.liferay.vulcan.endpoint.RootEndpoint;
+import com.liferay.vulcan.exception.MethodNotAllowedException;
+import com.liferay.vulcan.exception.NoSuchEndpointException;
+import com.liferay.vulcan.pagination.CollectionStream;
 import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.pagination.SingleModel;
 import com.liferay.vulcan.provider.ServerURLProvider;
@@ -29,13 +32,13 @@ import com.liferay.vulcan.resource.identifier.RootIdentifier;
 import com.liferay.vulcan.result.ThrowableFunction;
 import com.liferay.vulcan.result.Try;
 import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.context.RequestContext;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
 
 import java.io.InputStream;
 
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -44,8 +47,6 @@ import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
-import javax.ws.rs.NotAllowedException;
-import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 
@@ -66,14 +67,12 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return routesTry.map(
-			Routes::getPostSingleModelFunctionOptional
+		return routesTry.flatMap(
+			routes -> _getTry(
+				routes.getPostSingleModelFunctionOptional(),
+				_getSupplierMethodNotAllowedException("POST", name))
 		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"POST method is not allowed for path " + name)
+			function -> function.apply(_httpServletRequest)
 		).map(
 			function -> function.apply(new RootIdentifier() {})
 		).map(
@@ -87,21 +86,23 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(nestedName);
 
-		return routesTry.map(
-			Routes::getPostSingleModelFunctionOptional
+		Supplier<MethodNotAllowedException>
+			supplierMethodNotAllowedException =
+				_getSupplierMethodNotAllowedException(
+					"POST", name + "/" + id + "/" + nestedName);
+
+		return routesTry.flatMap(
+			routes -> _getTry(
+				routes.getPostSingleModelFunctionOptional(),
+				supplierMethodNotAllowedException)
 		).map(
-			Optional::get
+			function -> function.apply(_httpServletRequest)
 		).flatMap(
 			_getAddNestedCollectionItemFunction(name, id, nestedName)
-		).map(
-			Optional::get
+		).flatMap(
+			optional -> _getTry(optional, supplierMethodNotAllowedException)
 		).map(
 			function -> function.apply(body)
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"POST method is not allowed for path " + name + "/" + id + "/" +
-					nestedName)
 		);
 	}
 
@@ -109,14 +110,13 @@ public class RootEndpointImpl implements RootEndpoint {
 	public Response deleteCollectionItem(String name, String id) {
 		Try<Routes<Object>> routesTry = _getRoutesTry(name);
 
-		routesTry.map(
-			Routes::getDeleteSingleModelConsumerOptional
+		routesTry.flatMap(
+			routes -> _getTry(
+				routes.getDeleteSingleModelConsumerOptional(),
+				_getSupplierMethodNotAllowedException(
+					"DELETE", name + "/" + id))
 		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"DELETE method is not allowed for path " + name + "/" + id)
+			function -> function.apply(_httpServletRequest)
 		).getUnchecked(
 		).accept(
 			new Path(name, id)
@@ -143,13 +143,12 @@ public class RootEndpointImpl implements RootEndpoint {
 				binaryFunctions -> binaryFunctions.get(binaryId)
 			);
 
-		Try<BinaryFunction<Object>> binaryFunctionTry = Try.fromFallible(
-			binaryFunctionOptional::get);
+		Try<BinaryFunction<Object>> binaryFunctionTry = _getTry(
+			binaryFunctionOptional,
+			_getSupplierNoSuchEndpointException(
+				name + "/" + id + "/" + binaryId));
 
-		return binaryFunctionTry.mapFailMatching(
-			NoSuchElementException.class,
-			_getSupplierNotFoundException(name + "/" + id + "/" + binaryId)
-		).flatMap(
+		return binaryFunctionTry.flatMap(
 			binaryFunction -> _getInputStreamTry(name, id, binaryFunction)
 		);
 	}
@@ -160,13 +159,12 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return routesTry.map(
-			Routes::getSingleModelFunctionOptional
+		return routesTry.flatMap(
+			routes -> _getTry(
+				routes.getSingleModelFunctionOptional(),
+				_getSupplierNoSuchEndpointException(name + "/" + id))
 		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			_getSupplierNotFoundException(name + "/" + id)
+			function -> function.apply(_httpServletRequest)
 		).map(
 			function -> function.apply(new Path(name, id))
 		);
@@ -176,12 +174,12 @@ public class RootEndpointImpl implements RootEndpoint {
 	public <T> Try<Page<T>> getCollectionPageTry(String name) {
 		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return routesTry.map(
-			Routes::getPageFunctionOptional
+		return routesTry.flatMap(
+			routes -> _getTry(
+				routes.getPageFunctionOptional(),
+				_getSupplierNoSuchEndpointException(name))
 		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class, _getSupplierNotFoundException(name)
+			function -> function.apply(_httpServletRequest)
 		).map(
 			function -> function.apply(new Path())
 		).map(
@@ -189,12 +187,30 @@ public class RootEndpointImpl implements RootEndpoint {
 		);
 	}
 
+	@Override
+	public <T> Try<CollectionStream<T>> getCollectionStreamTry(String name) {
+		Try<Routes<T>> routesTry = _getRoutesTry(name);
+
+		return routesTry.flatMap(
+			routes -> _getTry(
+				routes.getCollectionStreamFunctionOptional(),
+				_getSupplierNoSuchEndpointException(name))
+		).map(
+			function -> function.apply(_httpServletRequest)
+		).map(
+			function -> function.apply(new RootIdentifier() {})
+		);
+	}
+
 	@Override
 	public String getHome() {
 		List<String> rootCollectionResourceNames =
 			_collectionResourceManager.getRootCollectionResourceNames();
 
-		String serverURL = _serverURLProvider.getServerURL(_httpServletRequest);
+		RequestContext requestContext = RequestContext.getRequestContext(
+			_httpServletRequest);
+
+		String serverURL = requestContext.getServerURL(_serverURLProvider);
 
 		JsonObject resourcesJsonObject = new JsonObject();
 
@@ -222,21 +238,22 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(nestedName);
 
-		Supplier<NotFoundException> supplierNotFoundException =
-			_getSupplierNotFoundException(name + "/" + id + "/" + nestedName);
+		Supplier<NoSuchEndpointException> supplierNoSuchEndpointException =
+			_getSupplierNoSuchEndpointException(
+				name + "/" + id + "/" + nestedName);
 
-		return routesTry.map(
-			Routes::getPageFunctionOptional
+		return routesTry.flatMap(
+			routes -> _getTry(
+				routes.getPageFunctionOptional(),
+				supplierNoSuchEndpointException)
 		).map(
-			Optional::get
+			function -> function.apply(_httpServletRequest)
 		).map(
 			function -> function.apply(new Path(name, id))
 		).flatMap(
 			_getNestedCollectionPageTryFunction(name, id, nestedName)
-		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class, supplierNotFoundException
+		).flatMap(
+			optional -> _getTry(optional, supplierNoSuchEndpointException)
 		);
 	}
 
@@ -246,14 +263,12 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return routesTry.map(
-			Routes::getUpdateSingleModelFunctionOptional
+		return routesTry.flatMap(
+			routes -> _getTry(
+				routes.getUpdateSingleModelFunctionOptional(),
+				_getSupplierMethodNotAllowedException("PUT", name + "/" + id))
 		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"PUT method is not allowed for path " + name + "/" + id)
+			function -> function.apply(_httpServletRequest)
 		).map(
 			function -> function.apply(new Path(name, id))
 		).map(
@@ -353,22 +368,34 @@ public class RootEndpointImpl implements RootEndpoint {
 	}
 
 	private <T> Try<Routes<T>> _getRoutesTry(String name) {
-		Try<Optional<Routes<T>>> optionalTry = Try.success(
-			_collectionResourceManager.getRoutesOptional(
-				name, _httpServletRequest));
-
-		return optionalTry.map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotFoundException("No resource found for path " + name)
-		);
+		return _getTry(
+			_collectionResourceManager.getRoutesOptional(name),
+			() -> new NoSuchEndpointException(
+				"No resource found for path " + name));
+	}
+
+	private Supplier<MethodNotAllowedException>
+		_getSupplierMethodNotAllowedException(String method, String name) {
+
+		return () -> new MethodNotAllowedException(
+			method + " method is not allowed for path " + name);
+	}
+
+	private Supplier<NoSuchEndpointException>
+		_getSupplierNoSuchEndpointException(String name) {
+
+		return () -> new NoSuchEndpointException(
+			"No endpoint found at path " + name);
 	}
 
-	private Supplier<NotFoundException> _getSupplierNotFoundException(
-		String name) {
+	private <T> Try<T> _getTry(
+		Optional<T> optional, Supplier<? extends Exception> supplier) {
+
+		if (optional.isPresent()) {
+			return Try.success(optional.get());
+		}
 
-		return () -> new NotFoundException("No endpoint found at path " + name);
+		return Try.fail(supplier.get());
 	}
 
 	@Reference
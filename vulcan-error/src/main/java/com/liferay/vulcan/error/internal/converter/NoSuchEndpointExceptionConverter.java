@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.error.internal.converter;
+
+import static javax.ws.rs.core.Response.Status.NOT_FOUND;
+
+import com.liferay.vulcan.converter.ExceptionConverter;
+import com.liferay.vulcan.exception.NoSuchEndpointException;
+import com.liferay.vulcan.result.APIError;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Converts a {@link NoSuchEndpointException} into its {@link APIError}
+ * representation. The exception's message, which contains the path, is used
+ * as the error's description.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(immediate = true)
+public class NoSuchEndpointExceptionConverter
+	implements ExceptionConverter<NoSuchEndpointException> {
+
+	@Override
+	public APIError convert(NoSuchEndpointException exception) {
+		return new APIErrorImpl(
+			exception, "Resource not found", exception.getMessage(),
+			"not-found", NOT_FOUND.getStatusCode());
+	}
+
+}
\ No newline at end of file
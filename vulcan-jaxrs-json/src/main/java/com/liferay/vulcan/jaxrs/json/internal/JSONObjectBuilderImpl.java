@@ -40,7 +40,7 @@ public class JSONObjectBuilderImpl implements JSONObjectBuilder {
 
 	@Override
 	public FieldStep field(String name) {
-		return new FieldStepImpl(name, _jsonObject);
+		return new FieldStepImpl(name, build(), this::createArrayValueStep);
 	}
 
 	@Override
@@ -93,6 +93,18 @@ public class JSONObjectBuilderImpl implements JSONObjectBuilder {
 		return fieldStep;
 	}
 
+	/**
+	 * Returns the {@link ArrayValueStep} used to add values to a {@code
+	 * JsonArray} of this builder's tree.
+	 *
+	 * @param  jsonArray the array
+	 * @return the array value step
+	 * @review
+	 */
+	protected ArrayValueStep createArrayValueStep(JsonArray jsonArray) {
+		return new ArrayValueStepImpl(jsonArray);
+	}
+
 	public static class ArrayValueStepImpl implements ArrayValueStep {
 
 		public ArrayValueStepImpl(JsonArray jsonArray) {
@@ -160,9 +172,13 @@ public class JSONObjectBuilderImpl implements JSONObjectBuilder {
 
 	private static class FieldStepImpl implements FieldStep {
 
-		public FieldStepImpl(String name, JsonObject jsonObject) {
+		public FieldStepImpl(
+			String name, JsonObject jsonObject,
+			Function<JsonArray, ArrayValueStep> arrayValueStepFunction) {
+
 			_name = name;
 			_jsonObject = jsonObject;
+			_arrayValueStepFunction = arrayValueStepFunction;
 		}
 
 		@Override
@@ -180,7 +196,7 @@ public class JSONObjectBuilderImpl implements JSONObjectBuilder {
 
 			_jsonObject.add(_name, jsonArray);
 
-			return new ArrayValueStepImpl(jsonArray);
+			return _arrayValueStepFunction.apply(jsonArray);
 		}
 
 		@Override
@@ -203,7 +219,8 @@ public class JSONObjectBuilderImpl implements JSONObjectBuilder {
 
 			_jsonObject.add(_name, jsonObject);
 
-			return new FieldStepImpl(name, jsonObject);
+			return new FieldStepImpl(
+				name, jsonObject, _arrayValueStepFunction);
 		}
 
 		@Override
@@ -278,6 +295,8 @@ public class JSONObjectBuilderImpl implements JSONObjectBuilder {
 			_jsonObject.addProperty(_name, value);
 		}
 
+		private final Function<JsonArray, ArrayValueStep>
+			_arrayValueStepFunction;
 		private final JsonObject _jsonObject;
 		private final String _name;
 
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.Optional;
+
+/**
+ * {@link JSONObjectBuilderImpl} holding a JSON object that has already been
+ * written to a {@code String}, like a cached fragment of a response.
+ *
+ * <p>
+ * The text is only parsed if the builder's tree is requested, through {@link
+ * #build()} or by adding fields to it. Until then, {@link
+ * #getRenderedJSONOptional()} returns the text, so streaming builders can copy
+ * it to their output as is.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RenderedJSONObjectBuilderImpl extends JSONObjectBuilderImpl {
+
+	public RenderedJSONObjectBuilderImpl(String renderedJSON) {
+		_renderedJSON = renderedJSON;
+	}
+
+	@Override
+	public JsonObject build() {
+		if (_jsonObject == null) {
+			JsonParser jsonParser = new JsonParser();
+
+			JsonElement jsonElement = jsonParser.parse(_renderedJSON);
+
+			_jsonObject = jsonElement.getAsJsonObject();
+		}
+
+		return _jsonObject;
+	}
+
+	/**
+	 * Returns the JSON object's text, if the builder's tree hasn't been
+	 * requested, and so possibly modified, yet.
+	 *
+	 * @return the JSON object's text, if the tree hasn't been requested;
+	 *         {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getRenderedJSONOptional() {
+		if (_jsonObject != null) {
+			return Optional.empty();
+		}
+
+		return Optional.of(_renderedJSON);
+	}
+
+	private JsonObject _jsonObject;
+	private final String _renderedJSON;
+
+}
\ No newline at end of file
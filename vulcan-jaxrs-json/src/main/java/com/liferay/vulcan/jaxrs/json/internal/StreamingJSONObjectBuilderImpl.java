@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import com.liferay.vulcan.message.json.JSONObjectBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link JSONObjectBuilder} implementation that writes the JSON object directly
+ * to a {@code Writer}, instead of building a {@code String} with it.
+ *
+ * <p>
+ * The first array receiving objects through {@link
+ * ArrayValueStep#add(JSONObjectBuilder)} is streamed: its objects are written
+ * as soon as they are added and never stored in the builder's tree, so
+ * collection items don't accumulate in memory. The rest of the JSON object is
+ * written when {@link #close()} is called, after the streamed array's members.
+ * Objects added to any other array are stored in the tree.
+ * </p>
+ *
+ * <p>
+ * As a consequence, {@link #build()} never contains the streamed objects.
+ * Streamed objects added through a {@link RenderedJSONObjectBuilderImpl} are
+ * copied to the output without being parsed.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class StreamingJSONObjectBuilderImpl
+	extends JSONObjectBuilderImpl implements Closeable {
+
+	public StreamingJSONObjectBuilderImpl(Writer writer) {
+		_writer = writer;
+
+		_jsonWriter = new JsonWriter(writer);
+
+		_jsonWriter.setLenient(true);
+	}
+
+	/**
+	 * Writes the part of the JSON object that hasn't been streamed yet,
+	 * followed by a line separator, and closes the underlying {@code Writer}.
+	 *
+	 * @review
+	 */
+	@Override
+	public void close() throws IOException {
+		JsonObject jsonObject = build();
+
+		if (_streamedNames == null) {
+			_gson.toJson(jsonObject, _jsonWriter);
+		}
+		else {
+			_closeStreamedArray(jsonObject);
+		}
+
+		_jsonWriter.flush();
+
+		_writer.write(System.lineSeparator());
+
+		_jsonWriter.close();
+	}
+
+	@Override
+	protected ArrayValueStep createArrayValueStep(JsonArray jsonArray) {
+		return new StreamingArrayValueStep(jsonArray);
+	}
+
+	private void _closeStreamedArray(JsonObject jsonObject) throws IOException {
+		List<JsonObject> jsonObjects = new ArrayList<>();
+
+		JsonElement jsonElement = jsonObject;
+
+		for (String name : _streamedNames) {
+			if ((jsonElement == null) || !jsonElement.isJsonObject()) {
+				jsonObject = new JsonObject();
+			}
+			else {
+				jsonObject = jsonElement.getAsJsonObject();
+			}
+
+			jsonObjects.add(jsonObject);
+
+			jsonElement = jsonObject.get(name);
+		}
+
+		if ((jsonElement != null) && jsonElement.isJsonArray()) {
+			for (JsonElement element : jsonElement.getAsJsonArray()) {
+				_gson.toJson(element, _jsonWriter);
+			}
+		}
+
+		_jsonWriter.endArray();
+
+		for (int i = _streamedNames.size() - 1; i >= 0; i--) {
+			JsonObject levelJsonObject = jsonObjects.get(i);
+
+			String streamedName = _streamedNames.get(i);
+
+			Set<Map.Entry<String, JsonElement>> entries =
+				levelJsonObject.entrySet();
+
+			for (Map.Entry<String, JsonElement> entry : entries) {
+				String name = entry.getKey();
+
+				if (name.equals(streamedName)) {
+					continue;
+				}
+
+				_jsonWriter.name(name);
+
+				_gson.toJson(entry.getValue(), _jsonWriter);
+			}
+
+			_jsonWriter.endObject();
+		}
+	}
+
+	private List<String> _findNames(
+		JsonObject jsonObject, JsonArray jsonArray) {
+
+		for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+			JsonElement jsonElement = entry.getValue();
+
+			if (jsonElement == jsonArray) {
+				List<String> names = new ArrayList<>();
+
+				names.add(entry.getKey());
+
+				return names;
+			}
+
+			if (jsonElement.isJsonObject()) {
+				List<String> names = _findNames(
+					jsonElement.getAsJsonObject(), jsonArray);
+
+				if (!names.isEmpty()) {
+					names.add(0, entry.getKey());
+
+					return names;
+				}
+			}
+		}
+
+		return Collections.emptyList();
+	}
+
+	private boolean _stream(
+		JsonArray jsonArray, JSONObjectBuilder jsonObjectBuilder) {
+
+		try {
+			if (_streamedJsonArray == null) {
+				List<String> names = _findNames(build(), jsonArray);
+
+				if (names.isEmpty()) {
+					return false;
+				}
+
+				_jsonWriter.beginObject();
+
+				for (String name : names.subList(0, names.size() - 1)) {
+					_jsonWriter.name(name);
+
+					_jsonWriter.beginObject();
+				}
+
+				_jsonWriter.name(names.get(names.size() - 1));
+
+				_jsonWriter.beginArray();
+
+				_streamedJsonArray = jsonArray;
+				_streamedNames = names;
+			}
+			else if (_streamedJsonArray != jsonArray) {
+				return false;
+			}
+
+			Optional<String> optional = Optional.empty();
+
+			if (jsonObjectBuilder instanceof RenderedJSONObjectBuilderImpl) {
+				RenderedJSONObjectBuilderImpl renderedJSONObjectBuilderImpl =
+					(RenderedJSONObjectBuilderImpl)jsonObjectBuilder;
+
+				optional =
+					renderedJSONObjectBuilderImpl.getRenderedJSONOptional();
+			}
+
+			if (optional.isPresent()) {
+				_jsonWriter.jsonValue(optional.get());
+			}
+			else {
+				_gson.toJson(jsonObjectBuilder.build(), _jsonWriter);
+			}
+
+			return true;
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	private static final Gson _gson = new GsonBuilder().disableHtmlEscaping(
+	).serializeNulls(
+	).create();
+
+	private final JsonWriter _jsonWriter;
+	private JsonArray _streamedJsonArray;
+	private List<String> _streamedNames;
+	private final Writer _writer;
+
+	private class StreamingArrayValueStep extends ArrayValueStepImpl {
+
+		public StreamingArrayValueStep(JsonArray jsonArray) {
+			super(jsonArray);
+
+			_jsonArray = jsonArray;
+		}
+
+		@Override
+		public void add(JSONObjectBuilder jsonObjectBuilder) {
+			if (!_stream(_jsonArray, jsonObjectBuilder)) {
+				super.add(jsonObjectBuilder);
+			}
+		}
+
+		private final JsonArray _jsonArray;
+
+	}
+
+}
\ No newline at end of file
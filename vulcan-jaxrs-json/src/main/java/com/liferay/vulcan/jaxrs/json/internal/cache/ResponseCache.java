@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.core.HttpHeaders;
+
+/**
+ * Stores encoded response bodies of collection resources, bounded by their
+ * total size in bytes and evicting the least recently used entries first.
+ * Entries also expire after a time to live.
+ *
+ * <p>
+ * Each entry belongs to a collection resource and, if it's a single model, to
+ * one of its items. Invalidating an item removes its entries and the entries
+ * of its collection's pages. Every invalidation increases the collection's
+ * generation, so a response that started being written before the
+ * invalidation is not stored (see {@link #put(String, Entry, long)}).
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ResponseCache {
+
+	public ResponseCache(
+		long maxSize, long maxEntrySize, long timeToLive, TimeUnit timeUnit) {
+
+		_entries = new SizeBoundedLRUCache<>(
+			maxSize, entry -> entry._body.length);
+		_maxEntrySize = Math.min(maxEntrySize, maxSize);
+		_timeToLive = timeUnit.toMillis(timeToLive);
+	}
+
+	/**
+	 * Returns the entry stored with a key, if present and not expired.
+	 *
+	 * @param  key the entry's key
+	 * @return the entry, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public synchronized Optional<Entry> getEntryOptional(String key) {
+		Entry entry = _entries.get(key);
+
+		if (entry == null) {
+			return Optional.empty();
+		}
+
+		if (entry._expirationTime < System.currentTimeMillis()) {
+			_entries.remove(key);
+
+			return Optional.empty();
+		}
+
+		return Optional.of(entry);
+	}
+
+	/**
+	 * Returns the current generation of a collection resource. It must be
+	 * read before the response is calculated, and passed to {@link
+	 * #put(String, Entry, long)} when storing it. Reading the generation of
+	 * a name that has never been invalidated doesn't keep any state for it, so
+	 * requests for unknown names don't grow the cache.
+	 *
+	 * @param  name the collection resource's name
+	 * @return the collection resource's generation
+	 * @review
+	 */
+	public long getGeneration(String name) {
+		AtomicLong atomicLong = _generations.get(name);
+
+		if (atomicLong == null) {
+			return _globalGeneration.get();
+		}
+
+		return _globalGeneration.get() + atomicLong.get();
+	}
+
+	/**
+	 * Returns the maximum size of an entry's body, in bytes.
+	 *
+	 * @return the maximum size of an entry's body
+	 * @review
+	 */
+	public long getMaxEntrySize() {
+		return _maxEntrySize;
+	}
+
+	/**
+	 * Removes the entries of an item and the entries of its collection's
+	 * pages. If no item is specified, only the pages' entries are removed.
+	 *
+	 * @param  name the collection resource's name
+	 * @param  id the item's identifier, or {@code null}
+	 * @review
+	 */
+	public void invalidate(String name, String id) {
+		AtomicLong atomicLong = _generations.computeIfAbsent(
+			name, key -> new AtomicLong());
+
+		atomicLong.incrementAndGet();
+
+		synchronized (this) {
+			_entries.removeIf(
+				entry -> entry._name.equals(name) &&
+					((entry._id == null) || entry._id.equals(id)));
+		}
+	}
+
+	/**
+	 * Removes every entry.
+	 *
+	 * @review
+	 */
+	public void invalidateAll() {
+		_globalGeneration.incrementAndGet();
+
+		synchronized (this) {
+			_entries.clear();
+		}
+	}
+
+	/**
+	 * Stores an entry, unless it's bigger than the maximum entry size or its
+	 * collection resource has been invalidated since the generation was read.
+	 * The least recently used entries are evicted to make room for it.
+	 *
+	 * @param  key the entry's key
+	 * @param  entry the entry
+	 * @param  generation the collection resource's generation read before the
+	 *         response was calculated
+	 * @return {@code true} if the entry was stored; {@code false} otherwise
+	 * @review
+	 */
+	public boolean put(String key, Entry entry, long generation) {
+		if (entry._body.length > _maxEntrySize) {
+			return false;
+		}
+
+		entry._expirationTime = System.currentTimeMillis() + _timeToLive;
+
+		synchronized (this) {
+			if (getGeneration(entry._name) != generation) {
+				return false;
+			}
+
+			return _entries.put(key, entry);
+		}
+	}
+
+	private final SizeBoundedLRUCache<String, Entry> _entries;
+	private final Map<String, AtomicLong> _generations =
+		new ConcurrentHashMap<>();
+	private final AtomicLong _globalGeneration = new AtomicLong();
+	private final long _maxEntrySize;
+	private final long _timeToLive;
+
+	/**
+	 * An encoded response body, with the headers needed to send it again.
+	 *
+	 * @review
+	 */
+	public static class Entry {
+
+		public Entry(
+			String name, String id, byte[] body, String mediaType,
+			String contentEncoding, Map<String, List<String>> headers) {
+
+			_name = Objects.requireNonNull(name);
+			_id = id;
+			_body = body;
+			_mediaType = mediaType;
+			_contentEncoding = contentEncoding;
+
+			_headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+			_headers.putAll(headers);
+		}
+
+		public byte[] getBody() {
+			return _body;
+		}
+
+		public Optional<String> getContentEncodingOptional() {
+			return Optional.ofNullable(_contentEncoding);
+		}
+
+		public Optional<String> getETagOptional() {
+			List<String> values = _headers.get(HttpHeaders.ETAG);
+
+			if ((values == null) || values.isEmpty()) {
+				return Optional.empty();
+			}
+
+			return Optional.of(values.get(0));
+		}
+
+		public Map<String, List<String>> getHeaders() {
+			return Collections.unmodifiableMap(_headers);
+		}
+
+		public String getMediaType() {
+			return _mediaType;
+		}
+
+		private final byte[] _body;
+		private final String _contentEncoding;
+		private volatile long _expirationTime;
+		private final Map<String, List<String>> _headers;
+		private final String _id;
+		private final String _mediaType;
+		private final String _name;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.cache;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Stores values bounded by their total size, evicting the least recently used
+ * values first. The size of each value is calculated by a function, so values
+ * can be bounded by their length in characters, in bytes, or any other unit.
+ *
+ * <p>
+ * This class isn't thread-safe; callers must synchronize its access.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class SizeBoundedLRUCache<K, V> {
+
+	public SizeBoundedLRUCache(long maxSize, ToLongFunction<V> sizeFunction) {
+		_maxSize = maxSize;
+		_sizeFunction = sizeFunction;
+	}
+
+	/**
+	 * Removes every value.
+	 *
+	 * @review
+	 */
+	public void clear() {
+		_values.clear();
+
+		_size = 0;
+	}
+
+	/**
+	 * Returns the value stored with a key, and marks it as the most recently
+	 * used one.
+	 *
+	 * @param  key the value's key
+	 * @return the value, or {@code null} if there isn't one
+	 * @review
+	 */
+	public V get(K key) {
+		return _values.get(key);
+	}
+
+	/**
+	 * Returns the total size of the stored values.
+	 *
+	 * @return the total size of the stored values
+	 * @review
+	 */
+	public long getSize() {
+		return _size;
+	}
+
+	/**
+	 * Stores a value, replacing the previous value of its key and evicting the
+	 * least recently used values to make room for it. Values bigger than the
+	 * maximum size aren't stored.
+	 *
+	 * @param  key the value's key
+	 * @param  value the value
+	 * @return {@code true} if the value was stored; {@code false} otherwise
+	 * @review
+	 */
+	public boolean put(K key, V value) {
+		long size = _sizeFunction.applyAsLong(value);
+
+		if (size > _maxSize) {
+			return false;
+		}
+
+		V previousValue = _values.put(key, value);
+
+		if (previousValue != null) {
+			_size -= _sizeFunction.applyAsLong(previousValue);
+		}
+
+		_size += size;
+
+		Collection<V> values = _values.values();
+
+		Iterator<V> iterator = values.iterator();
+
+		while ((_size > _maxSize) && iterator.hasNext()) {
+			V eldestValue = iterator.next();
+
+			_size -= _sizeFunction.applyAsLong(eldestValue);
+
+			iterator.remove();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Removes the value stored with a key.
+	 *
+	 * @param  key the value's key
+	 * @return the removed value, or {@code null} if there wasn't one
+	 * @review
+	 */
+	public V remove(K key) {
+		V value = _values.remove(key);
+
+		if (value != null) {
+			_size -= _sizeFunction.applyAsLong(value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Removes the values that match a predicate.
+	 *
+	 * @param predicate the predicate of the values to remove
+	 * @review
+	 */
+	public void removeIf(Predicate<V> predicate) {
+		Collection<V> values = _values.values();
+
+		Iterator<V> iterator = values.iterator();
+
+		while (iterator.hasNext()) {
+			V value = iterator.next();
+
+			if (predicate.test(value)) {
+				_size -= _sizeFunction.applyAsLong(value);
+
+				iterator.remove();
+			}
+		}
+	}
+
+	private final long _maxSize;
+	private long _size;
+	private final ToLongFunction<V> _sizeFunction;
+	private final Map<K, V> _values = new LinkedHashMap<>(16, 0.75F, true);
+
+}
\ No newline at end of file
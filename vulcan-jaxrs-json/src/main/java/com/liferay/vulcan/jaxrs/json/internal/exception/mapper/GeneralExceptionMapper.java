@@ -63,7 +63,8 @@ public class GeneralExceptionMapper implements ExceptionMapper<Exception> {
 				apiError, _httpHeaders);
 
 		return responseBuilder.entity(
-			WriterHelper.writeError(errorMessageMapper, apiError, _httpHeaders)
+			_writerHelper.writeError(
+				errorMessageMapper, apiError, _httpHeaders)
 		).type(
 			errorMessageMapper.getMediaType()
 		).build();
@@ -81,4 +82,7 @@ public class GeneralExceptionMapper implements ExceptionMapper<Exception> {
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	private VulcanLogger _vulcanLogger;
 
+	@Reference
+	private WriterHelper _writerHelper;
+
 }
\ No newline at end of file
@@ -0,0 +1,412 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import com.liferay.vulcan.invalidation.InvalidationEvent;
+import com.liferay.vulcan.jaxrs.json.internal.writer.RequestSerializationPlans;
+import com.liferay.vulcan.jaxrs.json.internal.writer.WriterHelper;
+import com.liferay.vulcan.pagination.Page;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.CachePolicy;
+import com.liferay.vulcan.resource.RelatedModel;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.Routes;
+import com.liferay.vulcan.resource.identifier.Identifier;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.response.control.Fields;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Adds the {@code Cache-Control} header declared by the routes of a
+ * collection resource (see {@link Routes#getPageCachePolicyOptional()} and
+ * {@link Routes#getSingleModelCachePolicyOptional()}) to its pages and single
+ * models, so browsers and CDNs can cache them.
+ *
+ * <p>
+ * Responses to authenticated requests, which have an {@code Authorization}
+ * header or a user principal, are always sent with a private policy, since
+ * representors and links can depend on the user's permissions.
+ * </p>
+ *
+ * <p>
+ * Responses with a cache policy also vary on the {@code Accept}, {@code
+ * Accept-Language} and {@code Authorization} headers, and list their
+ * surrogate keys in the {@code Surrogate-Key} header, whose name can be
+ * changed with the {@code surrogate.key.header.name} component property. The
+ * keys are the collection's name and a {@code name/id} key for every model in
+ * the response, matching the names and IDs of the {@link InvalidationEvent}s,
+ * so a CDN can purge every cached response that contains a model. Models
+ * embedded directly in the response only have a key if their relation
+ * provides an identifier function, since the key is calculated from the
+ * identifier without retrieving the embedded model. Models embedded in other
+ * embedded models don't have keys.
+ * </p>
+ *
+ * <p>
+ * Pages are written while their items are streamed, after the headers are
+ * sent, so their items are only read here if {@link ConditionalRequestFilter}
+ * has already read them to collect their validators: if their representor
+ * declares validators (see {@link
+ * ConditionalRequestFilter#hasValidators(Representor)}) and no model is
+ * embedded. Otherwise, a page only has its collection's key, which is purged
+ * with any of its items.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.container.response.filter=true"
+)
+public class CachePolicyFilter implements ContainerResponseFilter {
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		Object value = properties.get("surrogate.key.header.name");
+
+		if (value == null) {
+			_surrogateKeyHeaderName = _SURROGATE_KEY_HEADER_NAME;
+		}
+		else {
+			_surrogateKeyHeaderName = String.valueOf(value);
+		}
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		String method = containerRequestContext.getMethod();
+
+		if (!method.equals(HttpMethod.GET) && !method.equals(HttpMethod.HEAD)) {
+			return;
+		}
+
+		int status = containerResponseContext.getStatus();
+
+		if ((status != Response.Status.OK.getStatusCode()) &&
+			(status != Response.Status.NOT_MODIFIED.getStatusCode())) {
+
+			return;
+		}
+
+		Object entity = ConditionalRequestFilter.getEntity(
+			containerRequestContext, containerResponseContext);
+
+		if (!(entity instanceof Try.Success)) {
+			return;
+		}
+
+		Try.Success<?> success = (Try.Success<?>)entity;
+
+		Object value = success.getValue();
+
+		boolean authenticated = _isAuthenticated(containerRequestContext);
+
+		Embedded.Node embeddedNode = _getEmbeddedNode();
+
+		if (value instanceof SingleModel) {
+			_writeCachePolicy(
+				(SingleModel<?>)value, authenticated, embeddedNode,
+				containerResponseContext);
+		}
+		else if (value instanceof Page) {
+			_writeCachePolicy(
+				(Page<?>)value, authenticated, embeddedNode,
+				containerResponseContext);
+		}
+	}
+
+	private static String _getSurrogateKey(Path path) {
+		return path.getName() + "/" + path.getId();
+	}
+
+	private static boolean _isAuthenticated(
+		ContainerRequestContext containerRequestContext) {
+
+		if (containerRequestContext.getHeaderString(
+				HttpHeaders.AUTHORIZATION) != null) {
+
+			return true;
+		}
+
+		SecurityContext securityContext =
+			containerRequestContext.getSecurityContext();
+
+		if ((securityContext != null) &&
+			(securityContext.getUserPrincipal() != null)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private <T> void _addSurrogateKeys(
+		SingleModel<T> singleModel, Embedded.Node embeddedNode,
+		RequestSerializationPlans requestSerializationPlans,
+		Set<String> surrogateKeys) {
+
+		Optional<Path> pathOptional = _writerHelper.getPathOptional(
+			singleModel);
+
+		pathOptional.map(
+			CachePolicyFilter::_getSurrogateKey
+		).ifPresent(
+			surrogateKeys::add
+		);
+
+		if (requestSerializationPlans == null) {
+			return;
+		}
+
+		Optional<SerializationPlan<T>> serializationPlanOptional =
+			requestSerializationPlans.getSerializationPlanOptional(
+				singleModel.getModelClass());
+
+		serializationPlanOptional.ifPresent(
+			serializationPlan -> {
+				for (RelatedModel<T, ?> relatedModel :
+						serializationPlan.getEmbeddedRelatedModels()) {
+
+					Optional<String> optional =
+						_getEmbeddedSurrogateKeyOptional(
+							relatedModel, singleModel.getModel(), embeddedNode);
+
+					optional.ifPresent(surrogateKeys::add);
+				}
+			});
+	}
+
+	private Embedded.Node _getEmbeddedNode() {
+		Optional<Embedded> optional = _providerManager.provide(
+			Embedded.class, _httpServletRequest);
+
+		return optional.map(
+			Embedded::getRootNode
+		).orElse(
+			_EMPTY_EMBEDDED_NODE
+		);
+	}
+
+	private <T, U> Optional<String> _getEmbeddedSurrogateKeyOptional(
+		RelatedModel<T, U> relatedModel, T parentModel,
+		Embedded.Node parentEmbeddedNode) {
+
+		Embedded.Node embeddedNode = parentEmbeddedNode.getChild(
+			relatedModel.getKey());
+
+		if (!embeddedNode.isEmbedded()) {
+			return Optional.empty();
+		}
+
+		Optional<Path> optional = _writerHelper.getRelatedModelPathOptional(
+			relatedModel, parentModel);
+
+		return optional.map(CachePolicyFilter::_getSurrogateKey);
+	}
+
+	private Optional<RequestSerializationPlans>
+		_getRequestSerializationPlansOptional() {
+
+		Optional<Fields> optional = _providerManager.provide(
+			Fields.class, _httpServletRequest);
+
+		return optional.map(
+			fields -> new RequestSerializationPlans(
+				_collectionResourceManager, fields));
+	}
+
+	private <T> Collection<T> _getItems(
+		Page<T> page, Embedded.Node embeddedNode) {
+
+		if (embeddedNode.hasChildren()) {
+			return Collections.emptyList();
+		}
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(
+				page.getModelClass());
+
+		if (optional.filter(
+				ConditionalRequestFilter::hasValidators
+			).isPresent()) {
+
+			return page.getItems();
+		}
+
+		return Collections.emptyList();
+	}
+
+	private <T> Optional<Routes<T>> _getRoutesOptional(Class<T> modelClass) {
+		Optional<String> optional = _collectionResourceManager.getNameOptional(
+			modelClass);
+
+		return optional.flatMap(_collectionResourceManager::getRoutesOptional);
+	}
+
+	private <T> void _writeCachePolicy(
+		Page<T> page, boolean authenticated, Embedded.Node embeddedNode,
+		ContainerResponseContext containerResponseContext) {
+
+		Class<T> modelClass = page.getModelClass();
+
+		Optional<Routes<T>> optional = _getRoutesOptional(modelClass);
+
+		optional.flatMap(
+			Routes::getPageCachePolicyOptional
+		).ifPresent(
+			cachePolicy -> _writeHeaders(
+				cachePolicy, authenticated, modelClass,
+				_getItems(page, embeddedNode), embeddedNode,
+				containerResponseContext)
+		);
+	}
+
+	private <T> void _writeCachePolicy(
+		SingleModel<T> singleModel, boolean authenticated,
+		Embedded.Node embeddedNode,
+		ContainerResponseContext containerResponseContext) {
+
+		Class<T> modelClass = singleModel.getModelClass();
+
+		Optional<Routes<T>> optional = _getRoutesOptional(modelClass);
+
+		optional.flatMap(
+			Routes::getSingleModelCachePolicyOptional
+		).ifPresent(
+			cachePolicy -> _writeHeaders(
+				cachePolicy, authenticated, modelClass,
+				Collections.singletonList(singleModel.getModel()),
+				embeddedNode, containerResponseContext)
+		);
+	}
+
+	private <T> void _writeHeaders(
+		CachePolicy cachePolicy, boolean authenticated, Class<T> modelClass,
+		Collection<T> models, Embedded.Node embeddedNode,
+		ContainerResponseContext containerResponseContext) {
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		if (authenticated && cachePolicy.isPublic()) {
+			cachePolicy = CachePolicy.ofPrivate(
+				cachePolicy.getMaxAge(), cachePolicy.getStaleWhileRevalidate(),
+				TimeUnit.SECONDS);
+		}
+
+		headers.putSingle(
+			HttpHeaders.CACHE_CONTROL, cachePolicy.asHeaderValue());
+		headers.add(HttpHeaders.VARY, _VARY_HEADER_VALUE);
+
+		Set<String> surrogateKeys = new LinkedHashSet<>();
+
+		Optional<String> nameOptional =
+			_collectionResourceManager.getNameOptional(modelClass);
+
+		nameOptional.ifPresent(surrogateKeys::add);
+
+		RequestSerializationPlans requestSerializationPlans = null;
+
+		if (embeddedNode.hasChildren() && !models.isEmpty()) {
+			Optional<RequestSerializationPlans> optional =
+				_getRequestSerializationPlansOptional();
+
+			requestSerializationPlans = optional.orElse(null);
+		}
+
+		for (T model : models) {
+			_addSurrogateKeys(
+				new SingleModel<>(model, modelClass), embeddedNode,
+				requestSerializationPlans, surrogateKeys);
+		}
+
+		if (!surrogateKeys.isEmpty()) {
+			headers.putSingle(
+				_surrogateKeyHeaderName, String.join(" ", surrogateKeys));
+		}
+	}
+
+	private static final Embedded.Node _EMPTY_EMBEDDED_NODE =
+		new Embedded.Node() {
+
+			@Override
+			public Embedded.Node getChild(String key) {
+				return this;
+			}
+
+			@Override
+			public boolean hasChildren() {
+				return false;
+			}
+
+			@Override
+			public boolean isEmbedded() {
+				return false;
+			}
+
+		};
+
+	private static final String _SURROGATE_KEY_HEADER_NAME = "Surrogate-Key";
+
+	private static final String _VARY_HEADER_VALUE =
+		HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_LANGUAGE + ", " +
+			HttpHeaders.AUTHORIZATION;
+
+	@Reference
+	private CollectionResourceManager _collectionResourceManager;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	private String _surrogateKeyHeaderName = _SURROGATE_KEY_HEADER_NAME;
+
+	@Reference
+	private WriterHelper _writerHelper;
+
+}
\ No newline at end of file
@@ -0,0 +1,399 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.util.PropertiesUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.InterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Compresses text responses with {@code gzip} or {@code deflate}, as
+ * negotiated with the request's {@code Accept-Encoding} header.
+ *
+ * <p>
+ * The filter chooses the encoding, and the interceptor compresses the entity
+ * while it's being written, so streaming writers keep streaming. Responses
+ * smaller than the {@code compression.minimum.size} component property (in
+ * bytes) are written uncompressed. Binary resources and responses that already
+ * have a {@code Content-Encoding} are never compressed. The native zlib
+ * memory used by each response is released as soon as its entity is written.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.container.response.filter=true"
+)
+public class CompressionFilter
+	implements ContainerResponseFilter, WriterInterceptor {
+
+	/**
+	 * Returns {@code true} if the entity being written is already being
+	 * compressed by this interceptor. Interceptors that run later receive the
+	 * uncompressed bytes.
+	 *
+	 * @param  interceptorContext the interceptor's context
+	 * @return {@code true} if the entity is being compressed; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public static boolean isCompressing(InterceptorContext interceptorContext) {
+		Object compressing = interceptorContext.getProperty(
+			_COMPRESSING_PROPERTY_NAME);
+
+		if (compressing == null) {
+			return false;
+		}
+
+		return true;
+	}
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_minimumSize = PropertiesUtil.getIntegerProperty(
+			properties, "compression.minimum.size", _MINIMUM_SIZE);
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		Object encoding = writerInterceptorContext.getProperty(
+			_ENCODING_PROPERTY_NAME);
+
+		if (encoding == null) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		CompressionOutputStream compressionOutputStream =
+			new CompressionOutputStream(
+				writerInterceptorContext.getOutputStream(),
+				writerInterceptorContext.getHeaders(), (String)encoding,
+				_minimumSize);
+
+		writerInterceptorContext.setOutputStream(compressionOutputStream);
+
+		writerInterceptorContext.setProperty(
+			_COMPRESSING_PROPERTY_NAME, Boolean.TRUE);
+
+		try {
+			writerInterceptorContext.proceed();
+		}
+		finally {
+			compressionOutputStream.finish();
+		}
+	}
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		if (!containerResponseContext.hasEntity() ||
+			_isBinary(containerResponseContext.getEntity())) {
+
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		if (headers.containsKey(HttpHeaders.CONTENT_ENCODING) ||
+			!_isCompressible(containerResponseContext.getMediaType())) {
+
+			return;
+		}
+
+		headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		String encoding = _getEncoding(
+			containerRequestContext.getHeaderString(
+				HttpHeaders.ACCEPT_ENCODING));
+
+		if (encoding != null) {
+			containerRequestContext.setProperty(
+				_ENCODING_PROPERTY_NAME, encoding);
+		}
+	}
+
+	private static String _getEncoding(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return null;
+		}
+
+		Map<String, Float> qualities = new HashMap<>();
+
+		for (String element : acceptEncoding.split(",")) {
+			String[] parts = element.split(";");
+
+			String coding = parts[0].trim();
+
+			float quality = 1;
+
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+
+				if (parameter.startsWith("q=")) {
+					try {
+						quality = Float.parseFloat(parameter.substring(2));
+					}
+					catch (NumberFormatException nfe) {
+						quality = 0;
+					}
+				}
+			}
+
+			qualities.put(coding.toLowerCase(), quality);
+		}
+
+		Float wildcardQuality = qualities.getOrDefault("*", 0F);
+
+		for (String encoding : _ENCODINGS) {
+			Float quality = qualities.getOrDefault(encoding, wildcardQuality);
+
+			if (quality > 0) {
+				return encoding;
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean _isBinary(Object entity) {
+		if (entity instanceof Try.Success) {
+			Try.Success<?> success = (Try.Success<?>)entity;
+
+			return success.getValue() instanceof InputStream;
+		}
+
+		return entity instanceof InputStream;
+	}
+
+	private static boolean _isCompressible(MediaType mediaType) {
+		if (mediaType == null) {
+			return false;
+		}
+
+		String type = mediaType.getType();
+
+		if (type.equals("text")) {
+			return true;
+		}
+
+		if (!type.equals("application")) {
+			return false;
+		}
+
+		String subtype = mediaType.getSubtype();
+
+		if (subtype.equals("json") || subtype.endsWith("+json") ||
+			subtype.equals("x-ndjson") || subtype.equals("xml") ||
+			subtype.endsWith("+xml")) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final String _COMPRESSING_PROPERTY_NAME =
+		CompressionFilter.class.getName() + ".compressing";
+
+	private static final String _ENCODING_PROPERTY_NAME =
+		CompressionFilter.class.getName() + ".encoding";
+
+	private static final String[] _ENCODINGS = {"gzip", "deflate"};
+
+	private static final int _MINIMUM_SIZE = 1024;
+
+	private int _minimumSize;
+
+	/**
+	 * Buffers the first bytes of an entity, and only compresses it once it
+	 * reaches the minimum size. The {@code Content-Encoding} header is added
+	 * then, before anything is written to the wrapped stream.
+	 */
+	private static class CompressionOutputStream extends OutputStream {
+
+		public CompressionOutputStream(
+			OutputStream outputStream, MultivaluedMap<String, Object> headers,
+			String encoding, int minimumSize) {
+
+			_outputStream = outputStream;
+			_headers = headers;
+			_encoding = encoding;
+			_minimumSize = minimumSize;
+
+			_byteArrayOutputStream = new ByteArrayOutputStream(
+				Math.max(minimumSize, 32));
+		}
+
+		@Override
+		public void close() throws IOException {
+			finish();
+
+			_outputStream.close();
+		}
+
+		public void finish() throws IOException {
+			if (_finished) {
+				return;
+			}
+
+			_finished = true;
+
+			if (_deflaterOutputStream != null) {
+				try {
+					_deflaterOutputStream.finish();
+
+					if (_crc32 != null) {
+						_writeGZIPTrailer();
+					}
+				}
+				finally {
+					_deflater.end();
+				}
+			}
+			else {
+				_byteArrayOutputStream.writeTo(_outputStream);
+			}
+
+			_outputStream.flush();
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (_deflaterOutputStream != null) {
+				_deflaterOutputStream.flush();
+			}
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			if (_finished) {
+				throw new IOException("Stream already finished");
+			}
+
+			if (_deflaterOutputStream != null) {
+				_writeCompressed(bytes, offset, length);
+
+				return;
+			}
+
+			_byteArrayOutputStream.write(bytes, offset, length);
+
+			if (_byteArrayOutputStream.size() >= _minimumSize) {
+				_startCompression();
+			}
+		}
+
+		@Override
+		public void write(int value) throws IOException {
+			write(new byte[] {(byte)value}, 0, 1);
+		}
+
+		private void _startCompression() throws IOException {
+			_headers.remove(HttpHeaders.CONTENT_LENGTH);
+			_headers.putSingle(HttpHeaders.CONTENT_ENCODING, _encoding);
+
+			if (_encoding.equals("gzip")) {
+				_crc32 = new CRC32();
+				_deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+
+				_outputStream.write(_GZIP_HEADER);
+			}
+			else {
+				_deflater = new Deflater();
+			}
+
+			_deflaterOutputStream = new DeflaterOutputStream(
+				_outputStream, _deflater, _BUFFER_SIZE, true);
+
+			byte[] bytes = _byteArrayOutputStream.toByteArray();
+
+			_byteArrayOutputStream = null;
+
+			_writeCompressed(bytes, 0, bytes.length);
+		}
+
+		private void _writeCompressed(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			if (_crc32 != null) {
+				_crc32.update(bytes, offset, length);
+			}
+
+			_deflaterOutputStream.write(bytes, offset, length);
+		}
+
+		private void _writeGZIPTrailer() throws IOException {
+			_writeInt((int)_crc32.getValue());
+			_writeInt((int)_deflater.getBytesRead());
+		}
+
+		private void _writeInt(int value) throws IOException {
+			_outputStream.write(value & 0xff);
+			_outputStream.write((value >> 8) & 0xff);
+			_outputStream.write((value >> 16) & 0xff);
+			_outputStream.write((value >> 24) & 0xff);
+		}
+
+		private static final int _BUFFER_SIZE = 8192;
+
+		private static final byte[] _GZIP_HEADER =
+			{(byte)0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+		private ByteArrayOutputStream _byteArrayOutputStream;
+		private CRC32 _crc32;
+		private Deflater _deflater;
+		private DeflaterOutputStream _deflaterOutputStream;
+		private final String _encoding;
+		private boolean _finished;
+		private final MultivaluedMap<String, Object> _headers;
+		private final int _minimumSize;
+		private final OutputStream _outputStream;
+
+	}
+
+}
\ No newline at end of file
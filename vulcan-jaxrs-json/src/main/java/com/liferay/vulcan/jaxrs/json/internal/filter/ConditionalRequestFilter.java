@@ -0,0 +1,493 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import com.liferay.vulcan.jaxrs.json.internal.writer.WriterHelper;
+import com.liferay.vulcan.pagination.Page;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.identifier.Identifier;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Adds an {@code ETag} header to single models and pages whose representor
+ * declares a version or last modification function (see {@link
+ * Representor#getVersionFunctionOptional()} and {@link
+ * Representor#getLastModifiedFunctionOptional()}), and answers conditional
+ * {@code GET} requests with a {@code 304} response when they still match.
+ *
+ * <p>
+ * Single models also get a {@code Last-Modified} header, and are checked
+ * against {@code If-Modified-Since}. Pages only use the {@code ETag}: the
+ * newest modification date of their items doesn't change when items are
+ * removed from the page or move to another one, so it can't tell whether a
+ * page changed.
+ * </p>
+ *
+ * <p>
+ * The filter runs before the entity is written, so not modified responses
+ * are never serialized. The {@code ETag} is weak, since it's derived from the
+ * models' versions instead of the written bytes. It covers the model, or, for
+ * pages, every item and its URL, the pagination state and the {@code Accept}
+ * and {@code Accept-Language} headers, but not the embedded models. Requests
+ * that embed related models therefore get no validators, so they never get a
+ * not modified response after an embedded model changes.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.container.response.filter=true"
+)
+public class ConditionalRequestFilter implements ContainerResponseFilter {
+
+	/**
+	 * Returns the entity of a response. If this filter replaced the response
+	 * with a not modified one, returns the entity it had before.
+	 *
+	 * @param  containerRequestContext the request's context
+	 * @param  containerResponseContext the response's context
+	 * @return the response's entity, or the entity it had before being
+	 *         replaced with a not modified response
+	 * @review
+	 */
+	public static Object getEntity(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Object entity = containerRequestContext.getProperty(
+			_NOT_MODIFIED_ENTITY_PROPERTY_NAME);
+
+		if (entity == null) {
+			return containerResponseContext.getEntity();
+		}
+
+		return entity;
+	}
+
+	/**
+	 * Returns {@code true} if the representor declares a version or last
+	 * modification function. Unless the request embeds related models, the
+	 * items of pages whose representor has them are collected by this filter
+	 * to calculate the {@code ETag}, so other filters can read the page's
+	 * items without collecting them again.
+	 *
+	 * @param  representor the representor of the model class
+	 * @return {@code true} if the representor declares validators; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public static <T> boolean hasValidators(Representor<T, ?> representor) {
+		Optional<Function<T, Object>> versionFunctionOptional =
+			representor.getVersionFunctionOptional();
+		Optional<Function<T, Date>> lastModifiedFunctionOptional =
+			representor.getLastModifiedFunctionOptional();
+
+		if (versionFunctionOptional.isPresent() ||
+			lastModifiedFunctionOptional.isPresent()) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if an {@code If-None-Match} header value matches an
+	 * entity tag, using the weak comparison.
+	 *
+	 * @param  ifNoneMatch the {@code If-None-Match} header value
+	 * @param  eTag the entity tag
+	 * @return {@code true} if the header matches the entity tag; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public static boolean matches(String ifNoneMatch, String eTag) {
+		String opaqueTag = _getOpaqueTag(eTag);
+
+		for (String candidate : ifNoneMatch.split(",")) {
+			String candidateOpaqueTag = _getOpaqueTag(candidate);
+
+			if (candidateOpaqueTag.equals("*") ||
+				candidateOpaqueTag.equals(opaqueTag)) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		String method = containerRequestContext.getMethod();
+
+		if (!method.equals(HttpMethod.GET) && !method.equals(HttpMethod.HEAD)) {
+			return;
+		}
+
+		if (containerResponseContext.getStatus() !=
+				Response.Status.OK.getStatusCode()) {
+
+			return;
+		}
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Try.Success) || _isEmbedding()) {
+			return;
+		}
+
+		Try.Success<?> success = (Try.Success<?>)entity;
+
+		Object value = success.getValue();
+
+		Optional<Validators> optional = Optional.empty();
+
+		if (value instanceof SingleModel) {
+			optional = _getValidatorsOptional(
+				(SingleModel<?>)value, containerRequestContext);
+		}
+		else if (value instanceof Page) {
+			optional = _getValidatorsOptional(
+				(Page<?>)value, containerRequestContext);
+		}
+
+		optional.ifPresent(
+			validators -> _writeValidators(
+				validators, containerRequestContext, containerResponseContext));
+	}
+
+	private static String _formatDate(long time) {
+		ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(
+			Instant.ofEpochMilli(time), ZoneOffset.UTC);
+
+		return _HTTP_DATE_FORMATTER.format(zonedDateTime);
+	}
+
+	private static String _getETag(String key) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+			byte[] bytes = messageDigest.digest(
+				key.getBytes(StandardCharsets.UTF_8));
+
+			Base64.Encoder encoder = Base64.getUrlEncoder();
+
+			return "W/\"" + encoder.withoutPadding().encodeToString(bytes) +
+				"\"";
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
+	private static String _getOpaqueTag(String eTag) {
+		String opaqueTag = eTag.trim();
+
+		if (opaqueTag.startsWith("W/")) {
+			opaqueTag = opaqueTag.substring(2);
+		}
+
+		return opaqueTag;
+	}
+
+	private static boolean _isModifiedSince(
+		String ifModifiedSince, Long lastModified) {
+
+		try {
+			Instant instant = Instant.from(
+				DateTimeFormatter.RFC_1123_DATE_TIME.parse(
+					ifModifiedSince.trim()));
+
+			if (lastModified > instant.toEpochMilli()) {
+				return true;
+			}
+
+			return false;
+		}
+		catch (DateTimeParseException dtpe) {
+			return true;
+		}
+	}
+
+	private <T> String _getPageKey(Page<T> page) {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(page.getItemsPerPage());
+		sb.append('/');
+		sb.append(page.getPageNumber());
+		sb.append('/');
+		sb.append(page.hasNext());
+
+		if (!page.isTotalCountSkipped()) {
+			sb.append('/');
+			sb.append(page.getTotalCount());
+		}
+
+		Optional<String> nextCursorOptional = page.getNextCursorOptional();
+
+		nextCursorOptional.ifPresent(
+			nextCursor -> {
+				sb.append('/');
+				sb.append(nextCursor);
+			});
+
+		return sb.toString();
+	}
+
+	private <T> Validators _getValidators(
+		Representor<T, ?> representor, Collection<T> models,
+		Function<T, String> keyFunction, String suffix,
+		boolean lastModifiedValidator,
+		ContainerRequestContext containerRequestContext) {
+
+		Function<T, Object> versionFunction =
+			representor.getVersionFunctionOptional().orElse(null);
+		Function<T, Date> lastModifiedFunction =
+			representor.getLastModifiedFunctionOptional().orElse(null);
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(
+			containerRequestContext.getHeaderString(HttpHeaders.ACCEPT));
+		sb.append('\n');
+		sb.append(
+			containerRequestContext.getHeaderString(
+				HttpHeaders.ACCEPT_LANGUAGE));
+		sb.append('\n');
+
+		Long lastModified = null;
+
+		for (T model : models) {
+			sb.append(keyFunction.apply(model));
+			sb.append(' ');
+
+			if (versionFunction != null) {
+				sb.append(versionFunction.apply(model));
+			}
+
+			sb.append(' ');
+
+			if (lastModifiedFunction != null) {
+				Date date = lastModifiedFunction.apply(model);
+
+				if (date != null) {
+					long time = date.getTime();
+
+					sb.append(time);
+
+					if ((lastModified == null) || (time > lastModified)) {
+						lastModified = time;
+					}
+				}
+			}
+
+			sb.append('\n');
+		}
+
+		sb.append(suffix);
+
+		if (!lastModifiedValidator) {
+			lastModified = null;
+		}
+		else if (lastModified != null) {
+			lastModified = (lastModified / 1000) * 1000;
+		}
+
+		return new Validators(_getETag(sb.toString()), lastModified);
+	}
+
+	private <T> Optional<Validators> _getValidatorsOptional(
+		Page<T> page, ContainerRequestContext containerRequestContext) {
+
+		Class<T> modelClass = page.getModelClass();
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(modelClass);
+
+		return optional.filter(
+			ConditionalRequestFilter::hasValidators
+		).map(
+			representor -> {
+				Collection<T> items = page.getItems();
+
+				Function<T, String> keyFunction = item -> {
+					Optional<String> urlOptional =
+						_writerHelper.getSingleURLOptional(
+							new SingleModel<>(item, modelClass),
+							_httpServletRequest);
+
+					return urlOptional.orElse("");
+				};
+
+				return _getValidators(
+					representor, items, keyFunction, _getPageKey(page), false,
+					containerRequestContext);
+			}
+		);
+	}
+
+	private <T> Optional<Validators> _getValidatorsOptional(
+		SingleModel<T> singleModel,
+		ContainerRequestContext containerRequestContext) {
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(
+				singleModel.getModelClass());
+
+		return optional.filter(
+			ConditionalRequestFilter::hasValidators
+		).map(
+			representor -> _getValidators(
+				representor, Collections.singletonList(singleModel.getModel()),
+				model -> "", "", true, containerRequestContext)
+		);
+	}
+
+	private boolean _isEmbedding() {
+		Optional<Embedded> optional = _providerManager.provide(
+			Embedded.class, _httpServletRequest);
+
+		return optional.map(
+			Embedded::getRootNode
+		).filter(
+			Embedded.Node::hasChildren
+		).isPresent();
+	}
+
+	private void _writeValidators(
+		Validators validators, ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		String eTag = validators.getETag();
+
+		headers.putSingle(HttpHeaders.ETAG, eTag);
+
+		Long lastModified = validators.getLastModified();
+
+		if (lastModified != null) {
+			headers.putSingle(
+				HttpHeaders.LAST_MODIFIED, _formatDate(lastModified));
+		}
+
+		String ifNoneMatch = containerRequestContext.getHeaderString(
+			HttpHeaders.IF_NONE_MATCH);
+		String ifModifiedSince = containerRequestContext.getHeaderString(
+			HttpHeaders.IF_MODIFIED_SINCE);
+
+		boolean notModified = false;
+
+		if (ifNoneMatch != null) {
+			notModified = matches(ifNoneMatch, eTag);
+		}
+		else if ((ifModifiedSince != null) && (lastModified != null)) {
+			notModified = !_isModifiedSince(ifModifiedSince, lastModified);
+		}
+
+		if (notModified) {
+			containerRequestContext.setProperty(
+				_NOT_MODIFIED_ENTITY_PROPERTY_NAME,
+				containerResponseContext.getEntity());
+
+			containerResponseContext.setEntity(null);
+			containerResponseContext.setStatus(
+				Response.Status.NOT_MODIFIED.getStatusCode());
+		}
+	}
+
+	private static final DateTimeFormatter _HTTP_DATE_FORMATTER =
+		DateTimeFormatter.ofPattern(
+			"EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US);
+
+	private static final String _NOT_MODIFIED_ENTITY_PROPERTY_NAME =
+		ConditionalRequestFilter.class.getName() + ".notModifiedEntity";
+
+	@Reference
+	private CollectionResourceManager _collectionResourceManager;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	@Reference
+	private WriterHelper _writerHelper;
+
+	private static class Validators {
+
+		public Validators(String eTag, Long lastModified) {
+			_eTag = eTag;
+			_lastModified = lastModified;
+		}
+
+		public String getETag() {
+			return _eTag;
+		}
+
+		public Long getLastModified() {
+			return _lastModified;
+		}
+
+		private final String _eTag;
+		private final Long _lastModified;
+
+	}
+
+}
\ No newline at end of file
@@ -78,7 +78,7 @@ public class FailureFilter implements ContainerResponseFilter {
 				_errorMessageMapperManager.getErrorMessageMapper(
 					apiError, _httpHeaders);
 
-			String result = WriterHelper.writeError(
+			String result = _writerHelper.writeError(
 				errorMessageMapper, apiError, _httpHeaders);
 
 			MultivaluedMap<String, Object> headers =
@@ -104,4 +104,7 @@ public class FailureFilter implements ContainerResponseFilter {
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	private VulcanLogger _vulcanLogger;
 
+	@Reference
+	private WriterHelper _writerHelper;
+
 }
\ No newline at end of file
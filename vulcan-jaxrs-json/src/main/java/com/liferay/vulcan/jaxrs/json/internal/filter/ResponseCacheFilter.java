@@ -0,0 +1,595 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import com.liferay.vulcan.invalidation.InvalidationBus;
+import com.liferay.vulcan.invalidation.InvalidationEvent;
+import com.liferay.vulcan.invalidation.InvalidationListener;
+import com.liferay.vulcan.jaxrs.json.internal.cache.ResponseCache;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.util.PropertiesUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.PathSegment;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Caches the encoded responses of collection pages ({@code GET /p/{name}})
+ * and single models ({@code GET /p/{name}/{id}}), so repeated requests skip
+ * the routes, the providers and the serialization.
+ *
+ * <p>
+ * The cache is disabled unless the {@code response.cache.max.size} component
+ * property sets its capacity in bytes. Bodies bigger than {@code
+ * response.cache.max.entry.size} are never stored, and entries expire after
+ * {@code response.cache.time.to.live} seconds, so changes in embedded models
+ * are eventually visible.
+ * </p>
+ *
+ * <p>
+ * Entries are keyed by the request URI, which includes the pagination and the
+ * {@code fields} and {@code embedded} parameters, by the {@code Accept},
+ * {@code Accept-Language} and {@code Accept-Encoding} headers, by a SHA-256
+ * digest of the {@code Authorization} header, so credentials are never kept
+ * in memory, and by the request's remote user. Successful {@code POST},
+ * {@code PUT}, {@code PATCH} and {@code DELETE} requests publish an {@link
+ * InvalidationEvent} for the collection's pages and, if an item is modified,
+ * for that item. Other methods, like {@code HEAD} or {@code OPTIONS}, never
+ * invalidate entries. The cache removes the entries made stale by the events
+ * published in any node of the cluster (see {@link InvalidationBus}).
+ * </p>
+ *
+ * <p>
+ * Cached responses are sent again with the headers they were stored with,
+ * like their validators and their cache policy (see {@link
+ * CachePolicyFilter}).
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.container.response.filter=true"
+)
+public class ResponseCacheFilter
+	implements ContainerRequestFilter, ContainerResponseFilter,
+			   InvalidationListener, WriterInterceptor {
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		long maxSize = PropertiesUtil.getLongProperty(
+			properties, "response.cache.max.size", 0);
+
+		if (maxSize <= 0) {
+			_responseCache = null;
+
+			return;
+		}
+
+		long maxEntrySize = PropertiesUtil.getLongProperty(
+			properties, "response.cache.max.entry.size", _MAX_ENTRY_SIZE);
+		long timeToLive = PropertiesUtil.getLongProperty(
+			properties, "response.cache.time.to.live", _TIME_TO_LIVE);
+
+		_responseCache = new ResponseCache(
+			maxSize, maxEntrySize, timeToLive, TimeUnit.SECONDS);
+	}
+
+	@Override
+	public void aroundWriteTo(WriterInterceptorContext writerInterceptorContext)
+		throws IOException {
+
+		CacheableRequest cacheableRequest =
+			(CacheableRequest)writerInterceptorContext.getProperty(
+				_CACHEABLE_REQUEST_PROPERTY_NAME);
+
+		if ((cacheableRequest == null) || (_responseCache == null)) {
+			writerInterceptorContext.proceed();
+
+			return;
+		}
+
+		boolean compressing = CompressionFilter.isCompressing(
+			writerInterceptorContext);
+
+		RecordingOutputStream recordingOutputStream =
+			new RecordingOutputStream(
+				writerInterceptorContext.getOutputStream(),
+				_responseCache.getMaxEntrySize());
+
+		writerInterceptorContext.setOutputStream(recordingOutputStream);
+
+		writerInterceptorContext.proceed();
+
+		Optional<byte[]> optional = recordingOutputStream.getBytesOptional();
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		MultivaluedMap<String, Object> headers =
+			writerInterceptorContext.getHeaders();
+
+		String contentEncoding = null;
+
+		if (!compressing) {
+			contentEncoding = _getHeader(headers, HttpHeaders.CONTENT_ENCODING);
+		}
+
+		ResponseCache.Entry entry = new ResponseCache.Entry(
+			cacheableRequest._name, cacheableRequest._id, optional.get(),
+			String.valueOf(writerInterceptorContext.getMediaType()),
+			contentEncoding, _getReplayedHeaders(headers));
+
+		_responseCache.put(
+			cacheableRequest._key, entry, cacheableRequest._generation);
+	}
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		ResponseCache responseCache = _responseCache;
+
+		if ((responseCache == null) ||
+			!HttpMethod.GET.equals(containerRequestContext.getMethod())) {
+
+			return;
+		}
+
+		List<PathSegment> pathSegments = _getPathSegments(
+			containerRequestContext);
+
+		if ((pathSegments.size() < 2) || (pathSegments.size() > 3)) {
+			return;
+		}
+
+		String key = _getKey(containerRequestContext);
+
+		Optional<ResponseCache.Entry> optional =
+			responseCache.getEntryOptional(key);
+
+		if (optional.isPresent()) {
+			containerRequestContext.abortWith(
+				_getResponse(optional.get(), containerRequestContext));
+
+			return;
+		}
+
+		String name = _getPath(pathSegments, 1);
+
+		CacheableRequest cacheableRequest = new CacheableRequest(
+			key, name, _getPath(pathSegments, 2),
+			responseCache.getGeneration(name));
+
+		containerRequestContext.setProperty(
+			_CACHEABLE_REQUEST_PROPERTY_NAME, cacheableRequest);
+	}
+
+	@Override
+	public void filter(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		String method = containerRequestContext.getMethod();
+
+		if (_isInvalidatingMethod(method)) {
+			_publishInvalidationEvent(
+				method, containerRequestContext, containerResponseContext);
+
+			return;
+		}
+
+		if (!HttpMethod.GET.equals(method) || (_responseCache == null)) {
+			return;
+		}
+
+		if ((containerResponseContext.getStatus() !=
+				Response.Status.OK.getStatusCode()) ||
+			!(containerResponseContext.getEntity() instanceof Try.Success)) {
+
+			containerRequestContext.removeProperty(
+				_CACHEABLE_REQUEST_PROPERTY_NAME);
+		}
+	}
+
+	@Override
+	public void onInvalidation(List<InvalidationEvent> invalidationEvents) {
+		ResponseCache responseCache = _responseCache;
+
+		if (responseCache == null) {
+			return;
+		}
+
+		for (InvalidationEvent invalidationEvent : invalidationEvents) {
+			Optional<String> nameOptional = invalidationEvent.getNameOptional();
+
+			if (!nameOptional.isPresent()) {
+				responseCache.invalidateAll();
+
+				continue;
+			}
+
+			Optional<String> idOptional = invalidationEvent.getIdOptional();
+
+			responseCache.invalidate(
+				nameOptional.get(), idOptional.orElse(null));
+		}
+	}
+
+	private static String _getDigest(String value) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+			byte[] bytes = messageDigest.digest(
+				value.getBytes(StandardCharsets.UTF_8));
+
+			Base64.Encoder encoder = Base64.getUrlEncoder();
+
+			return encoder.withoutPadding().encodeToString(bytes);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
+	private static String _getHeader(
+		MultivaluedMap<String, Object> headers, String name) {
+
+		Object value = headers.getFirst(name);
+
+		if (value == null) {
+			return null;
+		}
+
+		return String.valueOf(value);
+	}
+
+	private static String _getKey(
+		ContainerRequestContext containerRequestContext) {
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(uriInfo.getRequestUri());
+
+		for (String headerName : _KEY_HEADER_NAMES) {
+			sb.append('\n');
+			sb.append(containerRequestContext.getHeaderString(headerName));
+		}
+
+		String authorization = containerRequestContext.getHeaderString(
+			HttpHeaders.AUTHORIZATION);
+
+		if (authorization != null) {
+			sb.append('\n');
+			sb.append(_getDigest(authorization));
+		}
+
+		SecurityContext securityContext =
+			containerRequestContext.getSecurityContext();
+
+		Principal principal = securityContext.getUserPrincipal();
+
+		if (principal != null) {
+			sb.append('\n');
+			sb.append(principal.getName());
+		}
+
+		return sb.toString();
+	}
+
+	private static String _getPath(List<PathSegment> pathSegments, int index) {
+		if (index >= pathSegments.size()) {
+			return null;
+		}
+
+		PathSegment pathSegment = pathSegments.get(index);
+
+		return pathSegment.getPath();
+	}
+
+	private static List<PathSegment> _getPathSegments(
+		ContainerRequestContext containerRequestContext) {
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		List<PathSegment> pathSegments = uriInfo.getPathSegments();
+
+		while (!pathSegments.isEmpty()) {
+			PathSegment pathSegment = pathSegments.get(0);
+
+			if (!pathSegment.getPath().isEmpty()) {
+				break;
+			}
+
+			pathSegments = pathSegments.subList(1, pathSegments.size());
+		}
+
+		if (pathSegments.isEmpty() ||
+			!"p".equals(_getPath(pathSegments, 0))) {
+
+			return pathSegments.subList(0, 0);
+		}
+
+		return pathSegments;
+	}
+
+	private static Map<String, List<String>> _getReplayedHeaders(
+		MultivaluedMap<String, Object> headers) {
+
+		Map<String, List<String>> replayedHeaders = new HashMap<>();
+
+		for (Map.Entry<String, List<Object>> entry : headers.entrySet()) {
+			String name = entry.getKey();
+
+			if (_isNotReplayedHeader(name)) {
+				continue;
+			}
+
+			List<String> values = new ArrayList<>();
+
+			for (Object value : entry.getValue()) {
+				String string = String.valueOf(value);
+
+				if (name.equalsIgnoreCase(HttpHeaders.VARY) &&
+					string.equalsIgnoreCase(HttpHeaders.ACCEPT_ENCODING)) {
+
+					continue;
+				}
+
+				values.add(string);
+			}
+
+			if (!values.isEmpty()) {
+				replayedHeaders.put(name, values);
+			}
+		}
+
+		return replayedHeaders;
+	}
+
+	private static Response _getResponse(
+		ResponseCache.Entry entry,
+		ContainerRequestContext containerRequestContext) {
+
+		Optional<String> eTagOptional = entry.getETagOptional();
+
+		String ifNoneMatch = containerRequestContext.getHeaderString(
+			HttpHeaders.IF_NONE_MATCH);
+
+		Response.ResponseBuilder responseBuilder;
+
+		if ((ifNoneMatch != null) && eTagOptional.isPresent() &&
+			ConditionalRequestFilter.matches(
+				ifNoneMatch, eTagOptional.get())) {
+
+			responseBuilder = Response.notModified();
+		}
+		else {
+			responseBuilder = Response.ok(
+				entry.getBody(), entry.getMediaType());
+
+			Optional<String> contentEncodingOptional =
+				entry.getContentEncodingOptional();
+
+			if (contentEncodingOptional.isPresent()) {
+				responseBuilder.header(
+					HttpHeaders.CONTENT_ENCODING,
+					contentEncodingOptional.get());
+				responseBuilder.header(
+					HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			}
+		}
+
+		Map<String, List<String>> headers = entry.getHeaders();
+
+		headers.forEach(
+			(name, values) -> values.forEach(
+				value -> responseBuilder.header(name, value)));
+
+		return responseBuilder.build();
+	}
+
+	private static boolean _isInvalidatingMethod(String method) {
+		for (String invalidatingMethod : _INVALIDATING_METHODS) {
+			if (invalidatingMethod.equals(method)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean _isNotReplayedHeader(String name) {
+		for (String notReplayedHeaderName : _NOT_REPLAYED_HEADER_NAMES) {
+			if (notReplayedHeaderName.equalsIgnoreCase(name)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void _publishInvalidationEvent(
+		String method, ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext) {
+
+		Response.StatusType statusType =
+			containerResponseContext.getStatusInfo();
+
+		if (statusType.getFamily() != Response.Status.Family.SUCCESSFUL) {
+			return;
+		}
+
+		List<PathSegment> pathSegments = _getPathSegments(
+			containerRequestContext);
+
+		String name = _getPath(pathSegments, 1);
+
+		if (name == null) {
+			return;
+		}
+
+		if (pathSegments.size() > 3) {
+			_invalidationBus.publish(new InvalidationEvent());
+		}
+		else if (HttpMethod.POST.equals(method)) {
+			_invalidationBus.publish(new InvalidationEvent(name));
+		}
+		else {
+			_invalidationBus.publish(
+				new InvalidationEvent(name, _getPath(pathSegments, 2)));
+		}
+	}
+
+	private static final String _CACHEABLE_REQUEST_PROPERTY_NAME =
+		ResponseCacheFilter.class.getName() + ".cacheableRequest";
+
+	private static final String[] _INVALIDATING_METHODS = {
+		HttpMethod.DELETE, "PATCH", HttpMethod.POST, HttpMethod.PUT
+	};
+
+	private static final String[] _KEY_HEADER_NAMES = {
+		HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING,
+		HttpHeaders.ACCEPT_LANGUAGE
+	};
+
+	private static final long _MAX_ENTRY_SIZE = 1024 * 1024;
+
+	private static final String[] _NOT_REPLAYED_HEADER_NAMES = {
+		HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_LENGTH,
+		HttpHeaders.CONTENT_TYPE, HttpHeaders.SET_COOKIE
+	};
+
+	private static final long _TIME_TO_LIVE = 60;
+
+	@Reference
+	private InvalidationBus _invalidationBus;
+
+	private volatile ResponseCache _responseCache;
+
+	private static class CacheableRequest {
+
+		public CacheableRequest(
+			String key, String name, String id, long generation) {
+
+			_key = key;
+			_name = name;
+			_id = id;
+			_generation = generation;
+		}
+
+		private final long _generation;
+		private final String _id;
+		private final String _key;
+		private final String _name;
+
+	}
+
+	/**
+	 * Copies the bytes written to the wrapped stream, until they exceed the
+	 * maximum entry size.
+	 */
+	private static class RecordingOutputStream extends OutputStream {
+
+		public RecordingOutputStream(
+			OutputStream outputStream, long maxEntrySize) {
+
+			_outputStream = outputStream;
+			_maxEntrySize = maxEntrySize;
+		}
+
+		@Override
+		public void close() throws IOException {
+			_outputStream.close();
+		}
+
+		@Override
+		public void flush() throws IOException {
+			_outputStream.flush();
+		}
+
+		public Optional<byte[]> getBytesOptional() {
+			if (_byteArrayOutputStream == null) {
+				return Optional.empty();
+			}
+
+			return Optional.of(_byteArrayOutputStream.toByteArray());
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			_outputStream.write(bytes, offset, length);
+
+			if (_byteArrayOutputStream == null) {
+				return;
+			}
+
+			if ((_byteArrayOutputStream.size() + length) > _maxEntrySize) {
+				_byteArrayOutputStream = null;
+
+				return;
+			}
+
+			_byteArrayOutputStream.write(bytes, offset, length);
+		}
+
+		@Override
+		public void write(int value) throws IOException {
+			write(new byte[] {(byte)value}, 0, 1);
+		}
+
+		private ByteArrayOutputStream _byteArrayOutputStream =
+			new ByteArrayOutputStream();
+		private final long _maxEntrySize;
+		private final OutputStream _outputStream;
+
+	}
+
+}
\ No newline at end of file
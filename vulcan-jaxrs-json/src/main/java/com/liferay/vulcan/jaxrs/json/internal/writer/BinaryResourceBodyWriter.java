@@ -59,9 +59,9 @@ public class BinaryResourceBodyWriter
 		Try<Class<Object>> classTry =
 			GenericUtil.getFirstGenericTypeArgumentTry(genericType);
 
-		return classTry.filter(
-			InputStream.class::equals
-		).isSuccess();
+		Class<Object> typeArgumentClass = classTry.orElse(null);
+
+		return InputStream.class.equals(typeArgumentClass);
 	}
 
 	@Override
@@ -0,0 +1,357 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.google.gson.stream.JsonWriter;
+
+import com.liferay.vulcan.error.VulcanDeveloperError.MustHaveProvider;
+import com.liferay.vulcan.language.Language;
+import com.liferay.vulcan.pagination.CollectionStream;
+import com.liferay.vulcan.response.control.Fields;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Gives Vulcan the ability to export whole collections, written as they are
+ * read from a {@link CollectionStream}. Each model is written either as a line
+ * of newline-delimited JSON or as a CSV row, using the fields selected by the
+ * request's {@link Fields}.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.message.body.writer=true"
+)
+@Produces({"application/x-ndjson", "text/csv"})
+@Provider
+public class CollectionStreamMessageBodyWriter<T>
+	implements MessageBodyWriter<Try.Success<CollectionStream<T>>> {
+
+	@Override
+	public long getSize(
+		Try.Success<CollectionStream<T>> success, Class<?> clazz,
+		Type genericType, Annotation[] annotations, MediaType mediaType) {
+
+		return -1;
+	}
+
+	@Override
+	public boolean isWriteable(
+		Class<?> clazz, Type genericType, Annotation[] annotations,
+		MediaType mediaType) {
+
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentTry(genericType);
+
+		Class<Object> typeArgumentClass = classTry.orElse(null);
+
+		return CollectionStream.class.equals(typeArgumentClass);
+	}
+
+	@Override
+	public void writeTo(
+			Try.Success<CollectionStream<T>> success, Class<?> clazz,
+			Type genericType, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream entityStream)
+		throws IOException, WebApplicationException {
+
+		CollectionStream<T> collectionStream = success.getValue();
+
+		Optional<Fields> fieldsOptional = _providerManager.provide(
+			Fields.class, _httpServletRequest);
+
+		Fields fields = fieldsOptional.orElseThrow(
+			() -> new MustHaveProvider(Fields.class));
+
+		Optional<Language> languageOptional = _providerManager.provide(
+			Language.class, _httpServletRequest);
+
+		Language language = languageOptional.orElseThrow(
+			() -> new MustHaveProvider(Language.class));
+
+		RequestSerializationPlans requestSerializationPlans =
+			new RequestSerializationPlans(_collectionResourceManager, fields);
+
+		Optional<SerializationPlan<T>> serializationPlanOptional =
+			requestSerializationPlans.getSerializationPlanOptional(
+				collectionStream.getModelClass());
+
+		Writer writer = new BufferedWriter(
+			new OutputStreamWriter(entityStream, StandardCharsets.UTF_8));
+
+		try (Stream<T> stream = collectionStream.getStream()) {
+			if (!serializationPlanOptional.isPresent()) {
+				writer.flush();
+
+				return;
+			}
+
+			SerializationPlan<T> serializationPlan =
+				serializationPlanOptional.get();
+
+			if (_CSV_MEDIA_TYPE.isCompatible(mediaType)) {
+				_writeCSV(writer, stream, serializationPlan, language);
+			}
+			else {
+				_writeNDJSON(writer, stream, serializationPlan, language);
+			}
+
+			writer.flush();
+		}
+	}
+
+	private static String _escapeCSVValue(Object value) {
+		if (value == null) {
+			return "";
+		}
+
+		String string = String.valueOf(value);
+
+		if ((string.indexOf(',') == -1) && (string.indexOf('"') == -1) &&
+			(string.indexOf('\n') == -1) && (string.indexOf('\r') == -1)) {
+
+			return string;
+		}
+
+		return "\"" + string.replace("\"", "\"\"") + "\"";
+	}
+
+	private static <T> List<Function<T, Object>> _getCSVColumnFunctions(
+		SerializationPlan<T> serializationPlan, Language language) {
+
+		List<Function<T, Object>> functions = new ArrayList<>();
+
+		for (Function<T, Boolean> function :
+				serializationPlan.getBooleanFunctions()) {
+
+			functions.add(function::apply);
+		}
+
+		for (BiFunction<T, Language, String> biFunction :
+				serializationPlan.getLocalizedStringFunctions()) {
+
+			functions.add(model -> biFunction.apply(model, language));
+		}
+
+		for (Function<T, Number> function :
+				serializationPlan.getNumberFunctions()) {
+
+			functions.add(function::apply);
+		}
+
+		for (Function<T, String> function :
+				serializationPlan.getStringFunctions()) {
+
+			functions.add(function::apply);
+		}
+
+		return functions;
+	}
+
+	private static <T> List<String> _getCSVColumnNames(
+		SerializationPlan<T> serializationPlan) {
+
+		List<String> names = new ArrayList<>();
+
+		for (String key : serializationPlan.getBooleanKeys()) {
+			names.add(key);
+		}
+
+		for (String key : serializationPlan.getLocalizedStringKeys()) {
+			names.add(key);
+		}
+
+		for (String key : serializationPlan.getNumberKeys()) {
+			names.add(key);
+		}
+
+		for (String key : serializationPlan.getStringKeys()) {
+			names.add(key);
+		}
+
+		return names;
+	}
+
+	private static void _writeCSVRow(Writer writer, List<?> values)
+		throws IOException {
+
+		Iterator<?> iterator = values.iterator();
+
+		while (iterator.hasNext()) {
+			writer.write(_escapeCSVValue(iterator.next()));
+
+			if (iterator.hasNext()) {
+				writer.write(',');
+			}
+		}
+
+		writer.write("\r\n");
+	}
+
+	private void _writeCSV(
+			Writer writer, Stream<T> stream,
+			SerializationPlan<T> serializationPlan, Language language)
+		throws IOException {
+
+		_writeCSVRow(writer, _getCSVColumnNames(serializationPlan));
+
+		List<Function<T, Object>> functions = _getCSVColumnFunctions(
+			serializationPlan, language);
+
+		Iterator<T> iterator = stream.iterator();
+
+		int count = 0;
+
+		while (iterator.hasNext()) {
+			T model = iterator.next();
+
+			List<Object> values = new ArrayList<>(functions.size());
+
+			for (Function<T, Object> function : functions) {
+				values.add(function.apply(model));
+			}
+
+			_writeCSVRow(writer, values);
+
+			if ((++count % _FLUSH_BATCH_SIZE) == 0) {
+				writer.flush();
+			}
+		}
+	}
+
+	private void _writeJSONField(
+		JsonWriter jsonWriter, String field, JSONValueWriter jsonValueWriter) {
+
+		try {
+			jsonWriter.name(field);
+
+			jsonValueWriter.write();
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	private void _writeNDJSON(
+			Writer writer, Stream<T> stream,
+			SerializationPlan<T> serializationPlan, Language language)
+		throws IOException {
+
+		JsonWriter jsonWriter = new JsonWriter(writer);
+
+		jsonWriter.setLenient(true);
+
+		Iterator<T> iterator = stream.iterator();
+
+		int count = 0;
+
+		while (iterator.hasNext()) {
+			T model = iterator.next();
+
+			jsonWriter.beginObject();
+
+			_writerHelper.writeBooleanFields(
+				model, serializationPlan,
+				(field, value) -> _writeJSONField(
+					jsonWriter, field, () -> jsonWriter.value(value)));
+
+			_writerHelper.writeLocalizedStringFields(
+				model, serializationPlan, language,
+				(field, value) -> _writeJSONField(
+					jsonWriter, field, () -> jsonWriter.value(value)));
+
+			_writerHelper.writeNumberFields(
+				model, serializationPlan,
+				(field, value) -> _writeJSONField(
+					jsonWriter, field, () -> jsonWriter.value(value)));
+
+			_writerHelper.writeStringFields(
+				model, serializationPlan,
+				(field, value) -> _writeJSONField(
+					jsonWriter, field, () -> jsonWriter.value(value)));
+
+			jsonWriter.endObject();
+
+			writer.write('\n');
+
+			if ((++count % _FLUSH_BATCH_SIZE) == 0) {
+				writer.flush();
+			}
+		}
+	}
+
+	private static final MediaType _CSV_MEDIA_TYPE = new MediaType(
+		"text", "csv");
+
+	private static final int _FLUSH_BATCH_SIZE = 100;
+
+	@Reference
+	private CollectionResourceManager _collectionResourceManager;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	@Reference
+	private WriterHelper _writerHelper;
+
+	@FunctionalInterface
+	private interface JSONValueWriter {
+
+		public void write() throws IOException;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Wraps a request so its attributes can be read and written from threads
+ * other than the one handling the request. The attributes are copied when the
+ * wrapper is created, and later changes are only visible through the wrapper.
+ *
+ * <p>
+ * Request objects injected with {@code @Context} are usually bound to the
+ * thread handling the request, so this wrapper must be created on that
+ * thread. Every other method is still delegated to the wrapped request.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class DetachedHttpServletRequest extends HttpServletRequestWrapper {
+
+	public DetachedHttpServletRequest(HttpServletRequest httpServletRequest) {
+		super(httpServletRequest);
+
+		Enumeration<String> attributeNames =
+			httpServletRequest.getAttributeNames();
+
+		while (attributeNames.hasMoreElements()) {
+			String attributeName = attributeNames.nextElement();
+
+			Object attribute = httpServletRequest.getAttribute(attributeName);
+
+			if (attribute != null) {
+				_attributes.put(attributeName, attribute);
+			}
+		}
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return _attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(_attributes.keySet());
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		_attributes.remove(name);
+	}
+
+	@Override
+	public void setAttribute(String name, Object object) {
+		if (object == null) {
+			_attributes.remove(name);
+		}
+		else {
+			_attributes.put(name, object);
+		}
+	}
+
+	private final Map<String, Object> _attributes = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Provides methods for waiting on the tasks used to write a response in
+ * parallel.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class FutureUtil {
+
+	/**
+	 * Waits for a future to complete and returns its result. If the future
+	 * completed exceptionally, its original exception is rethrown, instead of
+	 * the {@code CompletionException} wrapping it, so it can be mapped to an
+	 * error response.
+	 *
+	 * @param  completableFuture the future
+	 * @return the future's result
+	 * @review
+	 */
+	public static <T> T join(CompletableFuture<T> completableFuture) {
+		try {
+			return completableFuture.join();
+		}
+		catch (CompletionException ce) {
+			Throwable throwable = ce.getCause();
+
+			if (throwable instanceof RuntimeException) {
+				throw (RuntimeException)throwable;
+			}
+
+			if (throwable instanceof Error) {
+				throw (Error)throwable;
+			}
+
+			throw ce;
+		}
+	}
+
+}
\ No newline at end of file
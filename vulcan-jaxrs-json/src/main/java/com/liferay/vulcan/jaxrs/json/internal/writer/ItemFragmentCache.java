@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.liferay.vulcan.jaxrs.json.internal.cache.SizeBoundedLRUCache;
+import com.liferay.vulcan.wiring.osgi.util.PropertiesUtil;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Stores the JSON fragments of rendered items, so the message body writers can
+ * reuse them across requests instead of running the item's representor
+ * functions again. Fragments are keyed by {@link ItemFragments}, and bounded
+ * by their total length in characters, evicting the least recently used ones
+ * first.
+ *
+ * <p>
+ * The cache is disabled unless the {@code item.fragment.cache.max.size}
+ * component property sets its capacity.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(immediate = true, service = ItemFragmentCache.class)
+public class ItemFragmentCache {
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		long maxSize = PropertiesUtil.getLongProperty(
+			properties, "item.fragment.cache.max.size", 0);
+
+		synchronized (this) {
+			_maxSize = Math.max(maxSize, 0);
+
+			_fragments = new SizeBoundedLRUCache<>(_maxSize, String::length);
+		}
+	}
+
+	/**
+	 * Returns the fragment stored with a key, if present.
+	 *
+	 * @param  key the fragment's key
+	 * @return the fragment, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public synchronized Optional<String> getFragmentOptional(String key) {
+		return Optional.ofNullable(_fragments.get(key));
+	}
+
+	/**
+	 * Returns {@code true} if fragments can be stored in the cache.
+	 *
+	 * @return {@code true} if the cache is enabled; {@code false} otherwise
+	 * @review
+	 */
+	public synchronized boolean isEnabled() {
+		return _maxSize > 0;
+	}
+
+	/**
+	 * Stores a fragment, evicting the least recently used fragments to make
+	 * room for it. Fragments longer than the cache's capacity aren't stored.
+	 *
+	 * @param  key the fragment's key
+	 * @param  fragment the fragment
+	 * @review
+	 */
+	public synchronized void putFragment(String key, String fragment) {
+		_fragments.put(key, fragment);
+	}
+
+	private SizeBoundedLRUCache<String, String> _fragments;
+	private long _maxSize;
+
+}
\ No newline at end of file
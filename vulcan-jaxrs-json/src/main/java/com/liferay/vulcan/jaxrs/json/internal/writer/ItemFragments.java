@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import com.liferay.vulcan.language.Language;
+import com.liferay.vulcan.message.json.JSONObjectBuilder;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.RelatedCollection;
+import com.liferay.vulcan.resource.RelatedModel;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.security.Principal;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Looks up and stores, for the duration of a request, the rendered fragments
+ * of the items written in the response, using the {@link ItemFragmentCache}.
+ *
+ * <p>
+ * A fragment's key is made of the message mapper and media type writing it,
+ * the request's preferred locale and user, the item's URL (which contains the
+ * model class and identifier) and version, and the item's selected fields.
+ * Only items whose representor declares a version or a last modification date
+ * can be cached. Items embedding related models are never cached, since the
+ * embedded models can change without changing the item's version.
+ * </p>
+ *
+ * <p>
+ * Representors and link functions can depend on the user's permissions, so a
+ * fragment is never shared between users. Requests with an {@code
+ * Authorization} header whose user isn't known to the servlet request don't
+ * use the cache at all.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ItemFragments {
+
+	public ItemFragments(
+		ItemFragmentCache itemFragmentCache, WriterHelper writerHelper,
+		Object messageMapper, MediaType mediaType, Language language,
+		Embedded.Node embeddedNode, HttpServletRequest httpServletRequest) {
+
+		_itemFragmentCache = itemFragmentCache;
+		_writerHelper = writerHelper;
+		_embeddedNode = embeddedNode;
+
+		String userName = _getUserName(httpServletRequest);
+
+		if ((userName == null) &&
+			(httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION) != null)) {
+
+			_context = null;
+		}
+		else {
+			Class<?> messageMapperClass = messageMapper.getClass();
+
+			_context = String.join(
+				"\n", messageMapperClass.getName(), String.valueOf(mediaType),
+				String.valueOf(language.getPreferredLocale()),
+				String.valueOf(userName));
+		}
+	}
+
+	/**
+	 * Returns the fragment stored with a key, if the key is present and the
+	 * fragment has been stored.
+	 *
+	 * @param  keyOptional the fragment's key, if the item can be cached
+	 * @return the fragment, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getFragmentOptional(Optional<String> keyOptional) {
+		return keyOptional.flatMap(_itemFragmentCache::getFragmentOptional);
+	}
+
+	/**
+	 * Returns the key of an item's fragment, if the item can be cached.
+	 *
+	 * @param  singleModel the item
+	 * @param  serializationPlanOptional the item's serialization plan,
+	 *         filtered with the request's fields, if present
+	 * @param  httpServletRequest the actual HTTP servlet request
+	 * @return the fragment's key, if the item can be cached; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public <T> Optional<String> getKeyOptional(
+		SingleModel<T> singleModel,
+		Optional<SerializationPlan<T>> serializationPlanOptional,
+		HttpServletRequest httpServletRequest) {
+
+		if ((_context == null) || !_itemFragmentCache.isEnabled() ||
+			!serializationPlanOptional.isPresent()) {
+
+			return Optional.empty();
+		}
+
+		SerializationPlan<T> serializationPlan =
+			serializationPlanOptional.get();
+
+		Optional<String> selectionOptional = _selections.computeIfAbsent(
+			serializationPlan, this::_getSelectionOptional);
+
+		if (!selectionOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<String> versionOptional = _getVersionOptional(
+			singleModel.getModel(), serializationPlan.getRepresentor());
+
+		if (!versionOptional.isPresent()) {
+			return Optional.empty();
+		}
+
+		Optional<String> urlOptional = _writerHelper.getSingleURLOptional(
+			singleModel, httpServletRequest);
+
+		return urlOptional.map(
+			url -> String.join(
+				"\n", _context, url, versionOptional.get(),
+				selectionOptional.get()));
+	}
+
+	/**
+	 * Renders the JSON object of an item and stores it as the item's
+	 * fragment.
+	 *
+	 * @param  key the fragment's key
+	 * @param  jsonObjectBuilder the builder holding the item's JSON object
+	 * @return the rendered fragment
+	 * @review
+	 */
+	public String putFragment(String key, JSONObjectBuilder jsonObjectBuilder) {
+		String fragment = _gson.toJson(jsonObjectBuilder.build());
+
+		_itemFragmentCache.putFragment(key, fragment);
+
+		return fragment;
+	}
+
+	private static String _getUserName(HttpServletRequest httpServletRequest) {
+		Principal principal = httpServletRequest.getUserPrincipal();
+
+		if (principal != null) {
+			return principal.getName();
+		}
+
+		return httpServletRequest.getRemoteUser();
+	}
+
+	private static String _join(String[] keys) {
+		return String.join(",", keys);
+	}
+
+	private Optional<String> _getSelectionOptional(
+		SerializationPlan<?> serializationPlan) {
+
+		StringBuilder sb = new StringBuilder();
+
+		for (RelatedModel<?, ?> relatedModel :
+				serializationPlan.getEmbeddedRelatedModels()) {
+
+			Embedded.Node embeddedNode = _embeddedNode.getChild(
+				relatedModel.getKey());
+
+			if (embeddedNode.isEmbedded()) {
+				return Optional.empty();
+			}
+
+			sb.append(relatedModel.getKey());
+			sb.append(',');
+		}
+
+		for (RelatedModel<?, ?> relatedModel :
+				serializationPlan.getLinkedRelatedModels()) {
+
+			sb.append(relatedModel.getKey());
+			sb.append(',');
+		}
+
+		for (RelatedCollection<?, ?> relatedCollection :
+				serializationPlan.getRelatedCollections()) {
+
+			sb.append(relatedCollection.getKey());
+			sb.append(',');
+		}
+
+		String selection = String.join(
+			";", _join(serializationPlan.getBinaryKeys()),
+			_join(serializationPlan.getBooleanKeys()),
+			_join(serializationPlan.getLinkKeys()),
+			_join(serializationPlan.getLocalizedStringKeys()),
+			_join(serializationPlan.getNumberKeys()),
+			_join(serializationPlan.getStringKeys()), sb.toString());
+
+		return Optional.of(selection);
+	}
+
+	private <T> Optional<String> _getVersionOptional(
+		T model, Representor<T, ?> representor) {
+
+		Optional<Function<T, Object>> versionFunctionOptional =
+			representor.getVersionFunctionOptional();
+
+		if (versionFunctionOptional.isPresent()) {
+			Function<T, Object> versionFunction = versionFunctionOptional.get();
+
+			return Optional.ofNullable(
+				versionFunction.apply(model)
+			).map(
+				String::valueOf
+			);
+		}
+
+		Optional<Function<T, Date>> lastModifiedFunctionOptional =
+			representor.getLastModifiedFunctionOptional();
+
+		return lastModifiedFunctionOptional.map(
+			lastModifiedFunction -> lastModifiedFunction.apply(model)
+		).map(
+			date -> String.valueOf(date.getTime())
+		);
+	}
+
+	private static final Gson _gson = new GsonBuilder().disableHtmlEscaping(
+	).serializeNulls(
+	).create();
+
+	private final String _context;
+	private final Embedded.Node _embeddedNode;
+	private final ItemFragmentCache _itemFragmentCache;
+	private final Map<SerializationPlan<?>, Optional<String>> _selections =
+		new ConcurrentHashMap<>();
+	private final WriterHelper _writerHelper;
+
+}
\ No newline at end of file
@@ -15,14 +15,15 @@
 package com.liferay.vulcan.jaxrs.json.internal.writer;
 
 import static org.osgi.service.component.annotations.ReferenceCardinality.AT_LEAST_ONE;
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
-import com.google.gson.JsonObject;
-
-import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.concurrent.ThreadContextPropagator;
 import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.error.VulcanDeveloperError.UnresolvableURI;
 import com.liferay.vulcan.jaxrs.json.internal.JSONObjectBuilderImpl;
+import com.liferay.vulcan.jaxrs.json.internal.RenderedJSONObjectBuilderImpl;
+import com.liferay.vulcan.jaxrs.json.internal.StreamingJSONObjectBuilderImpl;
 import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
@@ -31,29 +32,36 @@ import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.pagination.SingleModel;
 import com.liferay.vulcan.resource.RelatedCollection;
 import com.liferay.vulcan.resource.RelatedModel;
-import com.liferay.vulcan.resource.Representor;
-import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.response.control.Embedded;
 import com.liferay.vulcan.response.control.Fields;
 import com.liferay.vulcan.result.Try;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
 import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
 import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
+import com.liferay.vulcan.wiring.osgi.util.MessageMapperIndex;
+import com.liferay.vulcan.wiring.osgi.util.PropertiesUtil;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import java.net.URLEncoder;
+
 import java.nio.charset.StandardCharsets;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
@@ -67,13 +75,37 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 
 /**
  * Gives Vulcan the ability to write collection pages. For that end it uses the
  * right {@link PageMessageMapper} in accordance with the media type.
  *
+ * <p>
+ * Items can be written in parallel by setting the {@code
+ * parallel.items.threshold} component property to the minimum number of items
+ * that is worth the fan-out, and optionally {@code parallel.items.pool.size}
+ * to the size of the bounded pool used. Pages are written in parallel if
+ * their size reaches the threshold. Each item is then written to its own
+ * {@link JSONObjectBuilder} in the pool, and the {@code PageMessageMapper}
+ * still receives the items in their original order. In that mode, the
+ * representor functions and the mapper's item methods must be thread-safe.
+ * The request's thread-local state is copied to the pool threads by the
+ * registered {@link ThreadContextPropagator} services.
+ * </p>
+ *
+ * <p>
+ * If the {@link ItemFragmentCache} is enabled, the JSON objects of cacheable
+ * items are stored after being written, and copied from the cache, without
+ * calling {@link PageMessageMapper#onStartItem(JSONObjectBuilder,
+ * JSONObjectBuilder, Object, Class, HttpHeaders)} or the mapper's item
+ * methods, when the same version of the item is written again (see {@link
+ * ItemFragments}).
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -86,6 +118,45 @@ import org.osgi.service.component.annotations.Reference;
 public class PageMessageBodyWriter<T>
 	implements MessageBodyWriter<Try.Success<Page<T>>> {
 
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_pageMessageMapperIndex = new MessageMapperIndex<>(
+			_pageMessageMappers, PageMessageMapper::getMediaType);
+
+		_parallelItemsThreshold = PropertiesUtil.getIntegerProperty(
+			properties, "parallel.items.threshold", 0);
+
+		if (_parallelItemsThreshold <= 0) {
+			return;
+		}
+
+		Runtime runtime = Runtime.getRuntime();
+
+		int poolSize = PropertiesUtil.getIntegerProperty(
+			properties, "parallel.items.pool.size",
+			runtime.availableProcessors());
+
+		_executorService = Executors.newFixedThreadPool(
+			Math.max(poolSize, 1),
+			runnable -> {
+				Thread thread = new Thread(
+					runnable, PageMessageBodyWriter.class.getName());
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+	}
+
+	@Deactivate
+	public void deactivate() {
+		if (_executorService != null) {
+			_executorService.shutdown();
+
+			_executorService = null;
+		}
+	}
+
 	@Override
 	public long getSize(
 		Try.Success<Page<T>> success, Class<?> clazz, Type genericType,
@@ -102,9 +173,9 @@ public class PageMessageBodyWriter<T>
 		Try<Class<Object>> classTry =
 			GenericUtil.getFirstGenericTypeArgumentTry(genericType);
 
-		return classTry.filter(
-			Page.class::equals
-		).isSuccess();
+		Class<Object> typeArgumentClass = classTry.orElse(null);
+
+		return Page.class.equals(typeArgumentClass);
 	}
 
 	@Override
@@ -118,25 +189,23 @@ public class PageMessageBodyWriter<T>
 		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
 			entityStream, StandardCharsets.UTF_8);
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		List<PageMessageMapper<T>> pageMessageMappers =
+			_pageMessageMapperIndex.getMessageMappers(mediaType);
 
-		Stream<PageMessageMapper<T>> stream = _pageMessageMappers.stream();
-
-		String mediaTypeString = mediaType.toString();
+		Stream<PageMessageMapper<T>> stream = pageMessageMappers.stream();
 
 		Page<T> page = success.getValue();
 
 		PageMessageMapper<T> pageMessageMapper = stream.filter(
-			bodyWriter ->
-				mediaTypeString.equals(bodyWriter.getMediaType()) &&
-				bodyWriter.supports(page, _httpHeaders)
+			bodyWriter -> bodyWriter.supports(page, _httpHeaders)
 		).findFirst(
 		).orElseThrow(
 			() -> new VulcanDeveloperError.MustHaveMessageMapper(
-				mediaTypeString, page.getModelClass())
+				mediaType.toString(), page.getModelClass())
 		);
 
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilderImpl();
+		StreamingJSONObjectBuilderImpl jsonObjectBuilder =
+			new StreamingJSONObjectBuilderImpl(outputStreamWriter);
 
 		pageMessageMapper.onStart(jsonObjectBuilder, page, _httpHeaders);
 
@@ -158,13 +227,23 @@ public class PageMessageBodyWriter<T>
 		Language language = optional.orElseThrow(
 			() -> new VulcanDeveloperError.MustHaveProvider(Language.class));
 
-		_writeItems(
-			pageMessageMapper, jsonObjectBuilder, page, fields, embedded,
-			language);
+		RequestSerializationPlans requestSerializationPlans =
+			new RequestSerializationPlans(_collectionResourceManager, fields);
+
+		ItemFragments itemFragments = new ItemFragments(
+			_itemFragmentCache, _writerHelper, pageMessageMapper, mediaType,
+			language, embedded.getRootNode(), _httpServletRequest);
 
-		_writeItemTotalCount(pageMessageMapper, jsonObjectBuilder, page);
+		int pageCount = _writeItems(
+			pageMessageMapper, jsonObjectBuilder, page,
+			requestSerializationPlans, embedded.getRootNode(), language,
+			itemFragments);
 
-		_writePageCount(pageMessageMapper, jsonObjectBuilder, page);
+		if (!page.isTotalCountSkipped()) {
+			_writeItemTotalCount(pageMessageMapper, jsonObjectBuilder, page);
+		}
+
+		pageMessageMapper.mapPageCount(jsonObjectBuilder, pageCount);
 
 		_writePageURLs(pageMessageMapper, jsonObjectBuilder, page);
 
@@ -172,11 +251,9 @@ public class PageMessageBodyWriter<T>
 
 		pageMessageMapper.onFinish(jsonObjectBuilder, page, _httpHeaders);
 
-		JsonObject jsonObject = jsonObjectBuilder.build();
-
-		printWriter.println(jsonObject.toString());
+		jsonObjectBuilder.close();
 
-		printWriter.close();
+		_writerHelper.logRelatedModelCacheStatistics(_httpServletRequest);
 	}
 
 	private String _getCollectionURL(Page<T> page) {
@@ -189,10 +266,57 @@ public class PageMessageBodyWriter<T>
 			() -> new UnresolvableURI(modelClass.getName()));
 	}
 
+	private String _getCursorPageURL(Page<T> page, String cursor) {
+		String url = _getCollectionURL(page);
+
+		Try<String> encodedCursorTry = Try.fromFallible(
+			() -> URLEncoder.encode(cursor, StandardCharsets.UTF_8.name()));
+
+		return url + "?cursor=" + encodedCursorTry.getUnchecked() +
+			"&per_page=" + page.getItemsPerPage() +
+				_getSkipCountParameter(page);
+	}
+
 	private String _getPageURL(Page<T> page, int pageNumber, int itemsPerPage) {
 		String url = _getCollectionURL(page);
 
-		return url + "?page=" + pageNumber + "&per_page=" + itemsPerPage;
+		return url + "?page=" + pageNumber + "&per_page=" + itemsPerPage +
+			_getSkipCountParameter(page);
+	}
+
+	private String _getSkipCountParameter(Page<T> page) {
+		if (page.isTotalCountSkipped()) {
+			return "&skip_count=true";
+		}
+
+		return "";
+	}
+
+	private Runnable _propagateThreadContext(Runnable runnable) {
+		Runnable propagatedRunnable = runnable;
+
+		for (ThreadContextPropagator threadContextPropagator :
+				_threadContextPropagators) {
+
+			propagatedRunnable = threadContextPropagator.propagate(
+				propagatedRunnable);
+		}
+
+		return propagatedRunnable;
+	}
+
+	private JSONObjectBuilder _putItemFragment(
+		ItemFragments itemFragments, Optional<String> keyOptional,
+		JSONObjectBuilder itemJSONObjectBuilder) {
+
+		if (!keyOptional.isPresent()) {
+			return itemJSONObjectBuilder;
+		}
+
+		String fragment = itemFragments.putFragment(
+			keyOptional.get(), itemJSONObjectBuilder);
+
+		return new RenderedJSONObjectBuilderImpl(fragment);
 	}
 
 	private void _writeCollectionURL(
@@ -204,105 +328,150 @@ public class PageMessageBodyWriter<T>
 		pageMessageMapper.mapCollectionURL(jsonObjectBuilder, url);
 	}
 
+	private void _writeCursorPageURLs(
+		PageMessageMapper<T> pageMessageMapper,
+		JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
+
+		String firstPageURL = _getPageURL(page, 1, page.getItemsPerPage());
+
+		Optional<String> cursorOptional = page.getCursorOptional();
+
+		pageMessageMapper.mapCurrentPageURL(
+			jsonObjectBuilder,
+			cursorOptional.map(
+				cursor -> _getCursorPageURL(page, cursor)
+			).orElse(
+				firstPageURL
+			));
+
+		pageMessageMapper.mapFirstPageURL(jsonObjectBuilder, firstPageURL);
+
+		Optional<String> nextCursorOptional = page.getNextCursorOptional();
+
+		nextCursorOptional.ifPresent(
+			nextCursor -> pageMessageMapper.mapNextPageURL(
+				jsonObjectBuilder, _getCursorPageURL(page, nextCursor)));
+	}
+
 	private <U, V> void _writeEmbeddedRelatedModel(
 		PageMessageMapper<?> pageMessageMapper,
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
 		RelatedModel<U, V> relatedModel, SingleModel<U> parentSingleModel,
-		FunctionalList<String> parentEmbeddedPathElements, Fields fields,
-		Embedded embedded, Language language) {
+		FunctionalList<String> parentEmbeddedPathElements,
+		RequestSerializationPlans requestSerializationPlans,
+		RelatedModelBatches relatedModelBatches,
+		Embedded.Node parentEmbeddedNode, Language language,
+		HttpServletRequest httpServletRequest) {
 
 		_writerHelper.writeRelatedModel(
-			relatedModel, parentSingleModel, parentEmbeddedPathElements,
-			_httpServletRequest, fields, embedded,
-			(singleModel, embeddedPathElements) -> {
+			relatedModel, relatedModelBatches.getModelFunction(relatedModel),
+			parentSingleModel, parentEmbeddedPathElements, httpServletRequest,
+			parentEmbeddedNode,
+			(singleModel, embeddedPathElements, embeddedNode) -> {
 				Class<V> modelClass = singleModel.getModelClass();
 
-				_writerHelper.writeBooleanFields(
-					singleModel.getModel(), modelClass, fields,
-					(fieldName, value) ->
-						pageMessageMapper.mapItemEmbeddedResourceBooleanField(
-							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeLocalizedStringFields(
-					singleModel.getModel(), modelClass, fields, language,
-					(fieldName, value) ->
-						pageMessageMapper.mapItemEmbeddedResourceStringField(
-							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeNumberFields(
-					singleModel.getModel(), modelClass, fields,
-					(fieldName, value) ->
-						pageMessageMapper.mapItemEmbeddedResourceNumberField(
-							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeStringFields(
-					singleModel.getModel(), modelClass, fields,
-					(fieldName, value) ->
-						pageMessageMapper.mapItemEmbeddedResourceStringField(
-							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeLinks(
-					modelClass, fields,
-					(fieldName, link) ->
-						pageMessageMapper.mapItemEmbeddedResourceLink(
-							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, link));
-
-				_writerHelper.writeTypes(
-					modelClass,
-					types -> pageMessageMapper.mapItemEmbeddedResourceTypes(
-						pageJSONObjectBuilder, itemJSONObjectBuilder,
-						embeddedPathElements, types));
-
-				Optional<Representor<V, Identifier>> representorOptional =
-					_collectionResourceManager.getRepresentorOptional(
+				Optional<SerializationPlan<V>> serializationPlanOptional =
+					requestSerializationPlans.getSerializationPlanOptional(
 						modelClass);
 
-				representorOptional.ifPresent(
-					representor -> {
-						Map<String, BinaryFunction<V>> binaryFunctions =
-							representor.getBinaryFunctions();
+				serializationPlanOptional.ifPresent(
+					serializationPlan -> {
+						V model = singleModel.getModel();
+
+						_writerHelper.writeBooleanFields(
+							model, serializationPlan,
+							(fieldName, value) ->
+								pageMessageMapper.
+									mapItemEmbeddedResourceBooleanField(
+										pageJSONObjectBuilder,
+										itemJSONObjectBuilder,
+										embeddedPathElements, fieldName,
+										value));
+
+						_writerHelper.writeLocalizedStringFields(
+							model, serializationPlan, language,
+							(fieldName, value) ->
+								pageMessageMapper.
+									mapItemEmbeddedResourceStringField(
+										pageJSONObjectBuilder,
+										itemJSONObjectBuilder,
+										embeddedPathElements, fieldName,
+										value));
+
+						_writerHelper.writeNumberFields(
+							model, serializationPlan,
+							(fieldName, value) ->
+								pageMessageMapper.
+									mapItemEmbeddedResourceNumberField(
+										pageJSONObjectBuilder,
+										itemJSONObjectBuilder,
+										embeddedPathElements, fieldName,
+										value));
+
+						_writerHelper.writeStringFields(
+							model, serializationPlan,
+							(fieldName, value) ->
+								pageMessageMapper.
+									mapItemEmbeddedResourceStringField(
+										pageJSONObjectBuilder,
+										itemJSONObjectBuilder,
+										embeddedPathElements, fieldName,
+										value));
+
+						_writerHelper.writeLinks(
+							serializationPlan,
+							(fieldName, link) ->
+								pageMessageMapper.mapItemEmbeddedResourceLink(
+									pageJSONObjectBuilder,
+									itemJSONObjectBuilder, embeddedPathElements,
+									fieldName, link));
+
+						_writerHelper.writeTypes(
+							serializationPlan,
+							types ->
+								pageMessageMapper.mapItemEmbeddedResourceTypes(
+									pageJSONObjectBuilder,
+									itemJSONObjectBuilder, embeddedPathElements,
+									types));
 
 						_writerHelper.writeBinaries(
-							binaryFunctions, singleModel, _httpServletRequest,
+							serializationPlan, singleModel, httpServletRequest,
 							(fieldName, value) ->
 								pageMessageMapper.mapItemStringField(
 									pageJSONObjectBuilder,
 									itemJSONObjectBuilder, fieldName, value));
 
-						List<RelatedModel<V, ?>> embeddedRelatedModels =
-							representor.getEmbeddedRelatedModels();
+						for (RelatedModel<V, ?> embeddedRelatedModel :
+								serializationPlan.getEmbeddedRelatedModels()) {
 
-						embeddedRelatedModels.forEach(
-							embeddedRelatedModel -> _writeEmbeddedRelatedModel(
+							_writeEmbeddedRelatedModel(
 								pageMessageMapper, pageJSONObjectBuilder,
 								itemJSONObjectBuilder, embeddedRelatedModel,
-								singleModel, embeddedPathElements, fields,
-								embedded, language));
+								singleModel, embeddedPathElements,
+								requestSerializationPlans, relatedModelBatches,
+								embeddedNode, language, httpServletRequest);
+						}
 
-						List<RelatedModel<V, ?>> linkedRelatedModels =
-							representor.getLinkedRelatedModels();
+						for (RelatedModel<V, ?> linkedRelatedModel :
+								serializationPlan.getLinkedRelatedModels()) {
 
-						linkedRelatedModels.forEach(
-							linkedRelatedModel -> _writeLinkedRelatedModel(
+							_writeLinkedRelatedModel(
 								pageMessageMapper, pageJSONObjectBuilder,
 								itemJSONObjectBuilder, linkedRelatedModel,
-								singleModel, embeddedPathElements, fields,
-								embedded));
+								singleModel, embeddedPathElements, embeddedNode,
+								httpServletRequest);
+						}
 
-						Stream<RelatedCollection<V, ?>> stream =
-							representor.getRelatedCollections();
+						for (RelatedCollection<V, ?> relatedCollection :
+								serializationPlan.getRelatedCollections()) {
 
-						stream.forEach(
-							relatedCollection -> _writeRelatedCollection(
+							_writeRelatedCollection(
 								pageMessageMapper, pageJSONObjectBuilder,
 								itemJSONObjectBuilder, relatedCollection,
-								singleModel, embeddedPathElements, fields));
+								singleModel, embeddedPathElements,
+								httpServletRequest);
+						}
 					});
 			},
 			(url, embeddedPathElements, isEmbedded) -> {
@@ -319,112 +488,222 @@ public class PageMessageBodyWriter<T>
 			});
 	}
 
+	private void _writeItem(
+		PageMessageMapper<T> pageMessageMapper,
+		JSONObjectBuilder jsonObjectBuilder,
+		JSONObjectBuilder itemJSONObjectBuilder, T item, Class<T> modelClass,
+		SerializationPlan<T> serializationPlan,
+		RequestSerializationPlans requestSerializationPlans,
+		RelatedModelBatches relatedModelBatches, Embedded.Node embeddedNode,
+		Language language, HttpServletRequest httpServletRequest) {
+
+		_writerHelper.writeBooleanFields(
+			item, serializationPlan,
+			(field, value) -> pageMessageMapper.mapItemBooleanField(
+				jsonObjectBuilder, itemJSONObjectBuilder, field, value));
+
+		_writerHelper.writeLocalizedStringFields(
+			item, serializationPlan, language,
+			(field, value) -> pageMessageMapper.mapItemStringField(
+				jsonObjectBuilder, itemJSONObjectBuilder, field, value));
+
+		_writerHelper.writeNumberFields(
+			item, serializationPlan,
+			(field, value) -> pageMessageMapper.mapItemNumberField(
+				jsonObjectBuilder, itemJSONObjectBuilder, field, value));
+
+		_writerHelper.writeStringFields(
+			item, serializationPlan,
+			(field, value) -> pageMessageMapper.mapItemStringField(
+				jsonObjectBuilder, itemJSONObjectBuilder, field, value));
+
+		_writerHelper.writeLinks(
+			serializationPlan,
+			(fieldName, link) -> pageMessageMapper.mapItemLink(
+				jsonObjectBuilder, itemJSONObjectBuilder, fieldName, link));
+
+		_writerHelper.writeTypes(
+			serializationPlan,
+			types -> pageMessageMapper.mapItemTypes(
+				jsonObjectBuilder, itemJSONObjectBuilder, types));
+
+		SingleModel<T> singleModel = new SingleModel<>(item, modelClass);
+
+		Optional<String> optional = _writerHelper.getSingleURLOptional(
+			singleModel, httpServletRequest);
+
+		optional.ifPresent(
+			url -> pageMessageMapper.mapItemSelfURL(
+				jsonObjectBuilder, itemJSONObjectBuilder, url));
+
+		_writerHelper.writeBinaries(
+			serializationPlan, singleModel, httpServletRequest,
+			(fieldName, value) -> pageMessageMapper.mapItemStringField(
+				jsonObjectBuilder, itemJSONObjectBuilder, fieldName, value));
+
+		for (RelatedModel<T, ?> embeddedRelatedModel :
+				serializationPlan.getEmbeddedRelatedModels()) {
+
+			_writeEmbeddedRelatedModel(
+				pageMessageMapper, jsonObjectBuilder, itemJSONObjectBuilder,
+				embeddedRelatedModel, singleModel, null,
+				requestSerializationPlans, relatedModelBatches, embeddedNode,
+				language, httpServletRequest);
+		}
+
+		for (RelatedModel<T, ?> linkedRelatedModel :
+				serializationPlan.getLinkedRelatedModels()) {
+
+			_writeLinkedRelatedModel(
+				pageMessageMapper, jsonObjectBuilder, itemJSONObjectBuilder,
+				linkedRelatedModel, singleModel, null, embeddedNode,
+				httpServletRequest);
+		}
+
+		for (RelatedCollection<T, ?> relatedCollection :
+				serializationPlan.getRelatedCollections()) {
+
+			_writeRelatedCollection(
+				pageMessageMapper, jsonObjectBuilder, itemJSONObjectBuilder,
+				relatedCollection, singleModel, null, httpServletRequest);
+		}
+	}
+
+	private JSONObjectBuilder _writeItemFragment(
+		PageMessageMapper<T> pageMessageMapper,
+		JSONObjectBuilder jsonObjectBuilder, T item, Class<T> modelClass,
+		Optional<SerializationPlan<T>> serializationPlanOptional,
+		RequestSerializationPlans requestSerializationPlans,
+		RelatedModelBatches relatedModelBatches, Embedded.Node embeddedNode,
+		Language language, ItemFragments itemFragments,
+		Optional<String> keyOptional) {
+
+		JSONObjectBuilder itemJSONObjectBuilder = new JSONObjectBuilderImpl();
+
+		pageMessageMapper.onStartItem(
+			jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
+			_httpHeaders);
+
+		serializationPlanOptional.ifPresent(
+			serializationPlan -> _writeItem(
+				pageMessageMapper, jsonObjectBuilder, itemJSONObjectBuilder,
+				item, modelClass, serializationPlan, requestSerializationPlans,
+				relatedModelBatches, embeddedNode, language,
+				_httpServletRequest));
+
+		return _putItemFragment(
+			itemFragments, keyOptional, itemJSONObjectBuilder);
+	}
+
+	private int _writeItems(
+		PageMessageMapper<T> pageMessageMapper,
+		JSONObjectBuilder jsonObjectBuilder, Page<T> page,
+		RequestSerializationPlans requestSerializationPlans,
+		Embedded.Node embeddedNode, Language language,
+		ItemFragments itemFragments) {
+
+		int count = 0;
+
+		int pageSize = page.getItemsPerPage();
+
+		try (Stream<T> stream = page.getItemsStream()) {
+			Iterator<T> iterator = stream.iterator();
+
+			List<T> items = new ArrayList<>();
+
+			while (iterator.hasNext()) {
+				items.add(iterator.next());
+
+				if ((items.size() == _ITEMS_BATCH_SIZE) ||
+					!iterator.hasNext()) {
+
+					if ((count == 0) && !iterator.hasNext()) {
+						pageSize = items.size();
+					}
+
+					_writeItems(
+						pageMessageMapper, jsonObjectBuilder, items,
+						page.getModelClass(), requestSerializationPlans,
+						embeddedNode, language, itemFragments,
+						pageSize >= _parallelItemsThreshold);
+
+					count += items.size();
+
+					items = new ArrayList<>();
+				}
+			}
+		}
+
+		return count;
+	}
+
 	private void _writeItems(
 		PageMessageMapper<T> pageMessageMapper,
-		JSONObjectBuilder jsonObjectBuilder, Page<T> page, Fields fields,
-		Embedded embedded, Language language) {
+		JSONObjectBuilder jsonObjectBuilder, List<T> items,
+		Class<T> modelClass,
+		RequestSerializationPlans requestSerializationPlans,
+		Embedded.Node embeddedNode, Language language,
+		ItemFragments itemFragments, boolean parallel) {
 
-		Collection<T> items = page.getItems();
+		Optional<SerializationPlan<T>> serializationPlanOptional =
+			requestSerializationPlans.getSerializationPlanOptional(modelClass);
 
-		items.forEach(
-			item -> {
-				JSONObjectBuilder itemJSONObjectBuilder =
-					new JSONObjectBuilderImpl();
+		Executor executor = null;
 
-				Class<T> modelClass = page.getModelClass();
+		ExecutorService executorService = _executorService;
 
-				pageMessageMapper.onStartItem(
-					jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
-					_httpHeaders);
+		if (parallel && (executorService != null)) {
+			executor = runnable -> executorService.execute(
+				_propagateThreadContext(runnable));
+		}
 
-				_writerHelper.writeBooleanFields(
-					item, modelClass, fields,
-					(field, value) -> pageMessageMapper.mapItemBooleanField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
-
-				_writerHelper.writeLocalizedStringFields(
-					item, modelClass, fields, language,
-					(field, value) -> pageMessageMapper.mapItemStringField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
-
-				_writerHelper.writeNumberFields(
-					item, modelClass, fields,
-					(field, value) -> pageMessageMapper.mapItemNumberField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
-
-				_writerHelper.writeStringFields(
-					item, modelClass, fields,
-					(field, value) -> pageMessageMapper.mapItemStringField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
-
-				_writerHelper.writeLinks(
-					modelClass, fields,
-					(fieldName, link) -> pageMessageMapper.mapItemLink(
-						jsonObjectBuilder, itemJSONObjectBuilder, fieldName,
-						link));
-
-				_writerHelper.writeTypes(
-					modelClass,
-					types -> pageMessageMapper.mapItemTypes(
-						jsonObjectBuilder, itemJSONObjectBuilder, types));
-
-				SingleModel<T> singleModel = new SingleModel<>(
-					item, modelClass);
-
-				Optional<String> optional = _writerHelper.getSingleURLOptional(
-					singleModel, _httpServletRequest);
-
-				optional.ifPresent(
-					url -> pageMessageMapper.mapItemSelfURL(
-						jsonObjectBuilder, itemJSONObjectBuilder, url));
-
-				Optional<Representor<T, Identifier>> representorOptional =
-					_collectionResourceManager.getRepresentorOptional(
-						modelClass);
+		HttpServletRequest httpServletRequest = _httpServletRequest;
 
-				representorOptional.ifPresent(
-					representor -> {
-						Map<String, BinaryFunction<T>> binaryFunctions =
-							representor.getBinaryFunctions();
+		if (executor != null) {
+			httpServletRequest = _writerHelper.getDetachedHttpServletRequest(
+				_httpServletRequest);
+		}
 
-						_writerHelper.writeBinaries(
-							binaryFunctions, singleModel, _httpServletRequest,
-							(fieldName, value) ->
-								pageMessageMapper.mapItemStringField(
-									jsonObjectBuilder, itemJSONObjectBuilder,
-									fieldName, value));
+		RelatedModelBatches relatedModelBatches = new RelatedModelBatches(
+			requestSerializationPlans, _writerHelper, httpServletRequest,
+			executor);
 
-						List<RelatedModel<T, ?>> embeddedRelatedModels =
-							representor.getEmbeddedRelatedModels();
+		serializationPlanOptional.ifPresent(
+			serializationPlan -> relatedModelBatches.load(
+				items, serializationPlan, embeddedNode));
 
-						embeddedRelatedModels.forEach(
-							embeddedRelatedModel -> _writeEmbeddedRelatedModel(
-								pageMessageMapper, jsonObjectBuilder,
-								itemJSONObjectBuilder, embeddedRelatedModel,
-								singleModel, null, fields, embedded, language));
+		if (executor != null) {
+			_writeItemsInParallel(
+				pageMessageMapper, jsonObjectBuilder, items, modelClass,
+				serializationPlanOptional, requestSerializationPlans,
+				relatedModelBatches, embeddedNode, language, itemFragments,
+				httpServletRequest, executor);
 
-						List<RelatedModel<T, ?>> linkedRelatedModels =
-							representor.getLinkedRelatedModels();
+			return;
+		}
 
-						linkedRelatedModels.forEach(
-							linkedRelatedModel -> _writeLinkedRelatedModel(
-								pageMessageMapper, jsonObjectBuilder,
-								itemJSONObjectBuilder, linkedRelatedModel,
-								singleModel, null, fields, embedded));
+		items.forEach(
+			item -> {
+				Optional<String> keyOptional = itemFragments.getKeyOptional(
+					new SingleModel<>(item, modelClass),
+					serializationPlanOptional, _httpServletRequest);
 
-						Stream<RelatedCollection<T, ?>> stream =
-							representor.getRelatedCollections();
+				Optional<String> fragmentOptional =
+					itemFragments.getFragmentOptional(keyOptional);
 
-						stream.forEach(
-							relatedCollection -> _writeRelatedCollection(
-								pageMessageMapper, jsonObjectBuilder,
-								itemJSONObjectBuilder, relatedCollection,
-								singleModel, null, fields));
-					});
+				JSONObjectBuilder itemJSONObjectBuilder;
+
+				if (fragmentOptional.isPresent()) {
+					itemJSONObjectBuilder = new RenderedJSONObjectBuilderImpl(
+						fragmentOptional.get());
+				}
+				else {
+					itemJSONObjectBuilder = _writeItemFragment(
+						pageMessageMapper, jsonObjectBuilder, item, modelClass,
+						serializationPlanOptional, requestSerializationPlans,
+						relatedModelBatches, embeddedNode, language,
+						itemFragments, keyOptional);
+				}
 
 				pageMessageMapper.onFinishItem(
 					jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
@@ -432,6 +711,71 @@ public class PageMessageBodyWriter<T>
 			});
 	}
 
+	private void _writeItemsInParallel(
+		PageMessageMapper<T> pageMessageMapper,
+		JSONObjectBuilder jsonObjectBuilder, List<T> items,
+		Class<T> modelClass,
+		Optional<SerializationPlan<T>> serializationPlanOptional,
+		RequestSerializationPlans requestSerializationPlans,
+		RelatedModelBatches relatedModelBatches, Embedded.Node embeddedNode,
+		Language language, ItemFragments itemFragments,
+		HttpServletRequest httpServletRequest, Executor executor) {
+
+		List<CompletableFuture<JSONObjectBuilder>> completableFutures =
+			new ArrayList<>(items.size());
+
+		for (T item : items) {
+			Optional<String> keyOptional = itemFragments.getKeyOptional(
+				new SingleModel<>(item, modelClass), serializationPlanOptional,
+				_httpServletRequest);
+
+			Optional<String> fragmentOptional =
+				itemFragments.getFragmentOptional(keyOptional);
+
+			if (fragmentOptional.isPresent()) {
+				JSONObjectBuilder itemJSONObjectBuilder =
+					new RenderedJSONObjectBuilderImpl(fragmentOptional.get());
+
+				completableFutures.add(
+					CompletableFuture.completedFuture(itemJSONObjectBuilder));
+
+				continue;
+			}
+
+			JSONObjectBuilder itemJSONObjectBuilder =
+				new JSONObjectBuilderImpl();
+
+			pageMessageMapper.onStartItem(
+				jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
+				_httpHeaders);
+
+			completableFutures.add(
+				CompletableFuture.supplyAsync(
+					() -> {
+						serializationPlanOptional.ifPresent(
+							serializationPlan -> _writeItem(
+								pageMessageMapper, jsonObjectBuilder,
+								itemJSONObjectBuilder, item, modelClass,
+								serializationPlan, requestSerializationPlans,
+								relatedModelBatches, embeddedNode, language,
+								httpServletRequest));
+
+						return _putItemFragment(
+							itemFragments, keyOptional, itemJSONObjectBuilder);
+					},
+					executor));
+		}
+
+		for (int i = 0; i < items.size(); i++) {
+			JSONObjectBuilder itemJSONObjectBuilder = FutureUtil.join(
+				completableFutures.get(i));
+
+			pageMessageMapper.onFinishItem(
+				jsonObjectBuilder, itemJSONObjectBuilder, items.get(i),
+				modelClass, _httpHeaders);
+		}
+	}
+
 	private void _writeItemTotalCount(
 		PageMessageMapper<T> pageMessageMapper,
 		JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
@@ -445,30 +789,28 @@ public class PageMessageBodyWriter<T>
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
 		RelatedModel<U, V> relatedModel, SingleModel<U> parentSingleModel,
-		FunctionalList<String> parentEmbeddedPathElements, Fields fields,
-		Embedded embedded) {
+		FunctionalList<String> parentEmbeddedPathElements,
+		Embedded.Node parentEmbeddedNode,
+		HttpServletRequest httpServletRequest) {
 
 		_writerHelper.writeLinkedRelatedModel(
 			relatedModel, parentSingleModel, parentEmbeddedPathElements,
-			_httpServletRequest, fields, embedded,
+			httpServletRequest, parentEmbeddedNode,
 			(url, embeddedPathElements) ->
 				pageMessageMapper.mapItemLinkedResourceURL(
 					pageJSONObjectBuilder, itemJSONObjectBuilder,
 					embeddedPathElements, url));
 	}
 
-	private void _writePageCount(
+	private void _writePageURLs(
 		PageMessageMapper<T> pageMessageMapper,
 		JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
 
-		Collection<T> items = page.getItems();
-
-		pageMessageMapper.mapPageCount(jsonObjectBuilder, items.size());
-	}
+		if (page.isCursorPaginated()) {
+			_writeCursorPageURLs(pageMessageMapper, jsonObjectBuilder, page);
 
-	private void _writePageURLs(
-		PageMessageMapper<T> pageMessageMapper,
-		JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
+			return;
+		}
 
 		pageMessageMapper.mapCurrentPageURL(
 			jsonObjectBuilder,
@@ -491,6 +833,10 @@ public class PageMessageBodyWriter<T>
 					page, page.getPageNumber() + 1, page.getItemsPerPage()));
 		}
 
+		if (page.isTotalCountSkipped()) {
+			return;
+		}
+
 		pageMessageMapper.mapLastPageURL(
 			jsonObjectBuilder,
 			_getPageURL(
@@ -503,35 +849,50 @@ public class PageMessageBodyWriter<T>
 		JSONObjectBuilder itemJSONObjectBuilder,
 		RelatedCollection<U, V> relatedCollection,
 		SingleModel<U> parentSingleModel,
-		FunctionalList<String> parentEmbeddedPathElements, Fields fields) {
+		FunctionalList<String> parentEmbeddedPathElements,
+		HttpServletRequest httpServletRequest) {
 
 		_writerHelper.writeRelatedCollection(
 			relatedCollection, parentSingleModel, parentEmbeddedPathElements,
-			_httpServletRequest, fields,
+			httpServletRequest,
 			(url, embeddedPathElements) ->
 				pageMessageMapper.mapItemLinkedResourceURL(
 					pageJSONObjectBuilder, itemJSONObjectBuilder,
 					embeddedPathElements, url));
 	}
 
+	private static final int _ITEMS_BATCH_SIZE = 100;
+
 	@Reference
 	private CollectionResourceManager _collectionResourceManager;
 
+	private ExecutorService _executorService;
+
 	@Context
 	private HttpHeaders _httpHeaders;
 
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
+	@Reference
+	private ItemFragmentCache _itemFragmentCache;
+
+	private MessageMapperIndex<PageMessageMapper<T>> _pageMessageMapperIndex;
+
 	@Reference(cardinality = AT_LEAST_ONE, policyOption = GREEDY)
 	private List<PageMessageMapper<T>> _pageMessageMappers;
 
+	private int _parallelItemsThreshold;
+
 	@Reference
 	private ProviderManager _providerManager;
 
 	@Context
 	private ResourceInfo _resourceInfo;
 
+	@Reference(cardinality = MULTIPLE, policyOption = GREEDY)
+	private List<ThreadContextPropagator> _threadContextPropagators;
+
 	@Reference
 	private WriterHelper _writerHelper;
 
@@ -0,0 +1,264 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.liferay.vulcan.resource.RelatedModel;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Holds, for the duration of a request, the embedded related models of a
+ * collection of models, loaded before the models are written.
+ *
+ * <p>
+ * Related models declared with a batch function (see {@link
+ * RelatedModel#getBatchFunction()}) are loaded with one call per relation and
+ * embedded level, instead of one call per model. Other related models are only
+ * loaded in advance when they are embedded, so their own related models can be
+ * loaded in batches too. Those are loaded through the request's {@link
+ * RelatedModelCache} if the relation provides an identifier function, so each
+ * distinct related model is loaded once per request, however many models
+ * share it.
+ * </p>
+ *
+ * <p>
+ * If an {@code Executor} is provided, the related models without a batch
+ * function are loaded concurrently with it, one task per distinct related
+ * model. The loaded models are always stored from the calling thread.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RelatedModelBatches {
+
+	public RelatedModelBatches(
+		RequestSerializationPlans requestSerializationPlans,
+		WriterHelper writerHelper, HttpServletRequest httpServletRequest) {
+
+		this(
+			requestSerializationPlans, writerHelper, httpServletRequest, null);
+	}
+
+	public RelatedModelBatches(
+		RequestSerializationPlans requestSerializationPlans,
+		WriterHelper writerHelper, HttpServletRequest httpServletRequest,
+		Executor executor) {
+
+		_requestSerializationPlans = requestSerializationPlans;
+		_writerHelper = writerHelper;
+		_httpServletRequest = httpServletRequest;
+		_executor = executor;
+	}
+
+	/**
+	 * Returns the function that obtains a relation's related model. The
+	 * function uses the related models loaded with {@link #load(Collection,
+	 * SerializationPlan, Embedded.Node)}, and falls back to the relation's
+	 * model function for models that weren't loaded.
+	 *
+	 * @param  relatedModel the relation
+	 * @return the function that obtains the relation's related model
+	 * @review
+	 */
+	public <T, S> Function<T, Optional<S>> getModelFunction(
+		RelatedModel<T, S> relatedModel) {
+
+		Function<T, Optional<S>> modelFunction =
+			relatedModel.getModelFunction();
+
+		Map<Object, Optional<?>> relatedModels = _relatedModels.get(
+			relatedModel);
+
+		if (relatedModels == null) {
+			return modelFunction;
+		}
+
+		return model -> {
+			Optional<?> optional = relatedModels.get(model);
+
+			if (optional == null) {
+				return modelFunction.apply(model);
+			}
+
+			return (Optional<S>)optional;
+		};
+	}
+
+	/**
+	 * Loads the embedded related models of a collection of models, and,
+	 * recursively, the ones of every embedded level requested.
+	 *
+	 * @param  models the models
+	 * @param  serializationPlan the serialization plan of the models' class,
+	 *         filtered with the requested fields
+	 * @param  embeddedNode the embedded paths trie node of the models
+	 * @review
+	 */
+	public <T> void load(
+		Collection<T> models, SerializationPlan<T> serializationPlan,
+		Embedded.Node embeddedNode) {
+
+		if (models.isEmpty()) {
+			return;
+		}
+
+		for (RelatedModel<T, ?> relatedModel :
+				serializationPlan.getEmbeddedRelatedModels()) {
+
+			_load(models, relatedModel, embeddedNode);
+		}
+	}
+
+	private <T, S> List<Optional<S>> _getModelOptionals(
+		Collection<T> models, RelatedModel<T, S> relatedModel) {
+
+		Function<T, Optional<S>> modelFunction =
+			relatedModel.getModelFunction();
+
+		Map<String, CompletableFuture<Optional<S>>> pathCompletableFutures =
+			new HashMap<>();
+
+		List<CompletableFuture<Optional<S>>> completableFutures =
+			new ArrayList<>(models.size());
+
+		for (T model : models) {
+			Supplier<Optional<S>> supplier =
+				() -> _writerHelper.getRelatedModelOptional(
+					relatedModel, modelFunction, model, _httpServletRequest);
+
+			Optional<Path> optional = _writerHelper.getRelatedModelPathOptional(
+				relatedModel, model);
+
+			if (optional.isPresent()) {
+				Path path = optional.get();
+
+				completableFutures.add(
+					pathCompletableFutures.computeIfAbsent(
+						path.asURI(), key -> _supply(supplier)));
+			}
+			else {
+				completableFutures.add(_supply(supplier));
+			}
+		}
+
+		List<Optional<S>> optionals = new ArrayList<>(models.size());
+
+		for (CompletableFuture<Optional<S>> completableFuture :
+				completableFutures) {
+
+			optionals.add(FutureUtil.join(completableFuture));
+		}
+
+		return optionals;
+	}
+
+	private <T, S> void _load(
+		Collection<T> models, RelatedModel<T, S> relatedModel,
+		Embedded.Node parentEmbeddedNode) {
+
+		Function<Collection<T>, Map<T, S>> batchFunction =
+			relatedModel.getBatchFunction();
+
+		Embedded.Node embeddedNode = parentEmbeddedNode.getChild(
+			relatedModel.getKey());
+
+		boolean embedded = embeddedNode.isEmbedded();
+
+		if ((batchFunction == null) && !embedded) {
+			return;
+		}
+
+		Map<Object, Optional<?>> relatedModels = _relatedModels.computeIfAbsent(
+			relatedModel, key -> new HashMap<>());
+
+		Set<S> loadedModels = new LinkedHashSet<>();
+
+		if (batchFunction != null) {
+			Map<T, S> map = batchFunction.apply(models);
+
+			for (T model : models) {
+				S loadedModel = map.get(model);
+
+				if (loadedModel != null) {
+					loadedModels.add(loadedModel);
+				}
+
+				relatedModels.put(model, Optional.ofNullable(loadedModel));
+			}
+		}
+		else {
+			List<Optional<S>> optionals = _getModelOptionals(
+				models, relatedModel);
+
+			Iterator<Optional<S>> iterator = optionals.iterator();
+
+			for (T model : models) {
+				Optional<S> optional = iterator.next();
+
+				optional.ifPresent(loadedModels::add);
+
+				relatedModels.put(model, optional);
+			}
+		}
+
+		if (!embedded) {
+			return;
+		}
+
+		Optional<SerializationPlan<S>> optional =
+			_requestSerializationPlans.getSerializationPlanOptional(
+				relatedModel.getModelClass());
+
+		optional.ifPresent(
+			serializationPlan -> load(
+				loadedModels, serializationPlan, embeddedNode));
+	}
+
+	private <S> CompletableFuture<Optional<S>> _supply(
+		Supplier<Optional<S>> supplier) {
+
+		if (_executor == null) {
+			return CompletableFuture.completedFuture(supplier.get());
+		}
+
+		return CompletableFuture.supplyAsync(supplier, _executor);
+	}
+
+	private final Executor _executor;
+	private final HttpServletRequest _httpServletRequest;
+	private final Map<RelatedModel<?, ?>, Map<Object, Optional<?>>>
+		_relatedModels = new HashMap<>();
+	private final RequestSerializationPlans _requestSerializationPlans;
+	private final WriterHelper _writerHelper;
+
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.liferay.vulcan.uri.Path;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Memoizes, for the duration of a request, the related models and the URLs
+ * resolved while writing a response. Entries are keyed by the model class and
+ * the {@link Path} the model's identifier maps to, so each distinct model is
+ * loaded, and its URL calculated, once per response. URLs are also keyed by
+ * the transformation applied to them, since a model's URL can be transformed
+ * differently depending on where it's written.
+ *
+ * <p>
+ * The cache is stored as an attribute of the request, named after this class,
+ * so its hit and miss counts can be read by any component handling the
+ * request. The writers log them as a debug message once the response is
+ * written (see {@link
+ * WriterHelper#logRelatedModelCacheStatistics(HttpServletRequest)}).
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RelatedModelCache {
+
+	/**
+	 * Returns the request's related model cache, creating it if it doesn't
+	 * exist yet. The cache must be created from the thread handling the
+	 * request; threads writing the same response concurrently get it through
+	 * the request returned by {@link
+	 * WriterHelper#getDetachedHttpServletRequest(HttpServletRequest)}.
+	 *
+	 * @param  httpServletRequest the actual HTTP servlet request
+	 * @return the request's related model cache
+	 * @review
+	 */
+	public static RelatedModelCache getRelatedModelCache(
+		HttpServletRequest httpServletRequest) {
+
+		RelatedModelCache relatedModelCache =
+			(RelatedModelCache)httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (relatedModelCache == null) {
+			relatedModelCache = new RelatedModelCache();
+
+			httpServletRequest.setAttribute(_ATTRIBUTE_NAME, relatedModelCache);
+		}
+
+		return relatedModelCache;
+	}
+
+	/**
+	 * Returns the number of lookups answered from the cache.
+	 *
+	 * @return the number of cache hits
+	 * @review
+	 */
+	public long getHitCount() {
+		return _hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that had to load a model or calculate a
+	 * URL.
+	 *
+	 * @return the number of cache misses
+	 * @review
+	 */
+	public long getMissCount() {
+		return _missCount.sum();
+	}
+
+	/**
+	 * Returns the model identified by a path, loading it with the supplier
+	 * only if it hasn't been loaded before in this request.
+	 *
+	 * @param  modelClass the model's class
+	 * @param  path the path the model's identifier maps to
+	 * @param  supplier the supplier that loads the model
+	 * @return the model, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public <S> Optional<S> getModelOptional(
+		Class<S> modelClass, Path path, Supplier<Optional<S>> supplier) {
+
+		return (Optional<S>)_get(
+			_models, Arrays.asList(modelClass, path.asURI()), supplier);
+	}
+
+	/**
+	 * Returns the URL of the model identified by a path, calculating it with
+	 * the supplier only if it hasn't been calculated before in this request
+	 * with the same transformation.
+	 *
+	 * @param  modelClass the model's class
+	 * @param  path the path the model's identifier maps to
+	 * @param  transformationKey the key of the transformation the supplier
+	 *         applies to the URL
+	 * @param  supplier the supplier that calculates the URL
+	 * @return the model's URL
+	 * @review
+	 */
+	public String getURL(
+		Class<?> modelClass, Path path, Object transformationKey,
+		Supplier<String> supplier) {
+
+		return _get(
+			_urls, Arrays.asList(modelClass, path.asURI(), transformationKey),
+			supplier);
+	}
+
+	private <V> V _get(
+		Map<List<Object>, V> map, List<Object> key,
+		Supplier<? extends V> supplier) {
+
+		V value = map.get(key);
+
+		if (value != null) {
+			_hitCount.increment();
+
+			return value;
+		}
+
+		_missCount.increment();
+
+		value = supplier.get();
+
+		map.put(key, value);
+
+		return value;
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		RelatedModelCache.class.getName();
+
+	private final LongAdder _hitCount = new LongAdder();
+	private final LongAdder _missCount = new LongAdder();
+	private final Map<List<Object>, Optional<?>> _models =
+		new ConcurrentHashMap<>();
+	private final Map<List<Object>, String> _urls = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
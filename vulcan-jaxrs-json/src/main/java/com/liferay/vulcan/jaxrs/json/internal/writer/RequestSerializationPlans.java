@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.liferay.vulcan.response.control.Fields;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds, for the duration of a request, the {@link SerializationPlan} of every
+ * model class written in the response, already filtered with the request's
+ * {@link Fields}. This way the fields filter is applied once per model class
+ * instead of once per model and field.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RequestSerializationPlans {
+
+	public RequestSerializationPlans(
+		CollectionResourceManager collectionResourceManager, Fields fields) {
+
+		_collectionResourceManager = collectionResourceManager;
+		_fields = fields;
+	}
+
+	/**
+	 * Returns the serialization plan of the model class, filtered with the
+	 * request's fields, if present. Returns {@code Optional#empty()} if no
+	 * representor can be found.
+	 *
+	 * @param  modelClass the model class
+	 * @return the filtered serialization plan, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public <T> Optional<SerializationPlan<T>> getSerializationPlanOptional(
+		Class<T> modelClass) {
+
+		Optional<?> optional = _serializationPlans.computeIfAbsent(
+			modelClass, this::_getFilteredSerializationPlanOptional);
+
+		return (Optional<SerializationPlan<T>>)optional;
+	}
+
+	private <T> Optional<SerializationPlan<T>>
+		_getFilteredSerializationPlanOptional(Class<T> modelClass) {
+
+		Optional<SerializationPlan<T>> optional =
+			_collectionResourceManager.getSerializationPlanOptional(modelClass);
+
+		return optional.map(
+			serializationPlan -> serializationPlan.filter(
+				_fields.getFieldsPredicate(serializationPlan.getTypes())));
+	}
+
+	private final CollectionResourceManager _collectionResourceManager;
+	private final Fields _fields;
+	private final Map<Class<?>, Optional<?>> _serializationPlans =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
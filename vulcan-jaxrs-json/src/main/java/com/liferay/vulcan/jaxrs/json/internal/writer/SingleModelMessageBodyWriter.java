@@ -17,12 +17,10 @@ package com.liferay.vulcan.jaxrs.json.internal.writer;
 import static org.osgi.service.component.annotations.ReferenceCardinality.AT_LEAST_ONE;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
-import com.google.gson.JsonObject;
-
-import com.liferay.vulcan.alias.BinaryFunction;
 import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.error.VulcanDeveloperError.MustHaveProvider;
 import com.liferay.vulcan.jaxrs.json.internal.JSONObjectBuilderImpl;
+import com.liferay.vulcan.jaxrs.json.internal.StreamingJSONObjectBuilderImpl;
 import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
@@ -30,19 +28,18 @@ import com.liferay.vulcan.message.json.SingleModelMessageMapper;
 import com.liferay.vulcan.pagination.SingleModel;
 import com.liferay.vulcan.resource.RelatedCollection;
 import com.liferay.vulcan.resource.RelatedModel;
-import com.liferay.vulcan.resource.Representor;
-import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.response.control.Embedded;
 import com.liferay.vulcan.response.control.Fields;
 import com.liferay.vulcan.result.Try;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
 import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
 import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
+import com.liferay.vulcan.wiring.osgi.util.MessageMapperIndex;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -50,7 +47,6 @@ import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -64,6 +60,7 @@ import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -71,6 +68,13 @@ import org.osgi.service.component.annotations.Reference;
  * Gives Vulcan the ability to write single models. For that end it uses the
  * right {@link SingleModelMessageMapper} in accordance with the media type.
  *
+ * <p>
+ * If the {@link ItemFragmentCache} is enabled and the model can be cached,
+ * the whole JSON object is stored after being written, and copied from the
+ * cache when the same version of the model is requested again (see {@link
+ * ItemFragments}).
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -83,6 +87,12 @@ import org.osgi.service.component.annotations.Reference;
 public class SingleModelMessageBodyWriter<T>
 	implements MessageBodyWriter<Try.Success<SingleModel<T>>> {
 
+	@Activate
+	public void activate() {
+		_singleModelMessageMapperIndex = new MessageMapperIndex<>(
+			_singleModelMessageMappers, SingleModelMessageMapper::getMediaType);
+	}
+
 	@Override
 	public long getSize(
 		Try.Success<SingleModel<T>> success, Class<?> clazz, Type genericType,
@@ -99,9 +109,9 @@ public class SingleModelMessageBodyWriter<T>
 		Try<Class<Object>> classTry =
 			GenericUtil.getFirstGenericTypeArgumentTry(genericType);
 
-		return classTry.filter(
-			SingleModel.class::equals
-		).isSuccess();
+		Class<Object> typeArgumentClass = classTry.orElse(null);
+
+		return SingleModel.class.equals(typeArgumentClass);
 	}
 
 	@Override
@@ -115,12 +125,11 @@ public class SingleModelMessageBodyWriter<T>
 		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
 			entityStream, StandardCharsets.UTF_8);
 
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+		List<SingleModelMessageMapper<T>> singleModelMessageMappers =
+			_singleModelMessageMapperIndex.getMessageMappers(mediaType);
 
 		Stream<SingleModelMessageMapper<T>> stream =
-			_singleModelMessageMappers.stream();
-
-		String mediaTypeString = mediaType.toString();
+			singleModelMessageMappers.stream();
 
 		SingleModel<T> singleModel = success.getValue();
 
@@ -129,17 +138,14 @@ public class SingleModelMessageBodyWriter<T>
 		Class<T> modelClass = singleModel.getModelClass();
 
 		SingleModelMessageMapper<T> singleModelMessageMapper = stream.filter(
-			messageMapper ->
-				mediaTypeString.equals(messageMapper.getMediaType()) &&
-				messageMapper.supports(model, modelClass, _httpHeaders)
+			messageMapper -> messageMapper.supports(
+				model, modelClass, _httpHeaders)
 		).findFirst(
 		).orElseThrow(
 			() -> new VulcanDeveloperError.MustHaveMessageMapper(
-				mediaTypeString, modelClass)
+				mediaType.toString(), modelClass)
 		);
 
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilderImpl();
-
 		Optional<Fields> fieldsOptional = _providerManager.provide(
 			Fields.class, _httpServletRequest);
 
@@ -158,115 +164,164 @@ public class SingleModelMessageBodyWriter<T>
 		Language language = optional.orElseThrow(
 			() -> new MustHaveProvider(Language.class));
 
-		_writeModel(
-			singleModelMessageMapper, jsonObjectBuilder, singleModel, fields,
-			embedded, language);
+		RequestSerializationPlans requestSerializationPlans =
+			new RequestSerializationPlans(_collectionResourceManager, fields);
+
+		ItemFragments itemFragments = new ItemFragments(
+			_itemFragmentCache, _writerHelper, singleModelMessageMapper,
+			mediaType, language, embedded.getRootNode(), _httpServletRequest);
+
+		Optional<String> keyOptional = itemFragments.getKeyOptional(
+			singleModel,
+			requestSerializationPlans.getSerializationPlanOptional(modelClass),
+			_httpServletRequest);
+
+		if (keyOptional.isPresent()) {
+			Optional<String> fragmentOptional =
+				itemFragments.getFragmentOptional(keyOptional);
+
+			String fragment = fragmentOptional.orElseGet(
+				() -> {
+					JSONObjectBuilder jsonObjectBuilder =
+						new JSONObjectBuilderImpl();
+
+					_writeModel(
+						singleModelMessageMapper, jsonObjectBuilder,
+						singleModel, requestSerializationPlans,
+						embedded.getRootNode(), language);
+
+					return itemFragments.putFragment(
+						keyOptional.get(), jsonObjectBuilder);
+				});
+
+			outputStreamWriter.write(fragment);
+
+			outputStreamWriter.write(System.lineSeparator());
+
+			outputStreamWriter.close();
+
+			_writerHelper.logRelatedModelCacheStatistics(_httpServletRequest);
 
-		JsonObject jsonObject = jsonObjectBuilder.build();
+			return;
+		}
 
-		printWriter.println(jsonObject.toString());
+		StreamingJSONObjectBuilderImpl jsonObjectBuilder =
+			new StreamingJSONObjectBuilderImpl(outputStreamWriter);
 
-		printWriter.close();
+		_writeModel(
+			singleModelMessageMapper, jsonObjectBuilder, singleModel,
+			requestSerializationPlans, embedded.getRootNode(), language);
+
+		jsonObjectBuilder.close();
+
+		_writerHelper.logRelatedModelCacheStatistics(_httpServletRequest);
 	}
 
 	private <U, V> void _writeEmbeddedRelatedModel(
 		SingleModelMessageMapper<?> singleModelMessageMapper,
 		JSONObjectBuilder jsonObjectBuilder, RelatedModel<U, V> relatedModel,
 		SingleModel<U> parentSingleModel,
-		FunctionalList<String> parentEmbeddedPathElements, Fields fields,
-		Embedded embedded, Language language) {
+		FunctionalList<String> parentEmbeddedPathElements,
+		RequestSerializationPlans requestSerializationPlans,
+		Embedded.Node parentEmbeddedNode, Language language) {
 
 		_writerHelper.writeRelatedModel(
 			relatedModel, parentSingleModel, parentEmbeddedPathElements,
-			_httpServletRequest, fields, embedded,
-			(singleModel, embeddedPathElements) -> {
+			_httpServletRequest, parentEmbeddedNode,
+			(singleModel, embeddedPathElements, embeddedNode) -> {
 				Class<V> modelClass = singleModel.getModelClass();
 
-				_writerHelper.writeBooleanFields(
-					singleModel.getModel(), modelClass, fields,
-					(fieldName, value) ->
-						singleModelMessageMapper.
-							mapEmbeddedResourceBooleanField(
-								jsonObjectBuilder, embeddedPathElements,
-								fieldName, value));
+				Optional<SerializationPlan<V>> serializationPlanOptional =
+					requestSerializationPlans.getSerializationPlanOptional(
+						modelClass);
 
-				_writerHelper.writeLocalizedStringFields(
-					singleModel.getModel(), modelClass, fields, language,
-					(fieldName, value) ->
-						singleModelMessageMapper.mapEmbeddedResourceStringField(
-							jsonObjectBuilder, embeddedPathElements, fieldName,
-							value));
+				serializationPlanOptional.ifPresent(
+					serializationPlan -> {
+						V model = singleModel.getModel();
 
-				_writerHelper.writeNumberFields(
-					singleModel.getModel(), modelClass, fields,
-					(fieldName, value) ->
-						singleModelMessageMapper.mapEmbeddedResourceNumberField(
-							jsonObjectBuilder, embeddedPathElements, fieldName,
-							value));
+						_writerHelper.writeBooleanFields(
+							model, serializationPlan,
+							(fieldName, value) ->
+								singleModelMessageMapper.
+									mapEmbeddedResourceBooleanField(
+										jsonObjectBuilder, embeddedPathElements,
+										fieldName, value));
 
-				_writerHelper.writeStringFields(
-					singleModel.getModel(), modelClass, fields,
-					(fieldName, value) ->
-						singleModelMessageMapper.mapEmbeddedResourceStringField(
-							jsonObjectBuilder, embeddedPathElements, fieldName,
-							value));
+						_writerHelper.writeLocalizedStringFields(
+							model, serializationPlan, language,
+							(fieldName, value) ->
+								singleModelMessageMapper.
+									mapEmbeddedResourceStringField(
+										jsonObjectBuilder, embeddedPathElements,
+										fieldName, value));
 
-				_writerHelper.writeLinks(
-					modelClass, fields,
-					(fieldName, link) ->
-						singleModelMessageMapper.mapEmbeddedResourceLink(
-							jsonObjectBuilder, embeddedPathElements, fieldName,
-							link));
+						_writerHelper.writeNumberFields(
+							model, serializationPlan,
+							(fieldName, value) ->
+								singleModelMessageMapper.
+									mapEmbeddedResourceNumberField(
+										jsonObjectBuilder, embeddedPathElements,
+										fieldName, value));
 
-				_writerHelper.writeTypes(
-					modelClass,
-					types -> singleModelMessageMapper.mapEmbeddedResourceTypes(
-						jsonObjectBuilder, embeddedPathElements, types));
+						_writerHelper.writeStringFields(
+							model, serializationPlan,
+							(fieldName, value) ->
+								singleModelMessageMapper.
+									mapEmbeddedResourceStringField(
+										jsonObjectBuilder, embeddedPathElements,
+										fieldName, value));
 
-				Optional<Representor<V, Identifier>> representorOptional =
-					_collectionResourceManager.getRepresentorOptional(
-						modelClass);
+						_writerHelper.writeLinks(
+							serializationPlan,
+							(fieldName, link) ->
+								singleModelMessageMapper.
+									mapEmbeddedResourceLink(
+										jsonObjectBuilder, embeddedPathElements,
+										fieldName, link));
 
-				representorOptional.ifPresent(
-					representor -> {
-						Map<String, BinaryFunction<V>> binaryFunctions =
-							representor.getBinaryFunctions();
+						_writerHelper.writeTypes(
+							serializationPlan,
+							types ->
+								singleModelMessageMapper.
+									mapEmbeddedResourceTypes(
+										jsonObjectBuilder, embeddedPathElements,
+										types));
 
 						_writerHelper.writeBinaries(
-							binaryFunctions, singleModel, _httpServletRequest,
+							serializationPlan, singleModel, _httpServletRequest,
 							(fieldName, value) ->
 								singleModelMessageMapper.
 									mapEmbeddedResourceStringField(
 										jsonObjectBuilder, embeddedPathElements,
 										fieldName, value));
 
-						List<RelatedModel<V, ?>> embeddedRelatedModels =
-							representor.getEmbeddedRelatedModels();
+						for (RelatedModel<V, ?> embeddedRelatedModel :
+								serializationPlan.getEmbeddedRelatedModels()) {
 
-						embeddedRelatedModels.forEach(
-							embeddedRelatedModel -> _writeEmbeddedRelatedModel(
+							_writeEmbeddedRelatedModel(
 								singleModelMessageMapper, jsonObjectBuilder,
 								embeddedRelatedModel, singleModel,
-								embeddedPathElements, fields, embedded,
-								language));
+								embeddedPathElements, requestSerializationPlans,
+								embeddedNode, language);
+						}
 
-						List<RelatedModel<V, ?>> linkedRelatedModels =
-							representor.getLinkedRelatedModels();
+						for (RelatedModel<V, ?> linkedRelatedModel :
+								serializationPlan.getLinkedRelatedModels()) {
 
-						linkedRelatedModels.forEach(
-							linkedRelatedModel -> _writeLinkedRelatedModel(
+							_writeLinkedRelatedModel(
 								singleModelMessageMapper, jsonObjectBuilder,
 								linkedRelatedModel, singleModel,
-								embeddedPathElements, fields, embedded));
+								embeddedPathElements, embeddedNode);
+						}
 
-						Stream<RelatedCollection<V, ?>> stream =
-							representor.getRelatedCollections();
+						for (RelatedCollection<V, ?> relatedCollection :
+								serializationPlan.getRelatedCollections()) {
 
-						stream.forEach(
-							relatedCollection -> _writeRelatedCollection(
+							_writeRelatedCollection(
 								singleModelMessageMapper, jsonObjectBuilder,
 								relatedCollection, singleModel,
-								embeddedPathElements, fields));
+								embeddedPathElements);
+						}
 					});
 			},
 			(url, embeddedPathElements, isEmbedded) -> {
@@ -285,12 +340,12 @@ public class SingleModelMessageBodyWriter<T>
 		SingleModelMessageMapper<?> singleModelMessageMapper,
 		JSONObjectBuilder jsonObjectBuilder, RelatedModel<U, V> relatedModel,
 		SingleModel<U> parentSingleModel,
-		FunctionalList<String> parentEmbeddedPathElements, Fields fields,
-		Embedded embedded) {
+		FunctionalList<String> parentEmbeddedPathElements,
+		Embedded.Node parentEmbeddedNode) {
 
 		_writerHelper.writeLinkedRelatedModel(
 			relatedModel, parentSingleModel, parentEmbeddedPathElements,
-			_httpServletRequest, fields, embedded,
+			_httpServletRequest, parentEmbeddedNode,
 			(url, embeddedPathElements) ->
 				singleModelMessageMapper.mapLinkedResourceURL(
 					jsonObjectBuilder, embeddedPathElements, url));
@@ -299,7 +354,8 @@ public class SingleModelMessageBodyWriter<T>
 	private <U> void _writeModel(
 		SingleModelMessageMapper<U> singleModelMessageMapper,
 		JSONObjectBuilder jsonObjectBuilder, SingleModel<U> singleModel,
-		Fields fields, Embedded embedded, Language language) {
+		RequestSerializationPlans requestSerializationPlans,
+		Embedded.Node embeddedNode, Language language) {
 
 		U model = singleModel.getModel();
 
@@ -308,47 +364,43 @@ public class SingleModelMessageBodyWriter<T>
 		singleModelMessageMapper.onStart(
 			jsonObjectBuilder, model, modelClass, _httpHeaders);
 
-		_writerHelper.writeBooleanFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
-			(field, value) -> singleModelMessageMapper.mapBooleanField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeLocalizedStringFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
-			language,
-			(field, value) -> singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeNumberFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
-			(field, value) -> singleModelMessageMapper.mapNumberField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeStringFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
-			(field, value) -> singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeLinks(
-			modelClass, fields,
-			(fieldName, link) -> singleModelMessageMapper.mapLink(
-				jsonObjectBuilder, fieldName, link));
-
-		_writerHelper.writeTypes(
-			modelClass,
-			types -> singleModelMessageMapper.mapTypes(
-				jsonObjectBuilder, types));
-
-		Optional<Representor<U, Identifier>> representorOptional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
-
-		representorOptional.ifPresent(
-			representor -> {
-				Map<String, BinaryFunction<U>> binaryFunctions =
-					representor.getBinaryFunctions();
+		Optional<SerializationPlan<U>> serializationPlanOptional =
+			requestSerializationPlans.getSerializationPlanOptional(modelClass);
+
+		serializationPlanOptional.ifPresent(
+			serializationPlan -> {
+				_writerHelper.writeBooleanFields(
+					model, serializationPlan,
+					(field, value) -> singleModelMessageMapper.mapBooleanField(
+						jsonObjectBuilder, field, value));
+
+				_writerHelper.writeLocalizedStringFields(
+					model, serializationPlan, language,
+					(field, value) -> singleModelMessageMapper.mapStringField(
+						jsonObjectBuilder, field, value));
+
+				_writerHelper.writeNumberFields(
+					model, serializationPlan,
+					(field, value) -> singleModelMessageMapper.mapNumberField(
+						jsonObjectBuilder, field, value));
+
+				_writerHelper.writeStringFields(
+					model, serializationPlan,
+					(field, value) -> singleModelMessageMapper.mapStringField(
+						jsonObjectBuilder, field, value));
+
+				_writerHelper.writeLinks(
+					serializationPlan,
+					(fieldName, link) -> singleModelMessageMapper.mapLink(
+						jsonObjectBuilder, fieldName, link));
+
+				_writerHelper.writeTypes(
+					serializationPlan,
+					types -> singleModelMessageMapper.mapTypes(
+						jsonObjectBuilder, types));
 
 				_writerHelper.writeBinaries(
-					binaryFunctions, singleModel, _httpServletRequest,
+					serializationPlan, singleModel, _httpServletRequest,
 					(field, value) -> singleModelMessageMapper.mapStringField(
 						jsonObjectBuilder, field, value));
 
@@ -360,31 +412,30 @@ public class SingleModelMessageBodyWriter<T>
 					url -> singleModelMessageMapper.mapSelfURL(
 						jsonObjectBuilder, url));
 
-				List<RelatedModel<U, ?>> embeddedRelatedModels =
-					representor.getEmbeddedRelatedModels();
+				for (RelatedModel<U, ?> embeddedRelatedModel :
+						serializationPlan.getEmbeddedRelatedModels()) {
 
-				embeddedRelatedModels.forEach(
-					embeddedRelatedModel -> _writeEmbeddedRelatedModel(
+					_writeEmbeddedRelatedModel(
 						singleModelMessageMapper, jsonObjectBuilder,
-						embeddedRelatedModel, singleModel, null, fields,
-						embedded, language));
+						embeddedRelatedModel, singleModel, null,
+						requestSerializationPlans, embeddedNode, language);
+				}
 
-				List<RelatedModel<U, ?>> linkedRelatedModels =
-					representor.getLinkedRelatedModels();
+				for (RelatedModel<U, ?> linkedRelatedModel :
+						serializationPlan.getLinkedRelatedModels()) {
 
-				linkedRelatedModels.forEach(
-					linkedRelatedModel -> _writeLinkedRelatedModel(
+					_writeLinkedRelatedModel(
 						singleModelMessageMapper, jsonObjectBuilder,
-						linkedRelatedModel, singleModel, null, fields,
-						embedded));
+						linkedRelatedModel, singleModel, null, embeddedNode);
+				}
 
-				Stream<RelatedCollection<U, ?>> stream =
-					representor.getRelatedCollections();
+				for (RelatedCollection<U, ?> relatedCollection :
+						serializationPlan.getRelatedCollections()) {
 
-				stream.forEach(
-					relatedCollection -> _writeRelatedCollection(
+					_writeRelatedCollection(
 						singleModelMessageMapper, jsonObjectBuilder,
-						relatedCollection, singleModel, null, fields));
+						relatedCollection, singleModel, null);
+				}
 			});
 
 		singleModelMessageMapper.onFinish(
@@ -396,11 +447,11 @@ public class SingleModelMessageBodyWriter<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		RelatedCollection<U, V> relatedCollection,
 		SingleModel<U> parentSingleModel,
-		FunctionalList<String> parentEmbeddedPathElements, Fields fields) {
+		FunctionalList<String> parentEmbeddedPathElements) {
 
 		_writerHelper.writeRelatedCollection(
 			relatedCollection, parentSingleModel, parentEmbeddedPathElements,
-			_httpServletRequest, fields,
+			_httpServletRequest,
 			(url, embeddedPathElements) ->
 				singleModelMessageMapper.mapLinkedResourceURL(
 					jsonObjectBuilder, embeddedPathElements, url));
@@ -415,9 +466,15 @@ public class SingleModelMessageBodyWriter<T>
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
+	@Reference
+	private ItemFragmentCache _itemFragmentCache;
+
 	@Reference
 	private ProviderManager _providerManager;
 
+	private MessageMapperIndex<SingleModelMessageMapper<T>>
+		_singleModelMessageMapperIndex;
+
 	@Reference(cardinality = AT_LEAST_ONE, policyOption = GREEDY)
 	private List<SingleModelMessageMapper<T>> _singleModelMessageMappers;
 
@@ -19,12 +19,12 @@ import static org.osgi.service.component.annotations.ReferencePolicyOption.GREED
 
 import com.google.gson.JsonObject;
 
-import com.liferay.vulcan.alias.BinaryFunction;
 import com.liferay.vulcan.consumer.TriConsumer;
 import com.liferay.vulcan.jaxrs.json.internal.JSONObjectBuilderImpl;
 import com.liferay.vulcan.jaxrs.json.internal.StringFunctionalList;
 import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.list.FunctionalList;
+import com.liferay.vulcan.logger.VulcanLogger;
 import com.liferay.vulcan.message.json.ErrorMessageMapper;
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
 import com.liferay.vulcan.pagination.Page;
@@ -33,28 +33,26 @@ import com.liferay.vulcan.provider.ServerURLProvider;
 import com.liferay.vulcan.resource.RelatedCollection;
 import com.liferay.vulcan.resource.RelatedModel;
 import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.Routes;
 import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.response.control.Embedded;
-import com.liferay.vulcan.response.control.Fields;
 import com.liferay.vulcan.result.APIError;
 import com.liferay.vulcan.uri.CollectionResourceURITransformer;
 import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.context.RequestContext;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
 import com.liferay.vulcan.wiring.osgi.manager.PathIdentifierMapperManager;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
 
 import java.net.URI;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -76,41 +74,6 @@ import org.osgi.service.component.annotations.Reference;
 @Component(immediate = true, service = WriterHelper.class)
 public class WriterHelper {
 
-	/**
-	 * Helper method to write an {@code APIError} into a JSON object.
-	 *
-	 * @param  errorMessageMapper the correct {@code ErrorMessageMapper} for
-	 *         this combination of {@code APIError}/{@code HttpHeaders}.
-	 * @param  apiError an instance of the apiError.
-	 * @param  httpHeaders the HTTP headers of the current request.
-	 * @return the apiError written in a JSON string.
-	 * @review
-	 */
-	public static String writeError(
-		ErrorMessageMapper errorMessageMapper, APIError apiError,
-		HttpHeaders httpHeaders) {
-
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilderImpl();
-
-		errorMessageMapper.onStart(jsonObjectBuilder, apiError, httpHeaders);
-
-		Optional<String> optional = apiError.getDescription();
-
-		optional.ifPresent(
-			description -> errorMessageMapper.mapDescription(
-				jsonObjectBuilder, description));
-
-		errorMessageMapper.mapStatusCode(
-			jsonObjectBuilder, apiError.getStatusCode());
-		errorMessageMapper.mapTitle(jsonObjectBuilder, apiError.getTitle());
-		errorMessageMapper.mapType(jsonObjectBuilder, apiError.getType());
-		errorMessageMapper.onFinish(jsonObjectBuilder, apiError, httpHeaders);
-
-		JsonObject jsonObject = jsonObjectBuilder.build();
-
-		return jsonObject.toString();
-	}
-
 	/**
 	 * Returns the absolute URL from a relative URI.
 	 *
@@ -122,7 +85,10 @@ public class WriterHelper {
 	public String getAbsoluteURL(
 		HttpServletRequest httpServletRequest, String relativeURI) {
 
-		String serverURL = _serverURLProvider.getServerURL(httpServletRequest);
+		RequestContext requestContext = RequestContext.getRequestContext(
+			httpServletRequest);
+
+		String serverURL = requestContext.getServerURL(_serverURLProvider);
 
 		UriBuilder uriBuilder = UriBuilder.fromPath(serverURL);
 
@@ -158,7 +124,7 @@ public class WriterHelper {
 		Class<T> modelClass = page.getModelClass();
 
 		Optional<String> optional = _collectionResourceManager.getNameOptional(
-			modelClass.getName());
+			modelClass);
 
 		return optional.map(
 			pathString::concat
@@ -171,11 +137,124 @@ public class WriterHelper {
 	}
 
 	/**
-	 * Returns the URL to the resource of a certain model. If a {@link
+	 * Returns a view of the request that can be used from other threads while
+	 * writing the response. The request's context, with its server URL, and
+	 * its {@link RelatedModelCache} are created before detaching the request,
+	 * so every thread shares them.
+	 *
+	 * <p>
+	 * This method must be called from the thread handling the request.
+	 * </p>
+	 *
+	 * @param  httpServletRequest the actual HTTP servlet request.
+	 * @return the detached HTTP servlet request.
+	 * @review
+	 */
+	public HttpServletRequest getDetachedHttpServletRequest(
+		HttpServletRequest httpServletRequest) {
+
+		RequestContext requestContext = RequestContext.getRequestContext(
+			httpServletRequest);
+
+		requestContext.getServerURL(_serverURLProvider);
+
+		RelatedModelCache.getRelatedModelCache(httpServletRequest);
+
+		return new DetachedHttpServletRequest(httpServletRequest);
+	}
+
+	/**
+	 * Returns the {@link Path} of a certain model. If a {@link
 	 * com.liferay.vulcan.resource.CollectionResource} for that model class
 	 * cannot be found, returns {@code Optional#empty()}.
 	 *
 	 * @param  singleModel a single model.
+	 * @return the model's path if present; {@code Optional#empty()}
+	 *         otherwise.
+	 * @review
+	 */
+	public <T> Optional<Path> getPathOptional(SingleModel<T> singleModel) {
+		Class<T> modelClass = singleModel.getModelClass();
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(modelClass);
+
+		return optional.map(
+			representor -> representor.getIdentifier(singleModel.getModel())
+		).flatMap(
+			identifier -> _getPathOptional(identifier, modelClass)
+		);
+	}
+
+	/**
+	 * Returns the related model of a model. If the relation provides an
+	 * identifier function, the related model is memoized in the request's
+	 * {@link RelatedModelCache} by its {@link Path}, so each distinct related
+	 * model is only retrieved once per request. Otherwise, the model function
+	 * is always called.
+	 *
+	 * @param  relatedModel the relation
+	 * @param  modelFunction the function used to retrieve the related model
+	 * @param  parentModel the model
+	 * @param  httpServletRequest the actual HTTP servlet request.
+	 * @return the related model if present; {@code Optional#empty()}
+	 *         otherwise.
+	 * @review
+	 */
+	public <T, U> Optional<U> getRelatedModelOptional(
+		RelatedModel<T, U> relatedModel, Function<T, Optional<U>> modelFunction,
+		T parentModel, HttpServletRequest httpServletRequest) {
+
+		if (relatedModel.getIdentifierFunction() == null) {
+			return modelFunction.apply(parentModel);
+		}
+
+		Optional<Path> optional = getRelatedModelPathOptional(
+			relatedModel, parentModel);
+
+		RelatedModelCache relatedModelCache =
+			RelatedModelCache.getRelatedModelCache(httpServletRequest);
+
+		return optional.flatMap(
+			path -> relatedModelCache.getModelOptional(
+				relatedModel.getModelClass(), path,
+				() -> modelFunction.apply(parentModel)));
+	}
+
+	/**
+	 * Returns the {@link Path} of a model's related model, calculated from the
+	 * identifier returned by the relation's identifier function, without
+	 * retrieving the related model. If the relation doesn't provide an
+	 * identifier function, returns {@code Optional#empty()}.
+	 *
+	 * @param  relatedModel the relation
+	 * @param  parentModel the model
+	 * @return the related model's path if present; {@code Optional#empty()}
+	 *         otherwise.
+	 * @review
+	 */
+	public <T, U> Optional<Path> getRelatedModelPathOptional(
+		RelatedModel<T, U> relatedModel, T parentModel) {
+
+		Function<T, Identifier> identifierFunction =
+			relatedModel.getIdentifierFunction();
+
+		if (identifierFunction == null) {
+			return Optional.empty();
+		}
+
+		return _getPathOptional(
+			identifierFunction.apply(parentModel),
+			relatedModel.getModelClass());
+	}
+
+	/**
+	 * Returns the URL to the resource of a certain model. If a {@link
+	 * com.liferay.vulcan.resource.CollectionResource} for that model class
+	 * cannot be found, returns {@code Optional#empty()}. URLs are memoized in
+	 * the request's {@link RelatedModelCache}.
+	 *
+	 * @param  singleModel a single model.
 	 * @param  httpServletRequest the actual HTTP servlet request.
 	 * @return the single URL for the {@code CollectionResource} if present;
 	 *         {@code Optional#empty()} otherwise.
@@ -189,70 +268,78 @@ public class WriterHelper {
 		Optional<Representor<T, Identifier>> optional =
 			_collectionResourceManager.getRepresentorOptional(modelClass);
 
-		return optional.flatMap(
-			representor -> {
-				Identifier identifier = representor.getIdentifier(
-					singleModel.getModel());
-
-				Class<Identifier> identifierClass =
-					representor.getIdentifierClass();
-
-				return _pathIdentifierMapperManager.map(
-					identifier, identifierClass, modelClass);
-			}
-		).map(
-			Path::asURI
-		).map(
-			"/p/"::concat
-		).map(
-			_getTransformURIFunction(
+		return optional.map(
+			representor -> representor.getIdentifier(singleModel.getModel())
+		).flatMap(
+			identifier -> _getSingleURLOptional(
+				identifier, modelClass, httpServletRequest,
+				"transformCollectionItemSingleResourceURI",
 				(uri, transformer) ->
 					transformer.transformCollectionItemSingleResourceURI(
 						uri, singleModel))
-		).map(
-			uri -> getAbsoluteURL(httpServletRequest, uri)
 		);
 	}
 
+	/**
+	 * Logs the hit and miss counts of the request's {@link RelatedModelCache}
+	 * as a debug message, so the memoization of related models and URLs can be
+	 * tuned. Nothing is logged if there isn't a {@link VulcanLogger} with
+	 * debug messages enabled.
+	 *
+	 * @param  httpServletRequest the actual HTTP servlet request.
+	 * @review
+	 */
+	public void logRelatedModelCacheStatistics(
+		HttpServletRequest httpServletRequest) {
+
+		VulcanLogger vulcanLogger = _vulcanLogger;
+
+		if ((vulcanLogger == null) || !vulcanLogger.isDebugEnabled()) {
+			return;
+		}
+
+		RelatedModelCache relatedModelCache =
+			RelatedModelCache.getRelatedModelCache(httpServletRequest);
+
+		vulcanLogger.debug(
+			"Related model cache of " + httpServletRequest.getMethod() + " " +
+				httpServletRequest.getRequestURI() + ": " +
+					relatedModelCache.getHitCount() + " hits, " +
+						relatedModelCache.getMissCount() + " misses");
+	}
+
 	/**
 	 * Helper method to write binary resources. It uses a bi consumer so each
 	 * {@link javax.ws.rs.ext.MessageBodyWriter} can write each binary
 	 * differently.
 	 *
-	 * @param  binaryFunctions functions used to obtain the binaries.
+	 * @param  serializationPlan the serialization plan of the model class.
 	 * @param  singleModel a single model.
 	 * @param  httpServletRequest the actual HTTP request.
 	 * @param  biConsumer the consumer that will be called to write each binary.
 	 * @review
 	 */
 	public <T> void writeBinaries(
-		Map<String, BinaryFunction<T>> binaryFunctions,
-		SingleModel<T> singleModel, HttpServletRequest httpServletRequest,
+		SerializationPlan<T> serializationPlan, SingleModel<T> singleModel,
+		HttpServletRequest httpServletRequest,
 		BiConsumer<String, String> biConsumer) {
 
-		Class<T> modelClass = singleModel.getModelClass();
-
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+		String[] binaryKeys = serializationPlan.getBinaryKeys();
 
-		optional.flatMap(
-			representor -> {
-				Identifier identifier = representor.getIdentifier(
-					singleModel.getModel());
+		if (binaryKeys.length == 0) {
+			return;
+		}
 
-				Class<Identifier> identifierClass =
-					representor.getIdentifierClass();
+		Optional<Path> optional = _getPathOptional(
+			serializationPlan, singleModel);
 
-				return _pathIdentifierMapperManager.map(
-					identifier, identifierClass, modelClass);
-			}
-		).map(
+		optional.map(
 			Path::asURI
 		).map(
 			"/b/"::concat
 		).ifPresent(
 			resourceURI -> {
-				for (String binaryId : binaryFunctions.keySet()) {
+				for (String binaryId : binaryKeys) {
 					String binaryURI = resourceURI + binaryId;
 
 					Function<String, String> transformURIFunction =
@@ -274,47 +361,66 @@ public class WriterHelper {
 	}
 
 	/**
-	 * Helper method to write a model number fields. It uses a consumer so each
-	 * {@link javax.ws.rs.ext.MessageBodyWriter} can write each field
+	 * Helper method to write a model boolean fields. It uses a consumer so
+	 * each {@link javax.ws.rs.ext.MessageBodyWriter} can write each field
 	 * differently.
 	 *
 	 * @param  model a model.
-	 * @param  modelClass a model class.
-	 * @param  fields the requested fields.
+	 * @param  serializationPlan the serialization plan of the model class,
+	 *         filtered with the requested fields.
 	 * @param  biConsumer the consumer that will be called to write each field.
 	 * @review
 	 */
 	public <T> void writeBooleanFields(
-		T model, Class<T> modelClass, Fields fields,
+		T model, SerializationPlan<T> serializationPlan,
 		BiConsumer<String, Boolean> biConsumer) {
 
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
+		String[] keys = serializationPlan.getBooleanKeys();
+		Function<T, Boolean>[] functions =
+			serializationPlan.getBooleanFunctions();
 
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+		for (int i = 0; i < keys.length; i++) {
+			Boolean data = functions[i].apply(model);
 
-		optional.map(
-			Representor::getBooleanFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					Function<T, Boolean> fieldFunction = entry.getValue();
+			if (data != null) {
+				biConsumer.accept(keys[i], data);
+			}
+		}
+	}
+
+	/**
+	 * Helper method to write an {@code APIError} into a JSON object.
+	 *
+	 * @param  errorMessageMapper the correct {@code ErrorMessageMapper} for
+	 *         this combination of {@code APIError}/{@code HttpHeaders}.
+	 * @param  apiError an instance of the apiError.
+	 * @param  httpHeaders the HTTP headers of the current request.
+	 * @return the apiError written in a JSON string.
+	 * @review
+	 */
+	public String writeError(
+		ErrorMessageMapper errorMessageMapper, APIError apiError,
+		HttpHeaders httpHeaders) {
 
-					Boolean data = fieldFunction.apply(model);
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilderImpl();
 
-					if (data != null) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
+		errorMessageMapper.onStart(jsonObjectBuilder, apiError, httpHeaders);
+
+		Optional<String> optional = apiError.getDescription();
+
+		optional.ifPresent(
+			description -> errorMessageMapper.mapDescription(
+				jsonObjectBuilder, description));
+
+		errorMessageMapper.mapStatusCode(
+			jsonObjectBuilder, apiError.getStatusCode());
+		errorMessageMapper.mapTitle(jsonObjectBuilder, apiError.getTitle());
+		errorMessageMapper.mapType(jsonObjectBuilder, apiError.getType());
+		errorMessageMapper.onFinish(jsonObjectBuilder, apiError, httpHeaders);
+
+		JsonObject jsonObject = jsonObjectBuilder.build();
+
+		return jsonObject.toString();
 	}
 
 	/**
@@ -326,8 +432,7 @@ public class WriterHelper {
 	 * @param  parentSingleModel the parent single model.
 	 * @param  parentEmbeddedPathElements list of embedded path elements.
 	 * @param  httpServletRequest the actual HTTP servlet request.
-	 * @param  fields the requested fields.
-	 * @param  embedded the embedded resources info.
+	 * @param  parentEmbeddedNode the embedded paths trie node of the parent.
 	 * @param  biConsumer the consumer that will be called to write the related
 	 *         model.
 	 * @review
@@ -335,16 +440,48 @@ public class WriterHelper {
 	public <T, U> void writeLinkedRelatedModel(
 		RelatedModel<T, U> relatedModel, SingleModel<T> parentSingleModel,
 		FunctionalList<String> parentEmbeddedPathElements,
-		HttpServletRequest httpServletRequest, Fields fields, Embedded embedded,
+		HttpServletRequest httpServletRequest, Embedded.Node parentEmbeddedNode,
 		BiConsumer<String, FunctionalList<String>> biConsumer) {
 
-		BiConsumer<SingleModel<U>, FunctionalList<String>> emptyConsumer =
-			(singleModel, embeddedPathElements) -> {
-			};
+		Class<U> modelClass = relatedModel.getModelClass();
+
+		Function<T, Identifier> identifierFunction =
+			relatedModel.getIdentifierFunction();
+
+		if ((identifierFunction != null) && _isIdentifierURITransformed()) {
+			Identifier identifier = identifierFunction.apply(
+				parentSingleModel.getModel());
+
+			Optional<String> optional = _getSingleURLOptional(
+				identifier, modelClass, httpServletRequest);
+
+			optional.ifPresent(
+				url -> biConsumer.accept(
+					url,
+					new StringFunctionalList(
+						parentEmbeddedPathElements, relatedModel.getKey())));
+
+			return;
+		}
+
+		Function<T, Optional<U>> modelFunction =
+			relatedModel.getModelFunction();
+
+		if (identifierFunction != null) {
+			modelFunction = model -> _getSingleModelOptional(
+				identifierFunction.apply(model), modelClass,
+				httpServletRequest);
+		}
+
+		TriConsumer<SingleModel<U>, FunctionalList<String>, Embedded.Node>
+			emptyConsumer =
+				(singleModel, embeddedPathElements, embeddedNode) -> {
+				};
 
 		writeRelatedModel(
-			relatedModel, parentSingleModel, parentEmbeddedPathElements,
-			httpServletRequest, fields, embedded, emptyConsumer,
+			relatedModel, modelFunction, parentSingleModel,
+			parentEmbeddedPathElements, httpServletRequest, parentEmbeddedNode,
+			emptyConsumer,
 			(url, embeddedPathElements, isEmbedded) -> biConsumer.accept(
 				url, embeddedPathElements));
 	}
@@ -353,40 +490,23 @@ public class WriterHelper {
 	 * Helper method to write a model links. It uses a consumer so each {@link
 	 * javax.ws.rs.ext.MessageBodyWriter} can write each link differently.
 	 *
-	 * @param  modelClass the model class.
-	 * @param  fields the requested fields.
+	 * @param  serializationPlan the serialization plan of the model class,
+	 *         filtered with the requested fields.
 	 * @param  biConsumer the consumer that will be called to write each link.
 	 * @review
 	 */
 	public <T> void writeLinks(
-		Class<T> modelClass, Fields fields,
+		SerializationPlan<T> serializationPlan,
 		BiConsumer<String, String> biConsumer) {
 
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
-
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+		String[] keys = serializationPlan.getLinkKeys();
+		String[] urls = serializationPlan.getLinkURLs();
 
-		optional.map(
-			Representor::getLinks
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					String link = entry.getValue();
-
-					if (link != null) {
-						biConsumer.accept(entry.getKey(), link);
-					}
-				}
-			)
-		);
+		for (int i = 0; i < keys.length; i++) {
+			if (urls[i] != null) {
+				biConsumer.accept(keys[i], urls[i]);
+			}
+		}
 	}
 
 	/**
@@ -395,44 +515,27 @@ public class WriterHelper {
 	 * field differently.
 	 *
 	 * @param  model a model.
-	 * @param  modelClass a model class.
-	 * @param  fields the requested fields.
+	 * @param  serializationPlan the serialization plan of the model class,
+	 *         filtered with the requested fields.
 	 * @param  language the language requested by the user.
 	 * @param  biConsumer the consumer that will be called to write each field.
 	 * @review
 	 */
 	public <T> void writeLocalizedStringFields(
-		T model, Class<T> modelClass, Fields fields, Language language,
+		T model, SerializationPlan<T> serializationPlan, Language language,
 		BiConsumer<String, String> biConsumer) {
 
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
+		String[] keys = serializationPlan.getLocalizedStringKeys();
+		BiFunction<T, Language, String>[] functions =
+			serializationPlan.getLocalizedStringFunctions();
 
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+		for (int i = 0; i < keys.length; i++) {
+			String data = functions[i].apply(model, language);
 
-		optional.map(
-			Representor::getLocalizedStringFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					BiFunction<T, Language, String> fieldFunction =
-						entry.getValue();
-
-					String data = fieldFunction.apply(model, language);
-
-					if ((data != null) && !data.isEmpty()) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
+			if ((data != null) && !data.isEmpty()) {
+				biConsumer.accept(keys[i], data);
+			}
+		}
 	}
 
 	/**
@@ -441,42 +544,26 @@ public class WriterHelper {
 	 * differently.
 	 *
 	 * @param  model a model.
-	 * @param  modelClass a model class.
-	 * @param  fields the requested fields.
+	 * @param  serializationPlan the serialization plan of the model class,
+	 *         filtered with the requested fields.
 	 * @param  biConsumer the consumer that will be called to write each field.
 	 * @review
 	 */
 	public <T> void writeNumberFields(
-		T model, Class<T> modelClass, Fields fields,
+		T model, SerializationPlan<T> serializationPlan,
 		BiConsumer<String, Number> biConsumer) {
 
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
+		String[] keys = serializationPlan.getNumberKeys();
+		Function<T, Number>[] functions =
+			serializationPlan.getNumberFunctions();
 
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+		for (int i = 0; i < keys.length; i++) {
+			Number data = functions[i].apply(model);
 
-		optional.map(
-			Representor::getNumberFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					Function<T, Number> fieldFunction = entry.getValue();
-
-					Number data = fieldFunction.apply(model);
-
-					if (data != null) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
+			if (data != null) {
+				biConsumer.accept(keys[i], data);
+			}
+		}
 	}
 
 	/**
@@ -487,7 +574,6 @@ public class WriterHelper {
 	 * @param  parentSingleModel the parent single model.
 	 * @param  parentEmbeddedPathElements list of embedded path elements.
 	 * @param  httpServletRequest the actual HTTP servlet request.
-	 * @param  fields the requested fields.
 	 * @param  biConsumer the consumer that will be called to write the related
 	 *         collection URL.
 	 * @review
@@ -496,25 +582,18 @@ public class WriterHelper {
 		RelatedCollection<U, V> relatedCollection,
 		SingleModel<U> parentSingleModel,
 		FunctionalList<String> parentEmbeddedPathElements,
-		HttpServletRequest httpServletRequest, Fields fields,
+		HttpServletRequest httpServletRequest,
 		BiConsumer<String, FunctionalList<String>> biConsumer) {
 
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			parentSingleModel.getModelClass(), fields);
-
 		String key = relatedCollection.getKey();
 
-		if (!fieldsPredicate.test(key)) {
-			return;
-		}
-
 		Optional<String> singleURLOptional = getSingleURLOptional(
 			parentSingleModel, httpServletRequest);
 
 		Class<V> modelClass = relatedCollection.getModelClass();
 
 		Optional<String> nameOptional =
-			_collectionResourceManager.getNameOptional(modelClass.getName());
+			_collectionResourceManager.getNameOptional(modelClass);
 
 		nameOptional.flatMap(
 			name -> singleURLOptional.map(singleURL -> singleURL + "/" + name)
@@ -532,16 +611,18 @@ public class WriterHelper {
 	 * Helper method to write a model related models. It uses two consumers (one
 	 * for writing the model info, and another for writing its URL) so each
 	 * {@link javax.ws.rs.ext.MessageBodyWriter} can write the related model
-	 * differently.
+	 * differently. If the relation provides a function for the related model's
+	 * identifier, the related model is only retrieved if it's embedded, and
+	 * only once per request and identifier (see {@link RelatedModelCache}).
 	 *
 	 * @param  relatedModel the instance of the related model.
 	 * @param  parentSingleModel the parent single model.
 	 * @param  parentEmbeddedPathElements list of embedded path elements.
 	 * @param  httpServletRequest the actual HTTP servlet request.
-	 * @param  fields the requested fields.
-	 * @param  embedded the embedded resources info.
-	 * @param  modelBiConsumer the consumer that will be called to write the
-	 *         related model info.
+	 * @param  parentEmbeddedNode the embedded paths trie node of the parent.
+	 * @param  modelTriConsumer the consumer that will be called to write the
+	 *         related model info, with the related model's embedded paths
+	 *         trie node.
 	 * @param  urlTriConsumer the consumer that will be called to write the
 	 *         related model URL.
 	 * @review
@@ -549,48 +630,85 @@ public class WriterHelper {
 	public <T, U> void writeRelatedModel(
 		RelatedModel<T, U> relatedModel, SingleModel<T> parentSingleModel,
 		FunctionalList<String> parentEmbeddedPathElements,
-		HttpServletRequest httpServletRequest, Fields fields, Embedded embedded,
-		BiConsumer<SingleModel<U>, FunctionalList<String>> modelBiConsumer,
+		HttpServletRequest httpServletRequest, Embedded.Node parentEmbeddedNode,
+		TriConsumer<SingleModel<U>, FunctionalList<String>, Embedded.Node>
+			modelTriConsumer,
 		TriConsumer<String, FunctionalList<String>, Boolean> urlTriConsumer) {
 
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			parentSingleModel.getModelClass(), fields);
+		writeRelatedModel(
+			relatedModel, relatedModel.getModelFunction(), parentSingleModel,
+			parentEmbeddedPathElements, httpServletRequest, parentEmbeddedNode,
+			modelTriConsumer, urlTriConsumer);
+	}
+
+	/**
+	 * Helper method to write a model related models, obtaining the related
+	 * model with the provided function instead of the relation's one (for
+	 * example, a function that uses related models loaded in advance).
+	 * Otherwise it works like {@link #writeRelatedModel(RelatedModel,
+	 * SingleModel, FunctionalList, HttpServletRequest, Embedded.Node,
+	 * TriConsumer, TriConsumer)}.
+	 *
+	 * @param  relatedModel the instance of the related model.
+	 * @param  modelFunction the function that obtains the related model.
+	 * @param  parentSingleModel the parent single model.
+	 * @param  parentEmbeddedPathElements list of embedded path elements.
+	 * @param  httpServletRequest the actual HTTP servlet request.
+	 * @param  parentEmbeddedNode the embedded paths trie node of the parent.
+	 * @param  modelTriConsumer the consumer that will be called to write the
+	 *         related model info, with the related model's embedded paths
+	 *         trie node.
+	 * @param  urlTriConsumer the consumer that will be called to write the
+	 *         related model URL.
+	 * @review
+	 */
+	public <T, U> void writeRelatedModel(
+		RelatedModel<T, U> relatedModel, Function<T, Optional<U>> modelFunction,
+		SingleModel<T> parentSingleModel,
+		FunctionalList<String> parentEmbeddedPathElements,
+		HttpServletRequest httpServletRequest, Embedded.Node parentEmbeddedNode,
+		TriConsumer<SingleModel<U>, FunctionalList<String>, Embedded.Node>
+			modelTriConsumer,
+		TriConsumer<String, FunctionalList<String>, Boolean> urlTriConsumer) {
 
 		String key = relatedModel.getKey();
 
-		if (!fieldsPredicate.test(key)) {
-			return;
-		}
+		Class<U> modelClass = relatedModel.getModelClass();
 
-		Function<T, Optional<U>> modelFunction =
-			relatedModel.getModelFunction();
+		FunctionalList<String> embeddedPathElements = new StringFunctionalList(
+			parentEmbeddedPathElements, key);
 
-		Optional<U> modelOptional = modelFunction.apply(
-			parentSingleModel.getModel());
+		Embedded.Node embeddedNode = parentEmbeddedNode.getChild(key);
 
-		if (!modelOptional.isPresent()) {
-			return;
-		}
+		boolean isEmbedded = embeddedNode.isEmbedded();
 
-		U model = modelOptional.get();
+		T parentModel = parentSingleModel.getModel();
 
-		Class<U> modelClass = relatedModel.getModelClass();
+		Function<T, Identifier> identifierFunction =
+			relatedModel.getIdentifierFunction();
 
-		SingleModel<U> singleModel = new SingleModel<>(model, modelClass);
+		if ((identifierFunction != null) && !isEmbedded &&
+			_isIdentifierURITransformed()) {
 
-		Predicate<String> embeddedPredicate = embedded.getEmbeddedPredicate();
+			Optional<String> optional = _getSingleURLOptional(
+				identifierFunction.apply(parentModel), modelClass,
+				httpServletRequest);
 
-		FunctionalList<String> embeddedPathElements = new StringFunctionalList(
-			parentEmbeddedPathElements, key);
+			optional.ifPresent(
+				url -> urlTriConsumer.accept(url, embeddedPathElements, false));
+
+			return;
+		}
 
-		Stream<String> stream = Stream.concat(
-			Stream.of(embeddedPathElements.head()),
-			embeddedPathElements.tailStream());
+		Optional<U> modelOptional = getRelatedModelOptional(
+			relatedModel, modelFunction, parentModel, httpServletRequest);
 
-		String embeddedPath = String.join(
-			".", stream.collect(Collectors.toList()));
+		if (!modelOptional.isPresent()) {
+			return;
+		}
 
-		boolean isEmbedded = embeddedPredicate.test(embeddedPath);
+		SingleModel<U> singleModel = new SingleModel<>(
+			modelOptional.get(), modelClass);
 
 		Optional<String> optional = getSingleURLOptional(
 			singleModel, httpServletRequest);
@@ -600,7 +718,8 @@ public class WriterHelper {
 				urlTriConsumer.accept(url, embeddedPathElements, isEmbedded);
 
 				if (isEmbedded) {
-					modelBiConsumer.accept(singleModel, embeddedPathElements);
+					modelTriConsumer.accept(
+						singleModel, embeddedPathElements, embeddedNode);
 				}
 			});
 	}
@@ -611,77 +730,133 @@ public class WriterHelper {
 	 * differently.
 	 *
 	 * @param  model a model.
-	 * @param  modelClass a model class.
-	 * @param  fields the requested fields.
+	 * @param  serializationPlan the serialization plan of the model class,
+	 *         filtered with the requested fields.
 	 * @param  biConsumer the consumer that will be called to write each field.
 	 * @review
 	 */
 	public <T> void writeStringFields(
-		T model, Class<T> modelClass, Fields fields,
+		T model, SerializationPlan<T> serializationPlan,
 		BiConsumer<String, String> biConsumer) {
 
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
+		String[] keys = serializationPlan.getStringKeys();
+		Function<T, String>[] functions =
+			serializationPlan.getStringFunctions();
 
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+		for (int i = 0; i < keys.length; i++) {
+			String data = functions[i].apply(model);
 
-		optional.map(
-			Representor::getStringFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					Function<T, String> fieldFunction = entry.getValue();
-
-					String data = fieldFunction.apply(model);
-
-					if ((data != null) && !data.isEmpty()) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
+			if ((data != null) && !data.isEmpty()) {
+				biConsumer.accept(keys[i], data);
+			}
+		}
 	}
 
 	/**
 	 * Helper method to write a model types. It uses a consumer so each {@link
 	 * javax.ws.rs.ext.MessageBodyWriter} can write the types differently.
 	 *
-	 * @param  modelClass the model class.
+	 * @param  serializationPlan the serialization plan of the model class.
 	 * @param  consumer the consumer that will be called to write the types.
 	 * @review
 	 */
 	public <U> void writeTypes(
-		Class<U> modelClass, Consumer<List<String>> consumer) {
+		SerializationPlan<U> serializationPlan,
+		Consumer<List<String>> consumer) {
+
+		consumer.accept(serializationPlan.getTypes());
+	}
+
+	private <U> Optional<Path> _getPathOptional(
+		Identifier identifier, Class<U> modelClass) {
+
+		if (identifier == null) {
+			return Optional.empty();
+		}
 
 		Optional<Representor<U, Identifier>> optional =
 			_collectionResourceManager.getRepresentorOptional(modelClass);
 
-		optional.map(
-			Representor::getTypes
-		).ifPresent(
-			consumer
+		return optional.flatMap(
+			representor -> _pathIdentifierMapperManager.map(
+				identifier, representor.getIdentifierClass(), modelClass));
+	}
+
+	private <T> Optional<Path> _getPathOptional(
+		SerializationPlan<T> serializationPlan, SingleModel<T> singleModel) {
+
+		Representor<T, ? extends Identifier> representor =
+			serializationPlan.getRepresentor();
+
+		Identifier identifier = representor.getIdentifier(
+			singleModel.getModel());
+
+		Class<Identifier> identifierClass =
+			(Class<Identifier>)representor.getIdentifierClass();
+
+		return _pathIdentifierMapperManager.map(
+			identifier, identifierClass, singleModel.getModelClass());
+	}
+
+	private <U> Optional<U> _getSingleModelOptional(
+		Identifier identifier, Class<U> modelClass,
+		HttpServletRequest httpServletRequest) {
+
+		Optional<Path> pathOptional = _getPathOptional(identifier, modelClass);
+
+		Optional<String> nameOptional =
+			_collectionResourceManager.getNameOptional(modelClass);
+
+		Optional<Routes<U>> routesOptional = nameOptional.flatMap(
+			_collectionResourceManager::getRoutesOptional);
+
+		return routesOptional.flatMap(
+			Routes::getSingleModelFunctionOptional
+		).flatMap(
+			function -> pathOptional.map(function.apply(httpServletRequest))
+		).map(
+			SingleModel::getModel
 		);
 	}
 
-	private <T> Predicate<String> _getFieldsPredicate(
-		Class<T> modelClass, Fields fields) {
+	private <U> Optional<String> _getSingleURLOptional(
+		Identifier identifier, Class<U> modelClass,
+		HttpServletRequest httpServletRequest) {
 
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+		return _getSingleURLOptional(
+			identifier, modelClass, httpServletRequest,
+			"transformCollectionItemIdentifierURI",
+			(uri, transformer) ->
+				transformer.transformCollectionItemIdentifierURI(
+					uri, modelClass, identifier));
+	}
+
+	private <U> Optional<String> _getSingleURLOptional(
+		Identifier identifier, Class<U> modelClass,
+		HttpServletRequest httpServletRequest, String transformation,
+		BiFunction<String, CollectionResourceURITransformer, String>
+			biFunction) {
+
+		Optional<Path> optional = _getPathOptional(identifier, modelClass);
+
+		RelatedModelCache relatedModelCache =
+			RelatedModelCache.getRelatedModelCache(httpServletRequest);
+
+		Function<String, String> transformURIFunction =
+			_getTransformURIFunction(biFunction);
+
+		List<Object> transformationKey = Arrays.asList(
+			transformation, _collectionResourceURITransformer);
 
 		return optional.map(
-			Representor::getTypes
-		).map(
-			fields::getFieldsPredicate
-		).orElseGet(
-			() -> field -> true
+			path -> relatedModelCache.getURL(
+				modelClass, path, transformationKey,
+				() -> {
+					String uri = transformURIFunction.apply(
+						"/p/" + path.asURI());
+
+					return getAbsoluteURL(httpServletRequest, uri);
+				})
 		);
 	}
 
@@ -702,6 +877,20 @@ public class WriterHelper {
 		};
 	}
 
+	private boolean _isIdentifierURITransformed() {
+		CollectionResourceURITransformer collectionResourceURITransformer =
+			_collectionResourceURITransformer;
+
+		if ((collectionResourceURITransformer == null) ||
+			collectionResourceURITransformer.
+				supportsCollectionItemIdentifierURIs()) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	@Reference
 	private CollectionResourceManager _collectionResourceManager;
 
@@ -714,4 +903,7 @@ public class WriterHelper {
 	@Reference
 	private ServerURLProvider _serverURLProvider;
 
+	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
+	private VulcanLogger _vulcanLogger;
+
 }
\ No newline at end of file
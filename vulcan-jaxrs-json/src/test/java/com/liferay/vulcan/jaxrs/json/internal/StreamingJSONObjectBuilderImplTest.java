@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal;
+
+import com.google.gson.JsonObject;
+
+import com.liferay.vulcan.message.json.JSONObjectBuilder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class StreamingJSONObjectBuilderImplTest {
+
+	@Test
+	public void testEmptyPageIsWrittenOnClose() throws IOException {
+		_streamingJSONObjectBuilder.field(
+			"count"
+		).numberValue(
+			0
+		);
+
+		_streamingJSONObjectBuilder.nestedField(
+			"_links", "self", "href"
+		).stringValue(
+			"http://localhost:8080"
+		);
+
+		_streamingJSONObjectBuilder.close();
+
+		Assert.assertEquals(
+			"{\"count\":0,\"_links\":{\"self\":" +
+				"{\"href\":\"http://localhost:8080\"}}}",
+			_getOutput());
+	}
+
+	@Test
+	public void testItemsOfANestedArrayAreStreamed() throws IOException {
+		_streamingJSONObjectBuilder.nestedField(
+			"_embedded", "Person"
+		).arrayValue(
+		).add(
+			_createItem("Alice")
+		);
+
+		_streamingJSONObjectBuilder.nestedField(
+			"_embedded", "Person"
+		).arrayValue(
+		).add(
+			_createItem("Bob")
+		);
+
+		Assert.assertEquals(
+			"{\"_embedded\":{\"Person\":[{\"name\":\"Alice\"}," +
+				"{\"name\":\"Bob\"}",
+			_stringWriter.toString());
+
+		JsonObject jsonObject = _streamingJSONObjectBuilder.build();
+
+		Assert.assertEquals(
+			0,
+			jsonObject.getAsJsonObject(
+				"_embedded"
+			).getAsJsonArray(
+				"Person"
+			).size());
+
+		_streamingJSONObjectBuilder.field(
+			"count"
+		).numberValue(
+			2
+		);
+
+		_streamingJSONObjectBuilder.close();
+
+		Assert.assertEquals(
+			"{\"_embedded\":{\"Person\":[{\"name\":\"Alice\"}," +
+				"{\"name\":\"Bob\"}]},\"count\":2}",
+			_getOutput());
+	}
+
+	@Test
+	public void testMembersAddedBeforeTheItemsAreWrittenAfterThem()
+		throws IOException {
+
+		_streamingJSONObjectBuilder.field(
+			"total"
+		).numberValue(
+			1
+		);
+
+		_streamingJSONObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).add(
+			_createItem("Alice")
+		);
+
+		_streamingJSONObjectBuilder.close();
+
+		Assert.assertEquals(
+			"{\"elements\":[{\"name\":\"Alice\"}],\"total\":1}", _getOutput());
+	}
+
+	@Test
+	public void testOnlyTheFirstArrayWithObjectsIsStreamed()
+		throws IOException {
+
+		_streamingJSONObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).add(
+			_createItem("Alice")
+		);
+
+		_streamingJSONObjectBuilder.field(
+			"others"
+		).arrayValue(
+		).add(
+			_createItem("Bob")
+		);
+
+		_streamingJSONObjectBuilder.close();
+
+		Assert.assertEquals(
+			"{\"elements\":[{\"name\":\"Alice\"}],\"others\":" +
+				"[{\"name\":\"Bob\"}]}",
+			_getOutput());
+	}
+
+	@Test
+	public void testRenderedItemsAreCopiedWithoutParsing() throws IOException {
+		RenderedJSONObjectBuilderImpl renderedJSONObjectBuilder =
+			new RenderedJSONObjectBuilderImpl("{\"name\": \"Alice\"}");
+
+		_streamingJSONObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).add(
+			renderedJSONObjectBuilder
+		);
+
+		_streamingJSONObjectBuilder.field(
+			"elements"
+		).arrayValue(
+		).add(
+			_createItem("Bob")
+		);
+
+		_streamingJSONObjectBuilder.close();
+
+		Optional<String> optional =
+			renderedJSONObjectBuilder.getRenderedJSONOptional();
+
+		Assert.assertTrue(optional.isPresent());
+
+		Assert.assertEquals(
+			"{\"elements\":[{\"name\": \"Alice\"},{\"name\":\"Bob\"}]}",
+			_getOutput());
+	}
+
+	private JSONObjectBuilder _createItem(String name) {
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilderImpl();
+
+		jsonObjectBuilder.field(
+			"name"
+		).stringValue(
+			name
+		);
+
+		return jsonObjectBuilder;
+	}
+
+	private String _getOutput() {
+		String output = _stringWriter.toString();
+
+		Assert.assertTrue(output.endsWith(System.lineSeparator()));
+
+		return output.trim();
+	}
+
+	private final StringWriter _stringWriter = new StringWriter();
+	private final StreamingJSONObjectBuilderImpl _streamingJSONObjectBuilder =
+		new StreamingJSONObjectBuilderImpl(_stringWriter);
+
+}
\ No newline at end of file
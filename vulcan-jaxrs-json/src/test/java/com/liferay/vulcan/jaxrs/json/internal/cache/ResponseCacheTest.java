@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+import com.liferay.vulcan.jaxrs.json.internal.cache.ResponseCache.Entry;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResponseCacheTest {
+
+	@Test
+	public void testEntriesBiggerThanTheMaxEntrySizeAreNotStored() {
+		ResponseCache responseCache = new ResponseCache(
+			100, 4, 1, TimeUnit.HOURS);
+
+		long generation = responseCache.getGeneration("people");
+
+		assertThat(
+			responseCache.put(
+				"/p/people", _createEntry("people", null, 5), generation),
+			is(false));
+		assertThat(
+			responseCache.getEntryOptional("/p/people").isPresent(),
+			is(false));
+	}
+
+	@Test
+	public void testEntryCalculatedBeforeAnInvalidationIsNotStored() {
+		ResponseCache responseCache = new ResponseCache(
+			100, 100, 1, TimeUnit.HOURS);
+
+		long generation = responseCache.getGeneration("people");
+
+		responseCache.invalidate("people", "1");
+
+		assertThat(responseCache.getGeneration("people"), is(not(generation)));
+		assertThat(
+			responseCache.put(
+				"/p/people/1", _createEntry("people", "1", 4), generation),
+			is(false));
+		assertThat(
+			responseCache.getEntryOptional("/p/people/1").isPresent(),
+			is(false));
+	}
+
+	@Test
+	public void testEntryCalculatedBeforeTheFirstInvalidationIsNotStored() {
+		ResponseCache responseCache = new ResponseCache(
+			100, 100, 1, TimeUnit.HOURS);
+
+		long generation = responseCache.getGeneration("people");
+
+		assertThat(responseCache.getGeneration("people"), is(generation));
+
+		responseCache.invalidate("people", null);
+
+		assertThat(
+			responseCache.put(
+				"/p/people", _createEntry("people", null, 4), generation),
+			is(false));
+	}
+
+	@Test
+	public void testExpiredEntriesAreNotReturned() throws InterruptedException {
+		ResponseCache responseCache = new ResponseCache(
+			100, 100, 0, TimeUnit.SECONDS);
+
+		long generation = responseCache.getGeneration("people");
+
+		responseCache.put(
+			"/p/people", _createEntry("people", null, 4), generation);
+
+		Thread.sleep(10);
+
+		assertThat(
+			responseCache.getEntryOptional("/p/people").isPresent(),
+			is(false));
+	}
+
+	@Test
+	public void testInvalidatingAnItemRemovesItsEntriesAndItsPages() {
+		ResponseCache responseCache = new ResponseCache(
+			100, 100, 1, TimeUnit.HOURS);
+
+		_put(responseCache, "/p/people", "people", null);
+		_put(responseCache, "/p/people/1", "people", "1");
+		_put(responseCache, "/p/people/2", "people", "2");
+		_put(responseCache, "/p/blogs", "blogs", null);
+
+		responseCache.invalidate("people", "1");
+
+		assertThat(
+			responseCache.getEntryOptional("/p/people").isPresent(),
+			is(false));
+		assertThat(
+			responseCache.getEntryOptional("/p/people/1").isPresent(),
+			is(false));
+		assertThat(
+			responseCache.getEntryOptional("/p/people/2").isPresent(),
+			is(true));
+		assertThat(
+			responseCache.getEntryOptional("/p/blogs").isPresent(), is(true));
+	}
+
+	@Test
+	public void testInvalidatingEverythingChangesEveryGeneration() {
+		ResponseCache responseCache = new ResponseCache(
+			100, 100, 1, TimeUnit.HOURS);
+
+		long peopleGeneration = responseCache.getGeneration("people");
+		long blogsGeneration = responseCache.getGeneration("blogs");
+
+		_put(responseCache, "/p/people/1", "people", "1");
+
+		responseCache.invalidateAll();
+
+		assertThat(
+			responseCache.getGeneration("people"), is(not(peopleGeneration)));
+		assertThat(
+			responseCache.getGeneration("blogs"), is(not(blogsGeneration)));
+		assertThat(
+			responseCache.getEntryOptional("/p/people/1").isPresent(),
+			is(false));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvictedFirst() {
+		ResponseCache responseCache = new ResponseCache(
+			10, 10, 1, TimeUnit.HOURS);
+
+		_put(responseCache, "/p/people/1", "people", "1");
+		_put(responseCache, "/p/people/2", "people", "2");
+
+		responseCache.getEntryOptional("/p/people/1");
+
+		_put(responseCache, "/p/people/3", "people", "3");
+
+		assertThat(
+			responseCache.getEntryOptional("/p/people/1").isPresent(),
+			is(true));
+		assertThat(
+			responseCache.getEntryOptional("/p/people/2").isPresent(),
+			is(false));
+		assertThat(
+			responseCache.getEntryOptional("/p/people/3").isPresent(),
+			is(true));
+	}
+
+	private Entry _createEntry(String name, String id, int size) {
+		return new Entry(
+			name, id, new byte[size], "application/json", null,
+			Collections.emptyMap());
+	}
+
+	private void _put(
+		ResponseCache responseCache, String key, String name, String id) {
+
+		long generation = responseCache.getGeneration(name);
+
+		assertThat(
+			responseCache.put(key, _createEntry(name, id, 4), generation),
+			is(true));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,408 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import com.liferay.vulcan.jaxrs.json.internal.writer.WriterHelper;
+import com.liferay.vulcan.pagination.Page;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.CachePolicy;
+import com.liferay.vulcan.resource.RelatedModel;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.Routes;
+import com.liferay.vulcan.resource.identifier.Identifier;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.response.control.Fields;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * @author Alejandro Hernández
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachePolicyFilterTest {
+
+	@Before
+	public void setUp() {
+		_cachePolicyFilter.activate(Collections.emptyMap());
+
+		Mockito.when(
+			_collectionResourceManager.getNameOptional(String.class)
+		).thenReturn(
+			Optional.of("people")
+		);
+
+		Routes<String> routes = Mockito.mock(Routes.class);
+
+		Mockito.when(
+			routes.getSingleModelCachePolicyOptional()
+		).thenReturn(
+			Optional.of(CachePolicy.ofPublic(60, 0, TimeUnit.SECONDS))
+		);
+
+		Mockito.doReturn(
+			Optional.of(routes)
+		).when(
+			_collectionResourceManager
+		).getRoutesOptional(
+			"people"
+		);
+
+		Mockito.when(
+			_providerManager.provide(
+				Matchers.any(Class.class),
+				Matchers.any(HttpServletRequest.class))
+		).thenReturn(
+			Optional.empty()
+		);
+
+		Mockito.when(
+			_writerHelper.getPathOptional(Matchers.any(SingleModel.class))
+		).thenAnswer(
+			invocation -> {
+				SingleModel<?> singleModel =
+					(SingleModel<?>)invocation.getArguments()[0];
+
+				if (singleModel.getModelClass() == String.class) {
+					return Optional.of(new Path("people", "1"));
+				}
+
+				return Optional.of(new Path("organizations", "2"));
+			}
+		);
+	}
+
+	@Test
+	public void testAuthenticatedRequestsHaveAPrivateCachePolicy() {
+		ContainerRequestContext containerRequestContext = _createRequest();
+
+		Mockito.when(
+			containerRequestContext.getHeaderString(HttpHeaders.AUTHORIZATION)
+		).thenReturn(
+			"Basic dGVzdDp0ZXN0"
+		);
+
+		ContainerResponseContext containerResponseContext = _createResponse(
+			Response.Status.OK, Try.success(_singleModel));
+
+		_cachePolicyFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(
+			headers.getFirst(HttpHeaders.CACHE_CONTROL),
+			is(equalTo("private, max-age=60")));
+	}
+
+	@Test
+	public void testEmbeddedModelsHaveSurrogateKeys() {
+		RelatedModel<String, Integer> relatedModel = new RelatedModel<>(
+			"organization", Integer.class, model -> Optional.of(2),
+			model -> new Identifier() {});
+
+		_embed(relatedModel);
+
+		Mockito.when(
+			_writerHelper.getRelatedModelPathOptional(relatedModel, "Alice")
+		).thenReturn(
+			Optional.of(new Path("organizations", "2"))
+		);
+
+		ContainerResponseContext containerResponseContext = _createResponse(
+			Response.Status.OK, Try.success(_singleModel));
+
+		_cachePolicyFilter.filter(_createRequest(), containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(
+			headers.getFirst("Surrogate-Key"),
+			is(equalTo("people people/1 organizations/2")));
+
+		Mockito.verify(
+			_writerHelper, Mockito.never()
+		).getRelatedModelOptional(
+			Matchers.any(), Matchers.any(), Matchers.any(), Matchers.any()
+		);
+	}
+
+	@Test
+	public void testEmbeddedModelsWithoutIdentifiersHaveNoSurrogateKeys() {
+		RelatedModel<String, Integer> relatedModel = new RelatedModel<>(
+			"organization", Integer.class,
+			model -> {
+				throw new AssertionError("Embedded model retrieved");
+			});
+
+		_embed(relatedModel);
+
+		ContainerResponseContext containerResponseContext = _createResponse(
+			Response.Status.OK, Try.success(_singleModel));
+
+		_cachePolicyFilter.filter(_createRequest(), containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(
+			headers.getFirst("Surrogate-Key"), is(equalTo("people people/1")));
+	}
+
+	@Test
+	public void testNotModifiedResponsesHaveACachePolicyAndSurrogateKeys() {
+		ContainerRequestContext containerRequestContext = _createRequest();
+
+		Mockito.when(
+			containerRequestContext.getProperty(Matchers.anyString())
+		).thenReturn(
+			Try.success(_singleModel)
+		);
+
+		ContainerResponseContext containerResponseContext = _createResponse(
+			Response.Status.NOT_MODIFIED, null);
+
+		_cachePolicyFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(
+			headers.getFirst(HttpHeaders.CACHE_CONTROL),
+			is(equalTo("public, max-age=60")));
+		assertThat(
+			headers.getFirst(HttpHeaders.VARY),
+			is(equalTo("Accept, Accept-Language, Authorization")));
+		assertThat(
+			headers.getFirst("Surrogate-Key"), is(equalTo("people people/1")));
+	}
+
+	@Test
+	public void testPageItemsAreNotReadWhileEmbedding() {
+		RelatedModel<String, Integer> relatedModel = new RelatedModel<>(
+			"organization", Integer.class, model -> Optional.of(2),
+			model -> new Identifier() {});
+
+		_embed(relatedModel);
+
+		Routes<String> routes = Mockito.mock(Routes.class);
+
+		Mockito.when(
+			routes.getPageCachePolicyOptional()
+		).thenReturn(
+			Optional.of(CachePolicy.ofPublic(60, 0, TimeUnit.SECONDS))
+		);
+
+		Mockito.doReturn(
+			Optional.of(routes)
+		).when(
+			_collectionResourceManager
+		).getRoutesOptional(
+			"people"
+		);
+
+		Page<String> page = Mockito.mock(Page.class);
+
+		Mockito.when(
+			page.getModelClass()
+		).thenReturn(
+			String.class
+		);
+
+		ContainerResponseContext containerResponseContext = _createResponse(
+			Response.Status.OK, Try.success(page));
+
+		_cachePolicyFilter.filter(_createRequest(), containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		assertThat(headers.getFirst("Surrogate-Key"), is(equalTo("people")));
+
+		Mockito.verify(
+			page, Mockito.never()
+		).getItems();
+	}
+
+	private ContainerRequestContext _createRequest() {
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			HttpMethod.GET
+		);
+
+		return containerRequestContext;
+	}
+
+	private ContainerResponseContext _createResponse(
+		Response.Status status, Object entity) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getEntity()
+		).thenReturn(
+			entity
+		);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		Mockito.when(
+			containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		Mockito.when(
+			containerResponseContext.getStatus()
+		).thenReturn(
+			status.getStatusCode()
+		);
+
+		return containerResponseContext;
+	}
+
+	private void _embed(RelatedModel<String, ?> relatedModel) {
+		Embedded.Node embeddedNode = Mockito.mock(Embedded.Node.class);
+
+		Mockito.when(
+			embeddedNode.isEmbedded()
+		).thenReturn(
+			true
+		);
+
+		Embedded.Node rootEmbeddedNode = Mockito.mock(Embedded.Node.class);
+
+		Mockito.when(
+			rootEmbeddedNode.getChild(relatedModel.getKey())
+		).thenReturn(
+			embeddedNode
+		);
+
+		Mockito.when(
+			rootEmbeddedNode.hasChildren()
+		).thenReturn(
+			true
+		);
+
+		Embedded embedded = Mockito.mock(Embedded.class);
+
+		Mockito.when(
+			embedded.getRootNode()
+		).thenReturn(
+			rootEmbeddedNode
+		);
+
+		Fields fields = types -> field -> true;
+
+		Mockito.when(
+			_providerManager.provide(Embedded.class, _httpServletRequest)
+		).thenReturn(
+			Optional.of(embedded)
+		);
+
+		Mockito.when(
+			_providerManager.provide(Fields.class, _httpServletRequest)
+		).thenReturn(
+			Optional.of(fields)
+		);
+
+		Representor<String, ?> representor = Mockito.mock(Representor.class);
+
+		List<RelatedModel<String, ?>> embeddedRelatedModels =
+			Collections.singletonList(relatedModel);
+
+		Mockito.when(
+			representor.getEmbeddedRelatedModels()
+		).thenReturn(
+			embeddedRelatedModels
+		);
+
+		Mockito.when(
+			representor.getRelatedCollections()
+		).thenReturn(
+			Stream.empty()
+		);
+
+		SerializationPlan<String> serializationPlan = new SerializationPlan<>(
+			representor);
+
+		Mockito.when(
+			_collectionResourceManager.getSerializationPlanOptional(
+				String.class)
+		).thenReturn(
+			Optional.of(serializationPlan)
+		);
+	}
+
+	@InjectMocks
+	private final CachePolicyFilter _cachePolicyFilter =
+		new CachePolicyFilter();
+
+	@Mock
+	private CollectionResourceManager _collectionResourceManager;
+
+	@Mock
+	private HttpServletRequest _httpServletRequest;
+
+	@Mock
+	private ProviderManager _providerManager;
+
+	private final SingleModel<String> _singleModel = new SingleModel<>(
+		"Alice", String.class);
+
+	@Mock
+	private WriterHelper _writerHelper;
+
+}
\ No newline at end of file
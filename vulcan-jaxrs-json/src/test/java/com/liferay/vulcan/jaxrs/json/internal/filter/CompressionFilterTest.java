@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CompressionFilterTest {
+
+	@Test
+	public void testEntitiesBelowTheMinimumSizeAreNotCompressed()
+		throws IOException {
+
+		CompressionFilter compressionFilter = new CompressionFilter();
+
+		compressionFilter.activate(Collections.emptyMap());
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] bytes = _createBytes(1023);
+
+		byte[] writtenBytes = _write(
+			compressionFilter, headers, "gzip", bytes);
+
+		assertThat(Arrays.equals(writtenBytes, bytes), is(true));
+		assertThat(
+			headers.containsKey(HttpHeaders.CONTENT_ENCODING), is(false));
+		assertThat(
+			headers.getFirst(HttpHeaders.VARY),
+			is(HttpHeaders.ACCEPT_ENCODING));
+	}
+
+	@Test
+	public void testEntitiesReachingTheMinimumSizeAreCompressed()
+		throws IOException {
+
+		CompressionFilter compressionFilter = new CompressionFilter();
+
+		compressionFilter.activate(Collections.emptyMap());
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] bytes = _createBytes(1024);
+
+		byte[] writtenBytes = _write(
+			compressionFilter, headers, "gzip", bytes);
+
+		assertThat(
+			Arrays.equals(
+				_read(new GZIPInputStream(
+					new ByteArrayInputStream(writtenBytes))),
+				bytes),
+			is(true));
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING), is("gzip"));
+		assertThat(
+			headers.getFirst(HttpHeaders.VARY),
+			is(HttpHeaders.ACCEPT_ENCODING));
+	}
+
+	@Test
+	public void testEntitiesReachingTheMinimumSizeAreDeflated()
+		throws IOException {
+
+		CompressionFilter compressionFilter = new CompressionFilter();
+
+		compressionFilter.activate(Collections.emptyMap());
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] bytes = _createBytes(4096);
+
+		byte[] writtenBytes = _write(
+			compressionFilter, headers, "deflate", bytes);
+
+		assertThat(writtenBytes.length < bytes.length, is(true));
+		assertThat(
+			Arrays.equals(
+				_read(new InflaterInputStream(
+					new ByteArrayInputStream(writtenBytes))),
+				bytes),
+			is(true));
+		assertThat(
+			headers.getFirst(HttpHeaders.CONTENT_ENCODING), is("deflate"));
+		assertThat(
+			headers.getFirst(HttpHeaders.VARY),
+			is(HttpHeaders.ACCEPT_ENCODING));
+	}
+
+	@Test
+	public void testMinimumSizeIsReadFromTheComponentProperties()
+		throws IOException {
+
+		CompressionFilter compressionFilter = new CompressionFilter();
+
+		compressionFilter.activate(
+			Collections.singletonMap("compression.minimum.size", "10"));
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		byte[] bytes = _createBytes(10);
+
+		byte[] writtenBytes = _write(
+			compressionFilter, headers, "gzip", bytes);
+
+		assertThat(
+			Arrays.equals(
+				_read(new GZIPInputStream(
+					new ByteArrayInputStream(writtenBytes))),
+				bytes),
+			is(true));
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING), is("gzip"));
+	}
+
+	private byte[] _createBytes(int length) {
+		byte[] bytes = new byte[length];
+
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte)('a' + (i % 26));
+		}
+
+		return bytes;
+	}
+
+	private byte[] _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+			byte[] buffer = new byte[1024];
+
+			int length = inputStream.read(buffer);
+
+			while (length != -1) {
+				byteArrayOutputStream.write(buffer, 0, length);
+
+				length = inputStream.read(buffer);
+			}
+		}
+		finally {
+			inputStream.close();
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private byte[] _write(
+			CompressionFilter compressionFilter,
+			MultivaluedMap<String, Object> headers, String acceptEncoding,
+			byte[] bytes)
+		throws IOException {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getHeaderString(
+				HttpHeaders.ACCEPT_ENCODING)
+		).thenReturn(
+			acceptEncoding
+		);
+
+		Mockito.doAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return properties.put((String)arguments[0], arguments[1]);
+			}
+		).when(
+			containerRequestContext
+		).setProperty(
+			Matchers.anyString(), Matchers.any()
+		);
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getEntity()
+		).thenReturn(
+			"entity"
+		);
+
+		Mockito.when(
+			containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		Mockito.when(
+			containerResponseContext.getMediaType()
+		).thenReturn(
+			MediaType.APPLICATION_JSON_TYPE
+		);
+
+		Mockito.when(
+			containerResponseContext.hasEntity()
+		).thenReturn(
+			true
+		);
+
+		compressionFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		AtomicReference<OutputStream> outputStreamReference =
+			new AtomicReference<>(byteArrayOutputStream);
+
+		WriterInterceptorContext writerInterceptorContext = Mockito.mock(
+			WriterInterceptorContext.class);
+
+		Mockito.when(
+			writerInterceptorContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		Mockito.when(
+			writerInterceptorContext.getOutputStream()
+		).thenAnswer(
+			invocation -> outputStreamReference.get()
+		);
+
+		Mockito.when(
+			writerInterceptorContext.getProperty(Matchers.anyString())
+		).thenAnswer(
+			invocation -> properties.get(invocation.getArguments()[0])
+		);
+
+		Mockito.doAnswer(
+			invocation -> {
+				outputStreamReference.set(
+					(OutputStream)invocation.getArguments()[0]);
+
+				return null;
+			}
+		).when(
+			writerInterceptorContext
+		).setOutputStream(
+			Matchers.any(OutputStream.class)
+		);
+
+		Mockito.doAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return properties.put((String)arguments[0], arguments[1]);
+			}
+		).when(
+			writerInterceptorContext
+		).setProperty(
+			Matchers.anyString(), Matchers.any()
+		);
+
+		Mockito.doAnswer(
+			invocation -> {
+				OutputStream outputStream = outputStreamReference.get();
+
+				outputStream.write(bytes);
+
+				return null;
+			}
+		).when(
+			writerInterceptorContext
+		).proceed();
+
+		compressionFilter.aroundWriteTo(writerInterceptorContext);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+}
\ No newline at end of file
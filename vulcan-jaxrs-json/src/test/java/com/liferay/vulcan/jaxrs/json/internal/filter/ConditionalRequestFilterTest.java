@@ -0,0 +1,300 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import com.liferay.vulcan.jaxrs.json.internal.writer.WriterHelper;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * @author Alejandro Hernández
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ConditionalRequestFilterTest {
+
+	@Before
+	public void setUp() {
+		Representor<String, ?> representor = Mockito.mock(Representor.class);
+
+		Function<String, Object> versionFunction = model -> 1;
+
+		Mockito.when(
+			representor.getVersionFunctionOptional()
+		).thenReturn(
+			Optional.of(versionFunction)
+		);
+
+		Function<String, Date> lastModifiedFunction = model -> new Date(
+			1500000000000L);
+
+		Mockito.when(
+			representor.getLastModifiedFunctionOptional()
+		).thenReturn(
+			Optional.of(lastModifiedFunction)
+		);
+
+		Mockito.doReturn(
+			Optional.of(representor)
+		).when(
+			_collectionResourceManager
+		).getRepresentorOptional(
+			String.class
+		);
+
+		Mockito.when(
+			_providerManager.provide(
+				Matchers.any(Class.class),
+				Matchers.any(HttpServletRequest.class))
+		).thenReturn(
+			Optional.empty()
+		);
+	}
+
+	@Test
+	public void testMatchesUsesTheWeakComparison() {
+		Assert.assertTrue(
+			ConditionalRequestFilter.matches("\"tag\"", "W/\"tag\""));
+		Assert.assertTrue(
+			ConditionalRequestFilter.matches(
+				"W/\"other\", W/\"tag\"", "W/\"tag\""));
+		Assert.assertTrue(ConditionalRequestFilter.matches("*", "W/\"tag\""));
+		Assert.assertFalse(
+			ConditionalRequestFilter.matches("W/\"other\"", "W/\"tag\""));
+	}
+
+	@Test
+	public void testMatchingETagsGetANotModifiedResponse() {
+		String eTag = _getETag();
+
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext();
+
+		Mockito.when(
+			containerRequestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH)
+		).thenReturn(
+			eTag
+		);
+
+		Try<SingleModel<String>> entity = Try.success(_singleModel);
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(entity);
+
+		_conditionalRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			Response.Status.NOT_MODIFIED.getStatusCode()
+		);
+
+		Mockito.verify(
+			containerRequestContext
+		).setProperty(
+			Matchers.anyString(), Matchers.eq(entity)
+		);
+	}
+
+	@Test
+	public void testRequestsEmbeddingModelsGetNoValidators() {
+		Embedded.Node rootEmbeddedNode = Mockito.mock(Embedded.Node.class);
+
+		Mockito.when(
+			rootEmbeddedNode.hasChildren()
+		).thenReturn(
+			true
+		);
+
+		Embedded embedded = Mockito.mock(Embedded.class);
+
+		Mockito.when(
+			embedded.getRootNode()
+		).thenReturn(
+			rootEmbeddedNode
+		);
+
+		Mockito.when(
+			_providerManager.provide(Embedded.class, _httpServletRequest)
+		).thenReturn(
+			Optional.of(embedded)
+		);
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(Try.success(_singleModel));
+
+		_conditionalRequestFilter.filter(
+			_mockContainerRequestContext(), containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		Assert.assertTrue(headers.isEmpty());
+	}
+
+	@Test
+	public void testSingleModelsGetAnETagAndALastModifiedDate() {
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(Try.success(_singleModel));
+
+		_conditionalRequestFilter.filter(
+			_mockContainerRequestContext(), containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		String eTag = String.valueOf(headers.getFirst(HttpHeaders.ETAG));
+
+		Assert.assertTrue(eTag.startsWith("W/\""));
+		Assert.assertEquals(
+			"Fri, 14 Jul 2017 02:40:00 GMT",
+			headers.getFirst(HttpHeaders.LAST_MODIFIED));
+
+		Mockito.verify(
+			containerResponseContext, Mockito.never()
+		).setStatus(
+			Matchers.anyInt()
+		);
+	}
+
+	@Test
+	public void testUnmodifiedModelsGetANotModifiedResponse() {
+		ContainerRequestContext containerRequestContext =
+			_mockContainerRequestContext();
+
+		Mockito.when(
+			containerRequestContext.getHeaderString(
+				HttpHeaders.IF_MODIFIED_SINCE)
+		).thenReturn(
+			"Fri, 14 Jul 2017 02:40:00 GMT"
+		);
+
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(Try.success(_singleModel));
+
+		_conditionalRequestFilter.filter(
+			containerRequestContext, containerResponseContext);
+
+		Mockito.verify(
+			containerResponseContext
+		).setStatus(
+			Response.Status.NOT_MODIFIED.getStatusCode()
+		);
+	}
+
+	private String _getETag() {
+		ContainerResponseContext containerResponseContext =
+			_mockContainerResponseContext(Try.success(_singleModel));
+
+		_conditionalRequestFilter.filter(
+			_mockContainerRequestContext(), containerResponseContext);
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		return String.valueOf(headers.getFirst(HttpHeaders.ETAG));
+	}
+
+	private ContainerRequestContext _mockContainerRequestContext() {
+		ContainerRequestContext containerRequestContext = Mockito.mock(
+			ContainerRequestContext.class);
+
+		Mockito.when(
+			containerRequestContext.getMethod()
+		).thenReturn(
+			HttpMethod.GET
+		);
+
+		return containerRequestContext;
+	}
+
+	private ContainerResponseContext _mockContainerResponseContext(
+		Object entity) {
+
+		ContainerResponseContext containerResponseContext = Mockito.mock(
+			ContainerResponseContext.class);
+
+		Mockito.when(
+			containerResponseContext.getEntity()
+		).thenReturn(
+			entity
+		);
+
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+		Mockito.when(
+			containerResponseContext.getHeaders()
+		).thenReturn(
+			headers
+		);
+
+		Mockito.when(
+			containerResponseContext.getStatus()
+		).thenReturn(
+			Response.Status.OK.getStatusCode()
+		);
+
+		return containerResponseContext;
+	}
+
+	@Mock
+	private CollectionResourceManager _collectionResourceManager;
+
+	@InjectMocks
+	private final ConditionalRequestFilter _conditionalRequestFilter =
+		new ConditionalRequestFilter();
+
+	@Mock
+	private HttpServletRequest _httpServletRequest;
+
+	@Mock
+	private ProviderManager _providerManager;
+
+	private final SingleModel<String> _singleModel = new SingleModel<>(
+		"Alice", String.class);
+
+	@Mock
+	private WriterHelper _writerHelper;
+
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+
+import com.liferay.vulcan.jaxrs.json.internal.JSONObjectBuilderImpl;
+import com.liferay.vulcan.language.Language;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.security.Principal;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ItemFragmentsTest {
+
+	@Before
+	public void setUp() {
+		_itemFragmentCache = new ItemFragmentCache();
+
+		_itemFragmentCache.activate(
+			Collections.singletonMap("item.fragment.cache.max.size", 1024));
+
+		_writerHelper = Mockito.mock(WriterHelper.class);
+
+		Mockito.when(
+			_writerHelper.getSingleURLOptional(
+				Matchers.any(SingleModel.class),
+				Matchers.any(HttpServletRequest.class))
+		).thenReturn(
+			Optional.of("http://localhost/p/people/1")
+		);
+
+		Representor<String, ?> representor = Mockito.mock(Representor.class);
+
+		Function<String, Object> versionFunction = model -> 1;
+
+		Mockito.when(
+			representor.getVersionFunctionOptional()
+		).thenReturn(
+			Optional.of(versionFunction)
+		);
+
+		Mockito.when(
+			representor.getRelatedCollections()
+		).thenReturn(
+			Stream.empty()
+		);
+
+		_serializationPlanOptional = Optional.of(
+			new SerializationPlan<>(representor));
+	}
+
+	@Test
+	public void testAnonymousRequestsShareFragments() {
+		Optional<String> keyOptional = _getKeyOptional(_createRequest(null));
+
+		assertThat(keyOptional.isPresent(), is(true));
+		assertThat(_getKeyOptional(_createRequest(null)), is(keyOptional));
+	}
+
+	@Test
+	public void testAuthorizedRequestsWithoutAUserAreNotCached() {
+		HttpServletRequest httpServletRequest = _createRequest(null);
+
+		Mockito.when(
+			httpServletRequest.getHeader(HttpHeaders.AUTHORIZATION)
+		).thenReturn(
+			"Basic dGVzdDp0ZXN0"
+		);
+
+		assertThat(_getKeyOptional(httpServletRequest).isPresent(), is(false));
+	}
+
+	@Test
+	public void testTwoUsersDoNotShareAFragment() {
+		ItemFragments itemFragments = _createItemFragments(
+			_createRequest("alice"));
+
+		Optional<String> aliceKeyOptional = itemFragments.getKeyOptional(
+			_singleModel, _serializationPlanOptional, _createRequest("alice"));
+
+		itemFragments.putFragment(
+			aliceKeyOptional.get(), new JSONObjectBuilderImpl());
+
+		Optional<String> bobKeyOptional = _getKeyOptional(
+			_createRequest("bob"));
+
+		assertThat(bobKeyOptional.isPresent(), is(true));
+		assertThat(bobKeyOptional, is(not(aliceKeyOptional)));
+		assertThat(
+			_itemFragmentCache.getFragmentOptional(
+				bobKeyOptional.get()).isPresent(),
+			is(false));
+		assertThat(
+			_getKeyOptional(_createRequest("alice")), is(aliceKeyOptional));
+	}
+
+	private ItemFragments _createItemFragments(
+		HttpServletRequest httpServletRequest) {
+
+		Language language = Mockito.mock(Language.class);
+
+		Mockito.when(
+			language.getPreferredLocale()
+		).thenReturn(
+			Locale.ENGLISH
+		);
+
+		return new ItemFragments(
+			_itemFragmentCache, _writerHelper, this, _mediaType, language,
+			Mockito.mock(Embedded.Node.class), httpServletRequest);
+	}
+
+	private HttpServletRequest _createRequest(String userName) {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		if (userName != null) {
+			Principal principal = () -> userName;
+
+			Mockito.when(
+				httpServletRequest.getUserPrincipal()
+			).thenReturn(
+				principal
+			);
+		}
+
+		return httpServletRequest;
+	}
+
+	private Optional<String> _getKeyOptional(
+		HttpServletRequest httpServletRequest) {
+
+		ItemFragments itemFragments = _createItemFragments(httpServletRequest);
+
+		return itemFragments.getKeyOptional(
+			_singleModel, _serializationPlanOptional, httpServletRequest);
+	}
+
+	private ItemFragmentCache _itemFragmentCache;
+	private final MediaType _mediaType = Mockito.mock(MediaType.class);
+	private Optional<SerializationPlan<String>> _serializationPlanOptional;
+	private final SingleModel<String> _singleModel = new SingleModel<>(
+		"Alice", String.class);
+	private WriterHelper _writerHelper;
+
+}
\ No newline at end of file
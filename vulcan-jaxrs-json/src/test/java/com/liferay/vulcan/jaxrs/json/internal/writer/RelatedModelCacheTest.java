@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import com.liferay.vulcan.uri.Path;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RelatedModelCacheTest {
+
+	@Test
+	public void testModelsOfDifferentClassesWithTheSamePathAreNotShared() {
+		RelatedModelCache relatedModelCache = new RelatedModelCache();
+
+		relatedModelCache.getModelOptional(
+			String.class, new Path("a", "b"), () -> Optional.of("first"));
+
+		Optional<Object> optional = relatedModelCache.getModelOptional(
+			Object.class, new Path("a", "b"), () -> Optional.of("second"));
+
+		assertThat(optional, is(equalTo(Optional.of("second"))));
+		assertThat(relatedModelCache.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void testURLsAreMemoizedPerTransformation() {
+		RelatedModelCache relatedModelCache = new RelatedModelCache();
+
+		Path path = new Path("people", "1");
+
+		relatedModelCache.getURL(String.class, path, "first", () -> "/first");
+
+		assertThat(
+			relatedModelCache.getURL(
+				String.class, path, "first", () -> "/other"),
+			is(equalTo("/first")));
+		assertThat(
+			relatedModelCache.getURL(
+				String.class, path, "second", () -> "/second"),
+			is(equalTo("/second")));
+		assertThat(relatedModelCache.getHitCount(), is(1L));
+	}
+
+}
\ No newline at end of file
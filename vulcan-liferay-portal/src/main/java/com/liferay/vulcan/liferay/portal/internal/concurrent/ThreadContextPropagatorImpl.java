@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.liferay.portal.internal.concurrent;
+
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+import com.liferay.vulcan.concurrent.ThreadContextPropagator;
+
+import java.util.Map;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Copies the portal's thread locals (for example, the ones held by {@code
+ * CompanyThreadLocal}, {@code PermissionThreadLocal} and {@code
+ * PrincipalThreadLocal}) to the pool threads, and clears them once each task
+ * finishes.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class ThreadContextPropagatorImpl implements ThreadContextPropagator {
+
+	@Override
+	public Runnable propagate(Runnable runnable) {
+		Map<CentralizedThreadLocal<?>, Object> longLivedThreadLocals =
+			CentralizedThreadLocal.getLongLivedThreadLocals();
+		Map<CentralizedThreadLocal<?>, Object> shortLivedThreadLocals =
+			CentralizedThreadLocal.getShortLivedThreadLocals();
+
+		return () -> {
+			CentralizedThreadLocal.setThreadLocals(
+				longLivedThreadLocals, shortLivedThreadLocals);
+
+			try {
+				runnable.run();
+			}
+			finally {
+				CentralizedThreadLocal.clearLongLivedThreadLocals();
+				CentralizedThreadLocal.clearShortLivedThreadLocals();
+			}
+		};
+	}
+
+}
\ No newline at end of file
@@ -30,6 +30,11 @@ import org.osgi.service.component.annotations.Component;
 @Component(immediate = true)
 public class VulcanLoggerImpl implements VulcanLogger {
 
+	@Override
+	public void debug(String message) {
+		_log.debug(message);
+	}
+
 	@Override
 	public void error(APIError apiError) {
 		if (_log.isDebugEnabled()) {
@@ -40,6 +45,11 @@ public class VulcanLoggerImpl implements VulcanLogger {
 		}
 	}
 
+	@Override
+	public boolean isDebugEnabled() {
+		return _log.isDebugEnabled();
+	}
+
 	private String _getExceptionMessage(APIError apiError) {
 		Optional<String> optional = apiError.getDescription();
 
@@ -17,16 +17,52 @@ package com.liferay.vulcan.message.hal.internal;
 import com.google.gson.JsonObject;
 
 import com.liferay.vulcan.jaxrs.json.internal.JSONObjectBuilderImpl;
+import com.liferay.vulcan.jaxrs.json.internal.StreamingJSONObjectBuilderImpl;
+import com.liferay.vulcan.message.json.JSONObjectBuilder;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
 
 /**
  * @author Javier Gamarra
  */
+@RunWith(MockitoJUnitRunner.class)
 public class HALPageMessageMapperTest {
 
+	@Before
+	public void setUp() {
+		Representor<String, ?> representor = Mockito.mock(Representor.class);
+
+		Mockito.when(
+			representor.getTypes()
+		).thenReturn(
+			Collections.singletonList("Person")
+		);
+
+		Mockito.doReturn(
+			Optional.of(representor)
+		).when(
+			_collectionResourceManager
+		).getRepresentorOptional(
+			String.class
+		);
+	}
+
 	@Test
 	public void testMapCollectionURL() {
 		_halPageMessageMapper.mapCollectionURL(
@@ -93,6 +129,63 @@ public class HALPageMessageMapperTest {
 		Assert.assertEquals("{\"count\":1}", jsonObject.toString());
 	}
 
+	@Test
+	public void testStreamedPageHasTheSameMembersInTheSameOrder()
+		throws IOException {
+
+		_writePage(_jsonObjectBuilder);
+
+		StringWriter stringWriter = new StringWriter();
+
+		StreamingJSONObjectBuilderImpl streamingJSONObjectBuilder =
+			new StreamingJSONObjectBuilderImpl(stringWriter);
+
+		_writePage(streamingJSONObjectBuilder);
+
+		streamingJSONObjectBuilder.close();
+
+		JsonObject jsonObject = _jsonObjectBuilder.build();
+
+		String output = stringWriter.toString();
+
+		Assert.assertEquals(jsonObject.toString(), output.trim());
+		Assert.assertTrue(output.startsWith("{\"_embedded\":{\"Person\":["));
+	}
+
+	private void _writePage(JSONObjectBuilder jsonObjectBuilder) {
+		for (String name : new String[] {"Alice", "Bob"}) {
+			JSONObjectBuilder itemJSONObjectBuilder =
+				new JSONObjectBuilderImpl();
+
+			itemJSONObjectBuilder.field(
+				"name"
+			).stringValue(
+				name
+			);
+
+			_halPageMessageMapper.onFinishItem(
+				jsonObjectBuilder, itemJSONObjectBuilder, name, String.class,
+				null);
+		}
+
+		_halPageMessageMapper.mapItemTotalCount(jsonObjectBuilder, 2);
+		_halPageMessageMapper.mapPageCount(jsonObjectBuilder, 2);
+		_halPageMessageMapper.mapFirstPageURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people/first");
+		_halPageMessageMapper.mapNextPageURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people/next");
+		_halPageMessageMapper.mapLastPageURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people/last");
+		_halPageMessageMapper.mapCollectionURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people");
+
+		_halPageMessageMapper.onFinish(jsonObjectBuilder, null, null);
+	}
+
+	@Mock
+	private CollectionResourceManager _collectionResourceManager;
+
+	@InjectMocks
 	private HALPageMessageMapper _halPageMessageMapper =
 		new HALPageMessageMapper();
 	private JSONObjectBuilderImpl _jsonObjectBuilder =
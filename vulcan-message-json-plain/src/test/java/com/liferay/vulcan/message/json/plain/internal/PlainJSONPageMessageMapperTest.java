@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.message.json.plain.internal;
+
+import com.liferay.vulcan.jaxrs.json.internal.JSONObjectBuilderImpl;
+import com.liferay.vulcan.jaxrs.json.internal.StreamingJSONObjectBuilderImpl;
+import com.liferay.vulcan.message.json.JSONObjectBuilder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PlainJSONPageMessageMapperTest {
+
+	@Test
+	public void testStreamedPageHasTheSameMembersInTheSameOrder()
+		throws IOException {
+
+		JSONObjectBuilderImpl jsonObjectBuilder = new JSONObjectBuilderImpl();
+
+		_writePage(jsonObjectBuilder);
+
+		StringWriter stringWriter = new StringWriter();
+
+		StreamingJSONObjectBuilderImpl streamingJSONObjectBuilder =
+			new StreamingJSONObjectBuilderImpl(stringWriter);
+
+		_writePage(streamingJSONObjectBuilder);
+
+		streamingJSONObjectBuilder.close();
+
+		String output = stringWriter.toString();
+
+		Assert.assertEquals(
+			jsonObjectBuilder.build().toString(), output.trim());
+	}
+
+	private void _writePage(JSONObjectBuilder jsonObjectBuilder) {
+		for (String name : new String[] {"Alice", "Bob"}) {
+			JSONObjectBuilder itemJSONObjectBuilder =
+				new JSONObjectBuilderImpl();
+
+			itemJSONObjectBuilder.field(
+				"name"
+			).stringValue(
+				name
+			);
+
+			_plainJSONPageMessageMapper.onFinishItem(
+				jsonObjectBuilder, itemJSONObjectBuilder, name, String.class,
+				null);
+		}
+
+		_plainJSONPageMessageMapper.mapItemTotalCount(jsonObjectBuilder, 2);
+		_plainJSONPageMessageMapper.mapPageCount(jsonObjectBuilder, 2);
+		_plainJSONPageMessageMapper.mapFirstPageURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people/first");
+		_plainJSONPageMessageMapper.mapNextPageURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people/next");
+		_plainJSONPageMessageMapper.mapLastPageURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people/last");
+		_plainJSONPageMessageMapper.mapCollectionURL(
+			jsonObjectBuilder, "http://localhost:8080/p/people");
+
+		_plainJSONPageMessageMapper.onFinish(jsonObjectBuilder, null, null);
+	}
+
+	private final PlainJSONPageMessageMapper<String>
+		_plainJSONPageMessageMapper = new PlainJSONPageMessageMapper<>();
+
+}
\ No newline at end of file
@@ -19,7 +19,9 @@ import com.liferay.vulcan.response.control.Embedded;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -53,6 +55,16 @@ public class EmbeddedProvider implements Provider<Embedded> {
 
 		public EmbeddedImpl(List<String> embedded) {
 			_embedded = embedded;
+
+			for (String path : embedded) {
+				NodeImpl node = _rootNode;
+
+				for (String key : _dotPattern.split(path)) {
+					node = node._addChild(key);
+				}
+
+				node._setEmbedded(true);
+			}
 		}
 
 		@Override
@@ -60,10 +72,48 @@ public class EmbeddedProvider implements Provider<Embedded> {
 			return _embedded::contains;
 		}
 
+		@Override
+		public Node getRootNode() {
+			return _rootNode;
+		}
+
 		private final List<String> _embedded;
+		private final NodeImpl _rootNode = new NodeImpl();
 
 	}
 
+	private static final Pattern _dotPattern = Pattern.compile("\\.");
+	private static final NodeImpl _emptyNode = new NodeImpl();
 	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
 
+	private static class NodeImpl implements Embedded.Node {
+
+		@Override
+		public Embedded.Node getChild(String key) {
+			return _children.getOrDefault(key, _emptyNode);
+		}
+
+		@Override
+		public boolean hasChildren() {
+			return !_children.isEmpty();
+		}
+
+		@Override
+		public boolean isEmbedded() {
+			return _embedded;
+		}
+
+		private NodeImpl _addChild(String key) {
+			return _children.computeIfAbsent(key, childKey -> new NodeImpl());
+		}
+
+		private void _setEmbedded(boolean embedded) {
+			_embedded = embedded;
+		}
+
+		private final Map<String, NodeImpl> _children = new HashMap<>();
+		private boolean _embedded;
+
+	}
+
 }
\ No newline at end of file
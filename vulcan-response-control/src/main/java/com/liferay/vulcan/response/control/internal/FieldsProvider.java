@@ -18,14 +18,15 @@ import com.liferay.vulcan.provider.Provider;
 import com.liferay.vulcan.response.control.Fields;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -47,74 +48,84 @@ public class FieldsProvider implements Provider<Fields> {
 		Map<String, String[]> parameterMap =
 			httpServletRequest.getParameterMap();
 
-		Set<Map.Entry<String, String[]>> set = parameterMap.entrySet();
+		Map<String, Set<String>> fieldsMap = new HashMap<>();
 
-		Stream<Map.Entry<String, String[]>> stream = set.stream();
+		parameterMap.forEach(
+			(key, values) -> {
+				if (!key.startsWith(_PREFIX) || (values.length != 1) ||
+					values[0].isEmpty()) {
 
-		Map<String, List<String>> fieldsMap = stream.filter(
-			entry -> {
-				String key = entry.getKey();
+					return;
+				}
 
-				return key.matches(_REGEXP);
-			}
-		).filter(
-			entry -> {
-				String[] value = entry.getValue();
+				Matcher matcher = _pattern.matcher(key);
 
-				if (value.length == 1) {
-					return true;
-				}
+				if (matcher.matches()) {
+					Set<String> fields = new HashSet<>(
+						Arrays.asList(values[0].split(",")));
 
-				return false;
-			}
-		).filter(
-			entry -> !entry.getValue()[0].isEmpty()
-		).collect(
-			Collectors.toMap(
-				entry -> _getTypeFunction.apply(entry.getKey()),
-				entry -> Arrays.asList(entry.getValue()[0].split(",")))
-		);
+					fieldsMap.put(matcher.group(1), fields);
+				}
+			});
 
 		return new FieldsImpl(fieldsMap);
 	}
 
 	public static class FieldsImpl implements Fields {
 
-		public FieldsImpl(Map<String, List<String>> fieldsMap) {
+		public FieldsImpl(Map<String, Set<String>> fieldsMap) {
 			_fieldsMap = fieldsMap;
 		}
 
+		/**
+		 * Returns the predicate for the types. The requested fields of the
+		 * types are resolved into a single set the first time a list of types
+		 * is requested, so testing a field costs one hash lookup.
+		 *
+		 * @param  types the types of a representor
+		 * @return the predicate that tests if a field must be written
+		 * @review
+		 */
 		@Override
 		public Predicate<String> getFieldsPredicate(List<String> types) {
-			return field -> {
-				Stream<String> stream = types.stream();
-
-				List<String> fields = stream.map(
-					_fieldsMap::get
-				).filter(
-					Objects::nonNull
-				).flatMap(
-					List::stream
-				).collect(
-					Collectors.toList()
-				);
-
-				if (fields.isEmpty() || fields.contains(field)) {
-					return true;
-				}
-				else {
-					return false;
+			if (_fieldsMap.isEmpty()) {
+				return _allFieldsPredicate;
+			}
+
+			return _fieldsPredicates.computeIfAbsent(
+				types, this::_createFieldsPredicate);
+		}
+
+		private Predicate<String> _createFieldsPredicate(List<String> types) {
+			Set<String> fields = new HashSet<>();
+
+			for (String type : types) {
+				Set<String> typeFields = _fieldsMap.get(type);
+
+				if (typeFields != null) {
+					fields.addAll(typeFields);
 				}
-			};
+			}
+
+			if (fields.isEmpty()) {
+				return _allFieldsPredicate;
+			}
+
+			return fields::contains;
 		}
 
-		private final Map<String, List<String>> _fieldsMap;
+		private static final Predicate<String> _allFieldsPredicate =
+			field -> true;
+
+		private final Map<String, Set<String>> _fieldsMap;
+		private final Map<List<String>, Predicate<String>> _fieldsPredicates =
+			new ConcurrentHashMap<>();
 
 	}
 
-	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
+	private static final String _PREFIX = "fields[";
 
-	private static final Function<String, String> _getTypeFunction =
-		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
+	private static final Pattern _pattern = Pattern.compile(
+		"fields\\[([A-Z|a-z]+)]");
 
 }
\ No newline at end of file
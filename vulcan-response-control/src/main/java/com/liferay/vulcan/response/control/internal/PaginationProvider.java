@@ -18,6 +18,8 @@ import com.liferay.vulcan.pagination.Pagination;
 import com.liferay.vulcan.provider.Provider;
 import com.liferay.vulcan.result.Try;
 
+import java.util.Optional;
+
 import javax.servlet.http.HttpServletRequest;
 
 import org.osgi.service.component.annotations.Component;
@@ -43,7 +45,17 @@ public class PaginationProvider implements Provider<Pagination> {
 		int pageNumber = _getAsInt(
 			httpServletRequest.getParameter("page"), _PAGE_NUMBER_DEFAULT);
 
-		return new DefaultPagination(itemsPerPage, pageNumber);
+		String cursor = httpServletRequest.getParameter("cursor");
+
+		if ((cursor != null) && cursor.isEmpty()) {
+			cursor = null;
+		}
+
+		boolean totalCountSkipped = Boolean.parseBoolean(
+			httpServletRequest.getParameter("skip_count"));
+
+		return new DefaultPagination(
+			itemsPerPage, pageNumber, cursor, totalCountSkipped);
 	}
 
 	private int _getAsInt(String parameterValue, int defaultValue) {
@@ -70,14 +82,30 @@ public class PaginationProvider implements Provider<Pagination> {
 
 	private static class DefaultPagination implements Pagination {
 
-		public DefaultPagination(int itemsPerPage, int pageNumber) {
+		public DefaultPagination(
+			int itemsPerPage, int pageNumber, String cursor,
+			boolean totalCountSkipped) {
+
 			_itemsPerPage = itemsPerPage;
 			_pageNumber = pageNumber;
+			_cursor = cursor;
+			_totalCountSkipped = totalCountSkipped;
+		}
+
+		@Override
+		public Optional<String> getCursorOptional() {
+			return Optional.ofNullable(_cursor);
 		}
 
 		@Override
 		public int getEndPosition() {
-			return _pageNumber * _itemsPerPage;
+			int endPosition = _pageNumber * _itemsPerPage;
+
+			if (_totalCountSkipped) {
+				return endPosition + 1;
+			}
+
+			return endPosition;
 		}
 
 		@Override
@@ -95,8 +123,15 @@ public class PaginationProvider implements Provider<Pagination> {
 			return (_pageNumber - 1) * _itemsPerPage;
 		}
 
+		@Override
+		public boolean isTotalCountSkipped() {
+			return _totalCountSkipped;
+		}
+
+		private final String _cursor;
 		private final int _itemsPerPage;
 		private final int _pageNumber;
+		private final boolean _totalCountSkipped;
 
 	}
 
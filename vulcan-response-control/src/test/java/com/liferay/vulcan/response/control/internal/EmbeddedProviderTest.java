@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.response.control.internal;
+
+import com.liferay.vulcan.response.control.Embedded;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddedProviderTest {
+
+	@Test
+	public void testEachPathIsANodeOfTheTrie() {
+		Embedded embedded = new EmbeddedProvider.EmbeddedImpl(
+			Arrays.asList("creator", "folder.creator"));
+
+		Embedded.Node rootNode = embedded.getRootNode();
+
+		Assert.assertTrue(rootNode.hasChildren());
+		Assert.assertFalse(rootNode.isEmbedded());
+
+		Embedded.Node creatorNode = rootNode.getChild("creator");
+
+		Assert.assertTrue(creatorNode.isEmbedded());
+		Assert.assertFalse(creatorNode.hasChildren());
+
+		Embedded.Node folderNode = rootNode.getChild("folder");
+
+		Assert.assertFalse(folderNode.isEmbedded());
+		Assert.assertTrue(folderNode.hasChildren());
+
+		Embedded.Node folderCreatorNode = folderNode.getChild("creator");
+
+		Assert.assertTrue(folderCreatorNode.isEmbedded());
+	}
+
+	@Test
+	public void testMissingPathsResolveToAnEmptyNode() {
+		Embedded embedded = new EmbeddedProvider.EmbeddedImpl(
+			Collections.singletonList("creator"));
+
+		Embedded.Node rootNode = embedded.getRootNode();
+
+		Embedded.Node authorNode = rootNode.getChild("author");
+
+		Assert.assertFalse(authorNode.isEmbedded());
+		Assert.assertFalse(authorNode.hasChildren());
+
+		Embedded.Node authorFolderNode = authorNode.getChild("folder");
+
+		Assert.assertFalse(authorFolderNode.isEmbedded());
+		Assert.assertFalse(authorFolderNode.hasChildren());
+	}
+
+	@Test
+	public void testNoPathsHaveAnEmptyRootNode() {
+		Embedded embedded = new EmbeddedProvider.EmbeddedImpl(
+			Collections.emptyList());
+
+		Embedded.Node rootNode = embedded.getRootNode();
+
+		Assert.assertFalse(rootNode.hasChildren());
+
+		Embedded.Node creatorNode = rootNode.getChild("creator");
+
+		Assert.assertFalse(creatorNode.isEmbedded());
+	}
+
+	@Test
+	public void testThePredicateMatchesTheWholePaths() {
+		Embedded embedded = new EmbeddedProvider.EmbeddedImpl(
+			Arrays.asList("creator", "folder.creator"));
+
+		Predicate<String> predicate = embedded.getEmbeddedPredicate();
+
+		Assert.assertTrue(predicate.test("creator"));
+		Assert.assertTrue(predicate.test("folder.creator"));
+		Assert.assertFalse(predicate.test("folder"));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.response.control.internal;
+
+import com.liferay.vulcan.response.control.Fields;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class FieldsProviderTest {
+
+	@Test
+	public void testEveryFieldIsWrittenIfNoFieldsAreRequested() {
+		Fields fields = new FieldsProvider.FieldsImpl(Collections.emptyMap());
+
+		Predicate<String> predicate = fields.getFieldsPredicate(
+			Collections.singletonList("Person"));
+
+		Assert.assertTrue(predicate.test("name"));
+		Assert.assertTrue(predicate.test("email"));
+	}
+
+	@Test
+	public void testEveryFieldIsWrittenIfNoneOfTheTypesHasFields() {
+		Map<String, Set<String>> fieldsMap = new HashMap<>();
+
+		fieldsMap.put("BlogPosting", _createSet("headline"));
+
+		Fields fields = new FieldsProvider.FieldsImpl(fieldsMap);
+
+		Predicate<String> predicate = fields.getFieldsPredicate(
+			Collections.singletonList("Person"));
+
+		Assert.assertTrue(predicate.test("name"));
+	}
+
+	@Test
+	public void testOnlyTheRequestedFieldsOfTheTypesAreWritten() {
+		Map<String, Set<String>> fieldsMap = new HashMap<>();
+
+		fieldsMap.put("Person", _createSet("name", "email"));
+		fieldsMap.put("Thing", _createSet("url"));
+		fieldsMap.put("BlogPosting", _createSet("headline"));
+
+		Fields fields = new FieldsProvider.FieldsImpl(fieldsMap);
+
+		Predicate<String> predicate = fields.getFieldsPredicate(
+			Arrays.asList("Person", "Thing"));
+
+		Assert.assertTrue(predicate.test("name"));
+		Assert.assertTrue(predicate.test("email"));
+		Assert.assertTrue(predicate.test("url"));
+		Assert.assertFalse(predicate.test("headline"));
+		Assert.assertFalse(predicate.test("birthDate"));
+	}
+
+	@Test
+	public void testThePredicateOfATypeListIsResolvedOnce() {
+		Map<String, Set<String>> fieldsMap = new HashMap<>();
+
+		fieldsMap.put("Person", _createSet("name"));
+
+		Fields fields = new FieldsProvider.FieldsImpl(fieldsMap);
+
+		List<String> types = Arrays.asList("Person", "Thing");
+
+		Predicate<String> predicate = fields.getFieldsPredicate(types);
+
+		Assert.assertSame(
+			predicate,
+			fields.getFieldsPredicate(Arrays.asList("Person", "Thing")));
+	}
+
+	private Set<String> _createSet(String... values) {
+		return new HashSet<>(Arrays.asList(values));
+	}
+
+}
\ No newline at end of file
@@ -97,11 +97,15 @@ public class BlogPostingScopedCollectionResource
 			"aggregateRating", AggregateRating.class,
 			this::_getAggregateRatingOptional
 		).addEmbeddedModel(
-			"creator", User.class, this::_getUserOptional
+			"creator", User.class, this::_getUserOptional,
+			blogsEntry -> (LongIdentifier)blogsEntry::getUserId
+		).addLastModified(
+			BlogsEntry::getModifiedDate
 		).addLink(
 			"license", "https://creativecommons.org/licenses/by/4.0"
-		).addLinkedModel(
-			"author", User.class, this::_getUserOptional
+		).addLinkedModelIdentifier(
+			"author", User.class,
+			blogsEntry -> (LongIdentifier)blogsEntry::getUserId
 		).addRelatedCollection(
 			"comment", Comment.class, CommentableIdentifier::create
 		).addString(
@@ -236,10 +240,11 @@ public class BlogPostingScopedCollectionResource
 		List<BlogsEntry> blogsEntries = _blogsService.getGroupEntries(
 			groupIdLongIdentifier.getId(), 0, pagination.getStartPosition(),
 			pagination.getEndPosition());
-		int count = _blogsService.getGroupEntriesCount(
-			groupIdLongIdentifier.getId(), 0);
 
-		return new PageItems<>(blogsEntries, count);
+		return new PageItems<>(
+			blogsEntries,
+			() -> _blogsService.getGroupEntriesCount(
+				groupIdLongIdentifier.getId(), 0));
 	}
 
 	private Optional<User> _getUserOptional(BlogsEntry blogsEntry) {
@@ -76,7 +76,8 @@ public class CommentScopedCollectionResource
 		return representorBuilder.identifier(
 			comment -> comment::getCommentId
 		).addEmbeddedModel(
-			"author", User.class, this::_getUserOptional
+			"author", User.class, this::_getUserOptional,
+			comment -> (LongIdentifier)comment::getUserId
 		).addString(
 			"text", Comment::getBody
 		).addType(
@@ -202,11 +203,11 @@ public class CommentScopedCollectionResource
 			i--;
 		}
 
-		int count = _commentManager.getCommentsCount(
-			commentLongIdentifier.getClassName(),
-			commentLongIdentifier.getClassPK());
-
-		return new PageItems<>(comments, count);
+		return new PageItems<>(
+			comments,
+			() -> _commentManager.getCommentsCount(
+				commentLongIdentifier.getClassName(),
+				commentLongIdentifier.getClassPK()));
 	}
 
 	private Optional<User> _getUserOptional(Comment comment) {
@@ -20,7 +20,8 @@ import com.liferay.document.library.kernel.model.DLFileEntry;
 import com.liferay.document.library.kernel.model.DLFolder;
 import com.liferay.document.library.kernel.service.DLFileEntryService;
 import com.liferay.document.library.kernel.service.DLFolderService;
-import com.liferay.portal.kernel.exception.NoSuchUserException;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.security.auth.PrincipalException;
@@ -37,8 +38,13 @@ import com.liferay.vulcan.resource.identifier.LongIdentifier;
 
 import java.io.InputStream;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.ServerErrorException;
@@ -65,6 +71,8 @@ public class MediaObjectScopedCollectionResource
 
 		return representorBuilder.identifier(
 			dlFileEntry -> dlFileEntry::getFileEntryId
+		).addBatchEmbeddedModel(
+			"author", User.class, this::_getUsers
 		).addBidirectionalModel(
 			"folder", "mediaObjects", DLFolder.class,
 			this::_getDLFolderOptional,
@@ -77,8 +85,6 @@ public class MediaObjectScopedCollectionResource
 			"dateModified", DLFileEntry::getModifiedDate
 		).addDate(
 			"datePublished", DLFileEntry::getLastPublishDate
-		).addEmbeddedModel(
-			"author", User.class, this::_getUserOptional
 		).addNumber(
 			"contentSize", DLFileEntry::getSize
 		).addString(
@@ -183,18 +189,38 @@ public class MediaObjectScopedCollectionResource
 		}
 	}
 
-	private Optional<User> _getUserOptional(DLFileEntry dlFileEntry) {
-		try {
-			return Optional.ofNullable(
-				_userService.getUserById(dlFileEntry.getUserId()));
+	private Map<DLFileEntry, User> _getUsers(
+		Collection<DLFileEntry> dlFileEntries) {
+
+		Set<Long> userIds = new HashSet<>();
+
+		for (DLFileEntry dlFileEntry : dlFileEntries) {
+			userIds.add(dlFileEntry.getUserId());
 		}
-		catch (NoSuchUserException | PrincipalException e) {
-			throw new NotFoundException(
-				"Unable to get user " + dlFileEntry.getUserId(), e);
+
+		DynamicQuery dynamicQuery = _userService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("userId", userIds));
+
+		List<User> users = _userService.dynamicQuery(dynamicQuery);
+
+		Map<Long, User> usersMap = new HashMap<>();
+
+		for (User user : users) {
+			usersMap.put(user.getUserId(), user);
 		}
-		catch (PortalException pe) {
-			throw new ServerErrorException(500, pe);
+
+		Map<DLFileEntry, User> authors = new HashMap<>();
+
+		for (DLFileEntry dlFileEntry : dlFileEntries) {
+			User user = usersMap.get(dlFileEntry.getUserId());
+
+			if (user != null) {
+				authors.put(dlFileEntry, user);
+			}
 		}
+
+		return authors;
 	}
 
 	@Reference
@@ -36,6 +36,7 @@ import com.liferay.vulcan.resource.builder.RoutesBuilder;
 import com.liferay.vulcan.resource.identifier.LongIdentifier;
 import com.liferay.vulcan.resource.identifier.RootIdentifier;
 import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.util.TotalCountCache;
 
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -44,6 +45,7 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import javax.ws.rs.BadRequestException;
@@ -190,12 +192,19 @@ public class PersonCollectionResource
 				birthdayMonth, birthdayDay, birthdayYear, jobTitle, null, null,
 				null, null, false, new ServiceContext()));
 
-		return userTry.getUnchecked();
+		User user = userTry.getUnchecked();
+
+		_totalCountCache.invalidate(company.getCompanyId());
+
+		return user;
 	}
 
 	private void _deleteUser(LongIdentifier userLongIdentifier) {
 		try {
-			_userLocalService.deleteUser(userLongIdentifier.getId());
+			User user = _userLocalService.deleteUser(
+				userLongIdentifier.getId());
+
+			_totalCountCache.invalidate(user.getCompanyId());
 		}
 		catch (PortalException pe) {
 			throw new ServerErrorException(500, pe);
@@ -208,10 +217,13 @@ public class PersonCollectionResource
 		List<User> users = _userLocalService.getCompanyUsers(
 			company.getCompanyId(), pagination.getStartPosition(),
 			pagination.getEndPosition());
-		int count = _userLocalService.getCompanyUsersCount(
-			company.getCompanyId());
 
-		return new PageItems<>(users, count);
+		return new PageItems<>(
+			users,
+			_totalCountCache.getTotalCountSupplier(
+				company.getCompanyId(),
+				() -> _userLocalService.getCompanyUsersCount(
+					company.getCompanyId())));
 	}
 
 	private User _getUser(LongIdentifier userLongIdentifier) {
@@ -266,6 +278,9 @@ public class PersonCollectionResource
 		return userTry.getUnchecked();
 	}
 
+	private final TotalCountCache _totalCountCache = new TotalCountCache(
+		1, TimeUnit.MINUTES);
+
 	@Reference
 	private UserLocalService _userLocalService;
 
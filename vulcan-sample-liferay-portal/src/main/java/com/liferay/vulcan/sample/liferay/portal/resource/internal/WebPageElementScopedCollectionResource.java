@@ -81,7 +81,8 @@ public class WebPageElementScopedCollectionResource
 			"webSite", "webPageElements", WebSite.class,
 			this::_getWebSiteOptional, WebSite::getWebSiteLongIdentifier
 		).addEmbeddedModel(
-			"creator", User.class, this::_getUserOptional
+			"creator", User.class, this::_getUserOptional,
+			journalArticle -> (LongIdentifier)journalArticle::getUserId
 		).addDate(
 			"dateCreated", JournalArticle::getCreateDate
 		).addDate(
@@ -90,8 +91,9 @@ public class WebPageElementScopedCollectionResource
 			"datePublished", JournalArticle::getLastPublishDate
 		).addDate(
 			"lastReviewed", JournalArticle::getReviewDate
-		).addLinkedModel(
-			"author", User.class, this::_getUserOptional
+		).addLinkedModelIdentifier(
+			"author", User.class,
+			journalArticle -> (LongIdentifier)journalArticle::getUserId
 		).addString(
 			"description", JournalArticle::getDescription
 		).addString(
@@ -240,10 +242,11 @@ public class WebPageElementScopedCollectionResource
 			_journalArticleService.getArticles(
 				groupLongIdentifier.getId(), 0, pagination.getStartPosition(),
 				pagination.getEndPosition(), null);
-		int count = _journalArticleService.getArticlesCount(
-			groupLongIdentifier.getId(), 0);
 
-		return new PageItems<>(journalArticles, count);
+		return new PageItems<>(
+			journalArticles,
+			() -> _journalArticleService.getArticlesCount(
+				groupLongIdentifier.getId(), 0));
 	}
 
 	private Optional<User> _getUserOptional(JournalArticle journalArticle) {
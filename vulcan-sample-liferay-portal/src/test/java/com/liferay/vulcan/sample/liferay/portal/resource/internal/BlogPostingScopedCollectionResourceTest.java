@@ -59,10 +59,12 @@ public class BlogPostingScopedCollectionResourceTest
 		verifyIdentifier().addEmbeddedModel(
 			eq("aggregateRating"), any(Class.class), any(Function.class));
 		verifyIdentifier().addEmbeddedModel(
-			eq("creator"), eq(User.class), any(Function.class));
+			eq("creator"), eq(User.class), any(Function.class),
+			any(Function.class));
+		verifyIdentifier().addLastModified(any(Function.class));
 		verifyIdentifier().addLink(
 			eq("license"), eq("https://creativecommons.org/licenses/by/4.0"));
-		verifyIdentifier().addLinkedModel(
+		verifyIdentifier().addLinkedModelIdentifier(
 			eq("author"), eq(User.class), any(Function.class));
 		verifyIdentifier().addRelatedCollection(
 			eq("comment"), any(Class.class), any(Function.class));
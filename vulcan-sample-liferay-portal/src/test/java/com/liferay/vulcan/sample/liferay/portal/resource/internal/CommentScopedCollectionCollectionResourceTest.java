@@ -45,7 +45,8 @@ public class CommentScopedCollectionCollectionResourceTest
 		);
 
 		verifyIdentifier().addEmbeddedModel(
-			eq("author"), eq(User.class), any(Function.class));
+			eq("author"), eq(User.class), any(Function.class),
+			any(Function.class));
 		verifyIdentifier().addString(eq("text"), any(Function.class));
 		verifyIdentifier().addType(eq("Comment"));
 	}
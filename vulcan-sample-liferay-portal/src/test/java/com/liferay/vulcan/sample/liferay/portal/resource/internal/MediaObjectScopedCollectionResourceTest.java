@@ -40,6 +40,8 @@ public class MediaObjectScopedCollectionResourceTest
 		mediaObjectScopedCollectionResource.buildRepresentor(
 			representorBuilderSpy);
 
+		verifyIdentifier().addBatchEmbeddedModel(
+			eq("author"), eq(User.class), any(Function.class));
 		verifyIdentifier().addBidirectionalModel(
 			eq("folder"), eq("mediaObjects"), eq(DLFolder.class),
 			any(Function.class), any(Function.class));
@@ -48,8 +50,6 @@ public class MediaObjectScopedCollectionResourceTest
 		verifyIdentifier().addDate(eq("dateCreated"), any(Function.class));
 		verifyIdentifier().addDate(eq("dateModified"), any(Function.class));
 		verifyIdentifier().addDate(eq("datePublished"), any(Function.class));
-		verifyIdentifier().addEmbeddedModel(
-			eq("author"), eq(User.class), any(Function.class));
 		verifyIdentifier().addNumber(eq("contentSize"), any(Function.class));
 		verifyIdentifier().addString(eq("fileFormat"), any(Function.class));
 		verifyIdentifier().addString(eq("headline"), any(Function.class));
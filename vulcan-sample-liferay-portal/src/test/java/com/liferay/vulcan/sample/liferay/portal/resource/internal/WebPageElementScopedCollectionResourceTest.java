@@ -43,12 +43,13 @@ public class WebPageElementScopedCollectionResourceTest
 			eq("webSite"), eq("webPageElements"), eq(WebSite.class),
 			any(Function.class), any(Function.class));
 		verifyIdentifier().addEmbeddedModel(
-			eq("creator"), eq(User.class), any(Function.class));
+			eq("creator"), eq(User.class), any(Function.class),
+			any(Function.class));
 		verifyIdentifier().addDate(eq("dateCreated"), any(Function.class));
 		verifyIdentifier().addDate(eq("dateModified"), any(Function.class));
 		verifyIdentifier().addDate(eq("datePublished"), any(Function.class));
 		verifyIdentifier().addDate(eq("lastReviewed"), any(Function.class));
-		verifyIdentifier().addLinkedModel(
+		verifyIdentifier().addLinkedModelIdentifier(
 			eq("author"), eq(User.class), any(Function.class));
 		verifyIdentifier().addString(eq("description"), any(Function.class));
 		verifyIdentifier().addString(eq("text"), any(Function.class));
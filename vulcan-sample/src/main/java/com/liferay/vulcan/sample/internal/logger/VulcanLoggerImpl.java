@@ -30,6 +30,11 @@ import org.slf4j.LoggerFactory;
 @Component(immediate = true)
 public class VulcanLoggerImpl implements VulcanLogger {
 
+	@Override
+	public void debug(String message) {
+		_logger.debug(message);
+	}
+
 	@Override
 	public void error(APIError apiError) {
 		if (_logger.isDebugEnabled()) {
@@ -41,6 +46,11 @@ public class VulcanLoggerImpl implements VulcanLogger {
 		}
 	}
 
+	@Override
+	public boolean isDebugEnabled() {
+		return _logger.isDebugEnabled();
+	}
+
 	private String _getExceptionMessage(APIError apiError) {
 		Optional<String> optional = apiError.getDescription();
 
@@ -102,14 +102,18 @@ public class BlogPosting {
 	}
 
 	/**
-	 * Returns a page of {@code BlogPosting} from the database.
+	 * Returns a page of {@code BlogPosting} from the database, as a stream
+	 * that reads the blog postings as it's consumed.
 	 *
 	 * @param  start the start position.
 	 * @param  end the end position.
-	 * @return the list of blog postings between {@code start} and {@code end}.
+	 * @return the stream of blog postings between {@code start} and {@code
+	 *         end}.
 	 * @review
 	 */
-	public static List<BlogPosting> getBlogPostings(int start, int end) {
+	public static Stream<BlogPosting> getBlogPostingsStream(
+		int start, int end) {
+
 		Collection<BlogPosting> blogPostings = _blogPostings.values();
 
 		Stream<BlogPosting> stream = blogPostings.stream();
@@ -117,9 +121,7 @@ public class BlogPosting {
 		return stream.skip(
 			start
 		).limit(
-			end
-		).collect(
-			Collectors.toList()
+			end - start
 		);
 	}
 
@@ -102,6 +102,29 @@ public class Person {
 		);
 	}
 
+	/**
+	 * Returns the {@code Person} objects with certain {@code IDs} from the
+	 * database, in a single lookup. IDs with no person in the database are
+	 * skipped.
+	 *
+	 * @param  personIds the IDs of the persons to retrieve.
+	 * @return the map of the persons found, by their ID.
+	 * @review
+	 */
+	public static Map<Long, Person> getPeople(Collection<Long> personIds) {
+		Map<Long, Person> persons = new HashMap<>();
+
+		for (Long personId : personIds) {
+			Person person = _persons.get(personId);
+
+			if (person != null) {
+				persons.put(personId, person);
+			}
+		}
+
+		return persons;
+	}
+
 	/**
 	 * Return the total number of persons in the database.
 	 *
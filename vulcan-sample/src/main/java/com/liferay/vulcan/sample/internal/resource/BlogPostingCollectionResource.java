@@ -16,6 +16,7 @@ package com.liferay.vulcan.sample.internal.resource;
 
 import com.liferay.vulcan.pagination.PageItems;
 import com.liferay.vulcan.pagination.Pagination;
+import com.liferay.vulcan.resource.CachePolicy;
 import com.liferay.vulcan.resource.CollectionResource;
 import com.liferay.vulcan.resource.Representor;
 import com.liferay.vulcan.resource.Routes;
@@ -27,9 +28,14 @@ import com.liferay.vulcan.sample.internal.model.BlogPosting;
 import com.liferay.vulcan.sample.internal.model.BlogPostingComment;
 import com.liferay.vulcan.sample.internal.model.Person;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import javax.ws.rs.NotFoundException;
 
@@ -55,13 +61,14 @@ public class BlogPostingCollectionResource
 
 		return representorBuilder.identifier(
 			blogPosting -> blogPosting::getBlogPostingId
+		).addBatchEmbeddedModel(
+			"creator", Person.class, this::_getCreators
 		).addDate(
 			"dateCreated", BlogPosting::getCreateDate
 		).addDate(
 			"dateModified", BlogPosting::getModifiedDate
-		).addEmbeddedModel(
-			"creator", Person.class,
-			blogPosting -> Person.getPerson(blogPosting.getCreatorId())
+		).addLastModified(
+			BlogPosting::getModifiedDate
 		).addRelatedCollection(
 			"comments", BlogPostingComment.class,
 			blogPosting -> (LongIdentifier)blogPosting::getBlogPostingId
@@ -87,8 +94,12 @@ public class BlogPostingCollectionResource
 	public Routes<BlogPosting> routes(
 		RoutesBuilder<BlogPosting, LongIdentifier> routesBuilder) {
 
-		return routesBuilder.addCollectionPageGetter(
+		return routesBuilder.addCollectionPageCachePolicy(
+			CachePolicy.ofPublic(1, 1, TimeUnit.MINUTES)
+		).addCollectionPageGetter(
 			this::_getPageItems, RootIdentifier.class
+		).addCollectionPageItemCachePolicy(
+			CachePolicy.ofPublic(5, 1, TimeUnit.MINUTES)
 		).addCollectionPageItemCreator(
 			this::_addBlogPosting, RootIdentifier.class
 		).addCollectionPageItemGetter(
@@ -97,6 +108,8 @@ public class BlogPostingCollectionResource
 			this::_deleteBlogPosting
 		).addCollectionPageItemUpdater(
 			this::_updateBlogPosting
+		).addCollectionStreamGetter(
+			this::_getBlogPostingsStream, RootIdentifier.class
 		).build();
 	}
 
@@ -127,14 +140,44 @@ public class BlogPostingCollectionResource
 					blogPostingLongIdentifier.getId()));
 	}
 
+	private Stream<BlogPosting> _getBlogPostingsStream(
+		RootIdentifier rootIdentifier) {
+
+		return BlogPosting.getBlogPostingsStream(
+			0, BlogPosting.getBlogPostingCount());
+	}
+
+	private Map<BlogPosting, Person> _getCreators(
+		Collection<BlogPosting> blogPostings) {
+
+		Set<Long> creatorIds = new HashSet<>();
+
+		for (BlogPosting blogPosting : blogPostings) {
+			creatorIds.add(blogPosting.getCreatorId());
+		}
+
+		Map<Long, Person> people = Person.getPeople(creatorIds);
+
+		Map<BlogPosting, Person> creators = new HashMap<>();
+
+		for (BlogPosting blogPosting : blogPostings) {
+			Person person = people.get(blogPosting.getCreatorId());
+
+			if (person != null) {
+				creators.put(blogPosting, person);
+			}
+		}
+
+		return creators;
+	}
+
 	private PageItems<BlogPosting> _getPageItems(
 		Pagination pagination, RootIdentifier rootIdentifier) {
 
-		List<BlogPosting> blogPostings = BlogPosting.getBlogPostings(
+		Stream<BlogPosting> stream = BlogPosting.getBlogPostingsStream(
 			pagination.getStartPosition(), pagination.getEndPosition());
-		int count = BlogPosting.getBlogPostingCount();
 
-		return new PageItems<>(blogPostings, count);
+		return new PageItems<>(stream, BlogPosting::getBlogPostingCount);
 	}
 
 	private BlogPosting _updateBlogPosting(
@@ -62,6 +62,8 @@ public class BlogPostingCommentScopedCollectionResource
 			"author", Person.class,
 			blogPostingComment ->
 				Person.getPerson(blogPostingComment.getAuthorId())
+		).addLastModified(
+			BlogPostingComment::getModifiedDate
 		).addString(
 			"text", BlogPostingComment::getContent
 		).addType(
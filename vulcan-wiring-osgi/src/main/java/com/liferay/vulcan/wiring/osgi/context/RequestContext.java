@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.context;
+
+import com.liferay.vulcan.provider.ServerURLProvider;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Holds the values provided for a request, so every provided class is created
+ * once per request, the first time it's asked for, instead of once per
+ * component that needs it. The request's server URL is cached the same way.
+ *
+ * <p>
+ * The context is stored as an attribute of the request, named after this
+ * class, so the endpoint, the routes and the writers handling the same request
+ * share it.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class RequestContext {
+
+	/**
+	 * Returns the request's context, creating it if it doesn't exist yet. The
+	 * context must be created from the thread handling the request, before the
+	 * request is shared with any other thread writing its response.
+	 *
+	 * @param  httpServletRequest the actual HTTP servlet request
+	 * @return the request's context
+	 * @review
+	 */
+	public static RequestContext getRequestContext(
+		HttpServletRequest httpServletRequest) {
+
+		RequestContext requestContext =
+			(RequestContext)httpServletRequest.getAttribute(_ATTRIBUTE_NAME);
+
+		if (requestContext == null) {
+			requestContext = new RequestContext(httpServletRequest);
+
+			httpServletRequest.setAttribute(_ATTRIBUTE_NAME, requestContext);
+		}
+
+		return requestContext;
+	}
+
+	/**
+	 * Returns the instance of a class provided for this request. The instance
+	 * is created with the provide function only the first time it's asked for.
+	 *
+	 * @param  clazz the type class to be provided
+	 * @param  provideFunction the function that creates the instance for a
+	 *         request
+	 * @return the instance, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public <T> Optional<T> getProvidedOptional(
+		Class<T> clazz,
+		Function<HttpServletRequest, Optional<T>> provideFunction) {
+
+		Optional<?> optional = _provided.get(clazz);
+
+		if (optional == null) {
+			optional = provideFunction.apply(_httpServletRequest);
+
+			_provided.put(clazz, optional);
+		}
+
+		return (Optional<T>)optional;
+	}
+
+	/**
+	 * Returns the server URL of this request. The URL is calculated with the
+	 * server URL provider only the first time it's asked for.
+	 *
+	 * @param  serverURLProvider the server URL provider
+	 * @return the server URL
+	 * @review
+	 */
+	public String getServerURL(ServerURLProvider serverURLProvider) {
+		String serverURL = _serverURL;
+
+		if (serverURL == null) {
+			serverURL = serverURLProvider.getServerURL(_httpServletRequest);
+
+			_serverURL = serverURL;
+		}
+
+		return serverURL;
+	}
+
+	private RequestContext(HttpServletRequest httpServletRequest) {
+		_httpServletRequest = httpServletRequest;
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		RequestContext.class.getName();
+
+	private final HttpServletRequest _httpServletRequest;
+	private final Map<Class<?>, Optional<?>> _provided =
+		new ConcurrentHashMap<>();
+	private volatile String _serverURL;
+
+}
\ No newline at end of file
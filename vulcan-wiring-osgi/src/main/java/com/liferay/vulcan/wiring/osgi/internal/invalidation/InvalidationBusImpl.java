@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.internal.invalidation;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.vulcan.invalidation.InvalidationBatch;
+import com.liferay.vulcan.invalidation.InvalidationBus;
+import com.liferay.vulcan.invalidation.InvalidationEvent;
+import com.liferay.vulcan.invalidation.InvalidationListener;
+import com.liferay.vulcan.invalidation.InvalidationTransport;
+import com.liferay.vulcan.wiring.osgi.util.PropertiesUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Notifies the registered {@link InvalidationListener} services of every
+ * event published in this node, right away, and of the batches received from
+ * other nodes through the {@link InvalidationTransport}, if present.
+ *
+ * <p>
+ * Events are sent to other nodes in coalesced batches, at most every {@code
+ * invalidation.batch.delay} milliseconds. Batches with more than {@code
+ * invalidation.batch.max.size} events are replaced by a single event that
+ * invalidates everything. When the component is deactivated, the pending
+ * batch is sent right away, and events published afterwards are sent
+ * synchronously.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(immediate = true, service = InvalidationBus.class)
+public class InvalidationBusImpl implements InvalidationBus {
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		_batchDelay = PropertiesUtil.getIntegerProperty(
+			properties, "invalidation.batch.delay", _BATCH_DELAY);
+
+		int batchMaxSize = PropertiesUtil.getIntegerProperty(
+			properties, "invalidation.batch.max.size", _BATCH_MAX_SIZE);
+
+		_invalidationBatch = new InvalidationBatch(Math.max(batchMaxSize, 1));
+
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			runnable -> {
+				Thread thread = new Thread(
+					runnable, InvalidationBusImpl.class.getName());
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+	}
+
+	@Deactivate
+	public void deactivate() {
+		synchronized (_invalidationBatch) {
+			_deactivated = true;
+
+			_scheduledExecutorService.shutdown();
+		}
+
+		_flush();
+	}
+
+	@Override
+	public void publish(InvalidationEvent invalidationEvent) {
+		_notify(Collections.singletonList(invalidationEvent));
+
+		if (_invalidationTransport == null) {
+			return;
+		}
+
+		boolean deactivated;
+
+		synchronized (_invalidationBatch) {
+			deactivated = _deactivated;
+
+			boolean scheduled = !_invalidationBatch.isEmpty();
+
+			_invalidationBatch.add(invalidationEvent);
+
+			if (!deactivated && !scheduled) {
+				_scheduledExecutorService.schedule(
+					this::_flush, _batchDelay, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		if (deactivated) {
+			_flush();
+		}
+	}
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	protected void addInvalidationListener(
+		InvalidationListener invalidationListener) {
+
+		_invalidationListeners.add(invalidationListener);
+	}
+
+	protected void removeInvalidationListener(
+		InvalidationListener invalidationListener) {
+
+		_invalidationListeners.remove(invalidationListener);
+	}
+
+	@Reference(cardinality = OPTIONAL, policy = DYNAMIC, policyOption = GREEDY)
+	protected void setInvalidationTransport(
+		InvalidationTransport invalidationTransport) {
+
+		invalidationTransport.open(this::_notify);
+
+		_invalidationTransport = invalidationTransport;
+	}
+
+	protected void unsetInvalidationTransport(
+		InvalidationTransport invalidationTransport) {
+
+		if (_invalidationTransport == invalidationTransport) {
+			_invalidationTransport = null;
+		}
+
+		invalidationTransport.close();
+	}
+
+	private void _flush() {
+		List<InvalidationEvent> invalidationEvents;
+
+		synchronized (_invalidationBatch) {
+			invalidationEvents = _invalidationBatch.drain();
+		}
+
+		InvalidationTransport invalidationTransport = _invalidationTransport;
+
+		if (!invalidationEvents.isEmpty() && (invalidationTransport != null)) {
+			invalidationTransport.send(invalidationEvents);
+		}
+	}
+
+	private void _notify(List<InvalidationEvent> invalidationEvents) {
+		for (InvalidationListener invalidationListener :
+				_invalidationListeners) {
+
+			invalidationListener.onInvalidation(invalidationEvents);
+		}
+	}
+
+	private static final int _BATCH_DELAY = 100;
+
+	private static final int _BATCH_MAX_SIZE = 1000;
+
+	private int _batchDelay;
+	private boolean _deactivated;
+	private InvalidationBatch _invalidationBatch;
+	private final List<InvalidationListener> _invalidationListeners =
+		new CopyOnWriteArrayList<>();
+	private volatile InvalidationTransport _invalidationTransport;
+	private ScheduledExecutorService _scheduledExecutorService;
+
+}
\ No newline at end of file
@@ -15,33 +15,92 @@
 package com.liferay.vulcan.wiring.osgi.internal.pagination;
 
 import com.liferay.vulcan.pagination.Page;
+import com.liferay.vulcan.pagination.PageItems;
+import com.liferay.vulcan.pagination.Pagination;
 import com.liferay.vulcan.uri.Path;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
+ * A page whose total count is calculated the first time it's needed, and
+ * never if the client skips it. When the total count is skipped, the items
+ * beyond the requested page size tell whether a next page exists, and are
+ * left out of the page.
+ *
+ * <p>
+ * The items are pulled from the resource's stream while they are written,
+ * and only copied into a collection if {@link #getItems()} is called.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @review
  */
 public class PageImpl<T> implements Page<T> {
 
 	public PageImpl(
-		Class<T> modelClass, Collection<T> items, int itemsPerPage,
-		int pageNumber, int totalCount, Path path) {
+		Class<T> modelClass, PageItems<T> pageItems, Pagination pagination,
+		Path path) {
 
 		_modelClass = modelClass;
-		_items = items;
-		_itemsPerPage = itemsPerPage;
-		_pageNumber = pageNumber;
-		_totalCount = totalCount;
+		_itemsPerPage = pagination.getItemsPerPage();
+		_pageNumber = pagination.getPageNumber();
+		_totalCountSupplier = pageItems.getTotalCountSupplier();
+		_totalCountSkipped = pagination.isTotalCountSkipped();
+		_cursorOptional = pagination.getCursorOptional();
+		_cursorPaginated = pageItems.isCursorPaginated();
+		_nextCursorOptional = pageItems.getNextCursorOptional();
 		_path = path;
+		_sourceItemsStream = pageItems.getItemsStream();
+	}
+
+	@Override
+	public Optional<String> getCursorOptional() {
+		return _cursorOptional;
 	}
 
 	@Override
 	public Collection<T> getItems() {
+		if (_items == null) {
+			try (Stream<T> stream = getItemsStream()) {
+				_items = stream.collect(Collectors.toList());
+			}
+		}
+
 		return _items;
 	}
 
+	@Override
+	public Stream<T> getItemsStream() {
+		if (_items != null) {
+			return _items.stream();
+		}
+
+		if (_itemsStreamConsumed) {
+			throw new IllegalStateException(
+				"The page's items have already been consumed");
+		}
+
+		_itemsStreamConsumed = true;
+
+		if (!_totalCountSkipped) {
+			return _sourceItemsStream;
+		}
+
+		Stream<T> stream = StreamSupport.stream(
+			new FirstItemsSpliterator(_sourceItemsStream.iterator()), false);
+
+		return stream.onClose(_sourceItemsStream::close);
+	}
+
 	@Override
 	public int getItemsPerPage() {
 		return _itemsPerPage;
@@ -49,7 +108,7 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public int getLastPageNumber() {
-		return -Math.floorDiv(-_totalCount, _itemsPerPage);
+		return -Math.floorDiv(-getTotalCount(), _itemsPerPage);
 	}
 
 	@Override
@@ -57,6 +116,11 @@ public class PageImpl<T> implements Page<T> {
 		return _modelClass;
 	}
 
+	@Override
+	public Optional<String> getNextCursorOptional() {
+		return _nextCursorOptional;
+	}
+
 	@Override
 	public int getPageNumber() {
 		return _pageNumber;
@@ -69,11 +133,31 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public int getTotalCount() {
-		return _totalCount;
+		Integer totalCount = _totalCount;
+
+		if (totalCount == null) {
+			totalCount = _totalCountSupplier.getAsInt();
+
+			_totalCount = totalCount;
+		}
+
+		return totalCount;
 	}
 
 	@Override
 	public boolean hasNext() {
+		if (isCursorPaginated()) {
+			return _nextCursorOptional.isPresent();
+		}
+
+		if (_totalCountSkipped) {
+			if (!_itemsStreamConsumed) {
+				getItems();
+			}
+
+			return _moreItems;
+		}
+
 		if (getLastPageNumber() > _pageNumber) {
 			return true;
 		}
@@ -83,6 +167,10 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public boolean hasPrevious() {
+		if (isCursorPaginated()) {
+			return _cursorOptional.isPresent();
+		}
+
 		if (_pageNumber > 1) {
 			return true;
 		}
@@ -90,11 +178,62 @@ public class PageImpl<T> implements Page<T> {
 		return false;
 	}
 
-	private final Collection<T> _items;
+	@Override
+	public boolean isCursorPaginated() {
+		return _cursorPaginated;
+	}
+
+	@Override
+	public boolean isTotalCountSkipped() {
+		return _totalCountSkipped;
+	}
+
+	private final Optional<String> _cursorOptional;
+	private final boolean _cursorPaginated;
+	private Collection<T> _items;
 	private final int _itemsPerPage;
+	private boolean _itemsStreamConsumed;
 	private final Class<T> _modelClass;
+	private boolean _moreItems;
+	private final Optional<String> _nextCursorOptional;
 	private final int _pageNumber;
 	private final Path _path;
-	private final int _totalCount;
+	private final Stream<T> _sourceItemsStream;
+	private volatile Integer _totalCount;
+	private final boolean _totalCountSkipped;
+	private final IntSupplier _totalCountSupplier;
+
+	private class FirstItemsSpliterator
+		extends Spliterators.AbstractSpliterator<T> {
+
+		public FirstItemsSpliterator(Iterator<T> iterator) {
+			super(_itemsPerPage, Spliterator.ORDERED);
+
+			_iterator = iterator;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> consumer) {
+			if (!_iterator.hasNext()) {
+				return false;
+			}
+
+			if (_count == _itemsPerPage) {
+				_moreItems = true;
+
+				return false;
+			}
+
+			consumer.accept(_iterator.next());
+
+			_count++;
+
+			return true;
+		}
+
+		private int _count;
+		private final Iterator<T> _iterator;
+
+	}
 
 }
\ No newline at end of file
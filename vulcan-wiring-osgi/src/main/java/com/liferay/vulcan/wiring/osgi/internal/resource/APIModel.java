@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.internal.resource;
+
+import com.liferay.vulcan.consumer.TriConsumer;
+import com.liferay.vulcan.error.VulcanDeveloperError;
+import com.liferay.vulcan.resource.CollectionResource;
+import com.liferay.vulcan.resource.RelatedCollection;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.Routes;
+import com.liferay.vulcan.resource.ScopedCollectionResource;
+import com.liferay.vulcan.resource.identifier.Identifier;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RepresentorBuilderImpl;
+import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RoutesBuilderImpl;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Immutable, pre-indexed view of every registered {@link CollectionResource}:
+ * their names, model classes, representors, serialization plans, routes and
+ * related collections.
+ *
+ * <p>
+ * A model is built at once from the collection resources, off the request
+ * path, and never changes afterwards, so it can be published through a single
+ * volatile reference and read without locks. The representors are built
+ * before any serialization plan, so every plan already contains the related
+ * collections added by other resources.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class APIModel {
+
+	/**
+	 * Creates an empty model.
+	 *
+	 * @review
+	 */
+	public APIModel() {
+	}
+
+	/**
+	 * Creates a model with the collection resources.
+	 *
+	 * @param  collectionResources the collection resources, keyed by their
+	 *         model class, in registration order
+	 * @param  provideClassFunction the function that provides instances of a
+	 *         class for a request, used by the routes
+	 * @param  identifierFunction the function that maps a path to an
+	 *         identifier, used by the routes
+	 * @review
+	 */
+	public APIModel(
+		Map<Class<?>, CollectionResource> collectionResources,
+		Function<Class<?>, Function<HttpServletRequest, Optional<?>>>
+			provideClassFunction,
+		BiFunction<Class<? extends Identifier>, Path,
+			Optional<? extends Identifier>> identifierFunction) {
+
+		collectionResources.forEach(
+			(modelClass, collectionResource) -> _addCollectionResource(
+				(Class<Object>)modelClass, collectionResource,
+				provideClassFunction, identifierFunction));
+
+		_representors.forEach(
+			(modelClass, representor) -> _serializationPlans.put(
+				modelClass, new SerializationPlan<>(representor)));
+	}
+
+	/**
+	 * Returns the model class of a resource's name.
+	 *
+	 * @param  name the resource's name
+	 * @return the model class, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public <T> Optional<Class<T>> getModelClassOptional(String name) {
+		Optional<Class<?>> optional = Optional.ofNullable(
+			_modelClasses.get(name));
+
+		return optional.map(modelClass -> (Class<T>)modelClass);
+	}
+
+	/**
+	 * Returns the resource's name of a model class.
+	 *
+	 * @param  modelClass the model class
+	 * @return the resource's name, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getNameOptional(Class<?> modelClass) {
+		return Optional.ofNullable(_names.get(modelClass));
+	}
+
+	/**
+	 * Returns the resource's name of a model class name.
+	 *
+	 * @param  className the model class name
+	 * @return the resource's name, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getNameOptional(String className) {
+		return Optional.ofNullable(_classNameNames.get(className));
+	}
+
+	/**
+	 * Returns the representor of a model class.
+	 *
+	 * @param  modelClass the model class
+	 * @return the representor, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public <T, U extends Identifier> Optional<Representor<T, U>>
+		getRepresentorOptional(Class<T> modelClass) {
+
+		Optional<Representor<?, ?>> optional = Optional.ofNullable(
+			_representors.get(modelClass));
+
+		return optional.map(representor -> (Representor<T, U>)representor);
+	}
+
+	/**
+	 * Returns the names of the root resources, in registration order.
+	 *
+	 * @return the names of the root resources
+	 * @review
+	 */
+	public List<String> getRootCollectionResourceNames() {
+		return Collections.unmodifiableList(_rootCollectionResourceNames);
+	}
+
+	/**
+	 * Returns the routes of a resource's name.
+	 *
+	 * @param  name the resource's name
+	 * @return the routes, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public <T> Optional<Routes<T>> getRoutesOptional(String name) {
+		Optional<Routes<?>> optional = Optional.ofNullable(_routes.get(name));
+
+		return optional.map(routes -> (Routes<T>)routes);
+	}
+
+	/**
+	 * Returns the serialization plan of a model class.
+	 *
+	 * @param  modelClass the model class
+	 * @return the serialization plan, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public <T> Optional<SerializationPlan<T>> getSerializationPlanOptional(
+		Class<T> modelClass) {
+
+		Optional<SerializationPlan<?>> optional = Optional.ofNullable(
+			_serializationPlans.get(modelClass));
+
+		return optional.map(
+			serializationPlan -> (SerializationPlan<T>)serializationPlan);
+	}
+
+	private <T, U extends Identifier> void _addCollectionResource(
+		Class<T> modelClass, CollectionResource<T, U> collectionResource,
+		Function<Class<?>, Function<HttpServletRequest, Optional<?>>>
+			provideClassFunction,
+		BiFunction<Class<? extends Identifier>, Path,
+			Optional<? extends Identifier>> identifierFunction) {
+
+		String name = collectionResource.getName();
+
+		_classNameNames.put(modelClass.getName(), name);
+		_modelClasses.put(name, modelClass);
+		_names.put(modelClass, name);
+
+		if (!(collectionResource instanceof ScopedCollectionResource)) {
+			_rootCollectionResourceNames.add(name);
+		}
+
+		Class<U> identifierClass = _getIdentifierClass(collectionResource);
+
+		Supplier<List<RelatedCollection<T, ?>>> relatedCollectionsSupplier =
+			() -> (List)_relatedCollections.get(modelClass);
+
+		Representor<T, U> representor = collectionResource.buildRepresentor(
+			new RepresentorBuilderImpl<>(
+				identifierClass, _addRelatedCollectionTriConsumer(modelClass),
+				relatedCollectionsSupplier));
+
+		_representors.put(modelClass, representor);
+
+		Routes<T> routes = collectionResource.routes(
+			new RoutesBuilderImpl<>(
+				modelClass, identifierClass, provideClassFunction,
+				identifierFunction));
+
+		_routes.put(name, routes);
+	}
+
+	private <T> TriConsumer<String, Class<?>, Function<Object, Identifier>>
+		_addRelatedCollectionTriConsumer(Class<T> relatedModelClass) {
+
+		return (key, modelClass, identifierFunction) -> {
+			List<RelatedCollection<?, ?>> relatedCollections =
+				_relatedCollections.computeIfAbsent(
+					modelClass, clazz -> new ArrayList<>());
+
+			relatedCollections.add(
+				new RelatedCollection<>(
+					key, relatedModelClass, identifierFunction));
+		};
+	}
+
+	private <T, U extends Identifier> Class<U> _getIdentifierClass(
+		CollectionResource<T, U> collectionResource) {
+
+		Class<? extends CollectionResource> resourceClass =
+			collectionResource.getClass();
+
+		Try<Class<U>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			resourceClass, 1);
+
+		return classTry.orElseThrow(
+			() -> new VulcanDeveloperError.MustHaveValidGenericType(
+				resourceClass));
+	}
+
+	private final Map<String, String> _classNameNames = new HashMap<>();
+	private final Map<String, Class<?>> _modelClasses = new HashMap<>();
+	private final Map<Class<?>, String> _names = new HashMap<>();
+	private final Map<Class<?>, List<RelatedCollection<?, ?>>>
+		_relatedCollections = new HashMap<>();
+	private final Map<Class<?>, Representor<?, ?>> _representors =
+		new HashMap<>();
+	private final List<String> _rootCollectionResourceNames =
+		new ArrayList<>();
+	private final Map<String, Routes<?>> _routes = new HashMap<>();
+	private final Map<Class<?>, SerializationPlan<?>> _serializationPlans =
+		new HashMap<>();
+
+}
\ No newline at end of file
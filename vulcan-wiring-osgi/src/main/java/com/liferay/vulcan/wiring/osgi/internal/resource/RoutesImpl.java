@@ -14,8 +14,10 @@
 
 package com.liferay.vulcan.wiring.osgi.internal.resource;
 
+import com.liferay.vulcan.pagination.CollectionStream;
 import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.CachePolicy;
 import com.liferay.vulcan.resource.Routes;
 import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.uri.Path;
@@ -25,82 +27,136 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * @author Alejandro Hernández
  */
 public class RoutesImpl<T> implements Routes<T> {
 
 	@Override
-	public Optional<Consumer<Path>> getDeleteSingleModelConsumerOptional() {
-		return Optional.ofNullable(_deleteSingleModelConsumer);
+	public Optional<Function<HttpServletRequest,
+		Function<Identifier, CollectionStream<T>>>>
+			getCollectionStreamFunctionOptional() {
+
+		return Optional.ofNullable(_collectionStreamFunction);
+	}
+
+	@Override
+	public Optional<Function<HttpServletRequest, Consumer<Path>>>
+		getDeleteSingleModelConsumerOptional() {
+
+		return Optional.ofNullable(_deleteSingleModelFunction);
 	}
 
 	@Override
-	public Optional<Function<Path, Function<Identifier, Page<T>>>>
-		getPageFunctionOptional() {
+	public Optional<CachePolicy> getPageCachePolicyOptional() {
+		return Optional.ofNullable(_pageCachePolicy);
+	}
+
+	@Override
+	public Optional<Function<HttpServletRequest, Function<Path,
+		Function<Identifier, Page<T>>>>> getPageFunctionOptional() {
 
 		return Optional.ofNullable(_pageFunction);
 	}
 
 	@Override
-	public Optional<Function<Identifier, Function<Map<String, Object>,
-		SingleModel<T>>>> getPostSingleModelFunctionOptional() {
+	public Optional<Function<HttpServletRequest, Function<Identifier,
+		Function<Map<String, Object>, SingleModel<T>>>>>
+			getPostSingleModelFunctionOptional() {
 
 		return Optional.ofNullable(_postSingleModelFunction);
 	}
 
 	@Override
-	public Optional<Function<Path, SingleModel<T>>>
-		getSingleModelFunctionOptional() {
+	public Optional<CachePolicy> getSingleModelCachePolicyOptional() {
+		return Optional.ofNullable(_singleModelCachePolicy);
+	}
+
+	@Override
+	public Optional<Function<HttpServletRequest,
+		Function<Path, SingleModel<T>>>> getSingleModelFunctionOptional() {
 
 		return Optional.ofNullable(_singleModelFunction);
 	}
 
 	@Override
-	public Optional<Function<Path, Function<Map<String, Object>,
-		SingleModel<T>>>> getUpdateSingleModelFunctionOptional() {
+	public Optional<Function<HttpServletRequest, Function<Path,
+		Function<Map<String, Object>, SingleModel<T>>>>>
+			getUpdateSingleModelFunctionOptional() {
 
 		return Optional.ofNullable(_putSingleModelFunction);
 	}
 
+	public void setCollectionStreamFunction(
+		Function<HttpServletRequest, Function<Identifier, CollectionStream<T>>>
+			collectionStreamFunction) {
+
+		_collectionStreamFunction = collectionStreamFunction;
+	}
+
 	public void setDeleteSingleModelConsumer(
-		Consumer<Path> deleteSingleModelConsumer) {
+		Function<HttpServletRequest, Consumer<Path>>
+			deleteSingleModelFunction) {
 
-		_deleteSingleModelConsumer = deleteSingleModelConsumer;
+		_deleteSingleModelFunction = deleteSingleModelFunction;
+	}
+
+	public void setPageCachePolicy(CachePolicy pageCachePolicy) {
+		_pageCachePolicy = pageCachePolicy;
 	}
 
 	public void setPageFunction(
-		Function<Path, Function<Identifier, Page<T>>> pageFunction) {
+		Function<HttpServletRequest, Function<Path,
+			Function<Identifier, Page<T>>>> pageFunction) {
 
 		_pageFunction = pageFunction;
 	}
 
 	public void setPostSingleModelFunction(
-		Function<Identifier, Function<Map<String, Object>, SingleModel<T>>>
-			postSingleModelFunction) {
+		Function<HttpServletRequest, Function<Identifier,
+			Function<Map<String, Object>, SingleModel<T>>>>
+				postSingleModelFunction) {
 
 		_postSingleModelFunction = postSingleModelFunction;
 	}
 
 	public void setPutSingleModelFunction(
-		Function<Path, Function<Map<String, Object>, SingleModel<T>>>
-			putSingleModelFunction) {
+		Function<HttpServletRequest, Function<Path,
+			Function<Map<String, Object>, SingleModel<T>>>>
+				putSingleModelFunction) {
 
 		_putSingleModelFunction = putSingleModelFunction;
 	}
 
+	public void setSingleModelCachePolicy(
+		CachePolicy singleModelCachePolicy) {
+
+		_singleModelCachePolicy = singleModelCachePolicy;
+	}
+
 	public void setSingleModelFunction(
-		Function<Path, SingleModel<T>> singleModelFunction) {
+		Function<HttpServletRequest, Function<Path, SingleModel<T>>>
+			singleModelFunction) {
 
 		_singleModelFunction = singleModelFunction;
 	}
 
-	private Consumer<Path> _deleteSingleModelConsumer;
-	private Function<Path, Function<Identifier, Page<T>>> _pageFunction;
-	private Function<Identifier, Function<Map<String, Object>, SingleModel<T>>>
-		_postSingleModelFunction;
-	private Function<Path, Function<Map<String, Object>, SingleModel<T>>>
-		_putSingleModelFunction;
-	private Function<Path, SingleModel<T>> _singleModelFunction;
+	private Function<HttpServletRequest,
+		Function<Identifier, CollectionStream<T>>> _collectionStreamFunction;
+	private Function<HttpServletRequest, Consumer<Path>>
+		_deleteSingleModelFunction;
+	private CachePolicy _pageCachePolicy;
+	private Function<HttpServletRequest, Function<Path,
+		Function<Identifier, Page<T>>>> _pageFunction;
+	private Function<HttpServletRequest, Function<Identifier,
+		Function<Map<String, Object>, SingleModel<T>>>>
+			_postSingleModelFunction;
+	private Function<HttpServletRequest, Function<Path,
+		Function<Map<String, Object>, SingleModel<T>>>> _putSingleModelFunction;
+	private CachePolicy _singleModelCachePolicy;
+	private Function<HttpServletRequest, Function<Path, SingleModel<T>>>
+		_singleModelFunction;
 
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import java.text.SimpleDateFormat;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -38,6 +39,7 @@ import java.util.TimeZone;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -100,6 +102,11 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return _linkedRelatedModels;
 		}
 
+		@Override
+		public Optional<Function<T, Date>> getLastModifiedFunctionOptional() {
+			return Optional.ofNullable(_lastModifiedFunction);
+		}
+
 		@Override
 		public Map<String, String> getLinks() {
 			return _links;
@@ -119,14 +126,25 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 
 		@Override
 		public Stream<RelatedCollection<T, ?>> getRelatedCollections() {
-			Stream<List<RelatedCollection<T, ?>>> stream = Stream.of(
-				_relatedCollections, _relatedCollectionsSupplier.get());
+			List<RelatedCollection<T, ?>> allRelatedCollections =
+				_allRelatedCollections;
+
+			if (allRelatedCollections == null) {
+				Stream<List<RelatedCollection<T, ?>>> stream = Stream.of(
+					_relatedCollections, _relatedCollectionsSupplier.get());
+
+				allRelatedCollections = stream.filter(
+					Objects::nonNull
+				).flatMap(
+					Collection::stream
+				).collect(
+					Collectors.toList()
+				);
 
-			return stream.filter(
-				Objects::nonNull
-			).flatMap(
-				Collection::stream
-			);
+				_allRelatedCollections = allRelatedCollections;
+			}
+
+			return allRelatedCollections.stream();
 		}
 
 		@Override
@@ -139,6 +157,27 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return _types;
 		}
 
+		@Override
+		public Optional<Function<T, Object>> getVersionFunctionOptional() {
+			return Optional.ofNullable(_versionFunction);
+		}
+
+		private <S> void _addBatchEmbeddedModel(
+			String key, Class<S> modelClass,
+			Function<Collection<T>, Map<T, S>> batchFunction) {
+
+			Function<T, Optional<S>> modelFunction = model -> {
+				Map<T, S> map = batchFunction.apply(
+					Collections.singletonList(model));
+
+				return Optional.ofNullable(map.get(model));
+			};
+
+			_embeddedRelatedModels.add(
+				new RelatedModel<>(
+					key, modelClass, modelFunction, null, batchFunction));
+		}
+
 		private void _addBinary(String key, BinaryFunction<T> binaryFunction) {
 			_binaryFunctions.put(key, binaryFunction);
 		}
@@ -157,6 +196,20 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 				new RelatedModel<>(key, modelClass, modelFunction));
 		}
 
+		private <S> void _addEmbeddedModel(
+			String key, Class<S> modelClass,
+			Function<T, Optional<S>> modelFunction,
+			Function<T, Identifier> identifierFunction) {
+
+			_embeddedRelatedModels.add(
+				new RelatedModel<>(
+					key, modelClass, modelFunction, identifierFunction));
+		}
+
+		private void _addLastModified(Function<T, Date> lastModifiedFunction) {
+			_lastModifiedFunction = lastModifiedFunction;
+		}
+
 		private void _addLink(String key, String url) {
 			_links.put(key, url);
 		}
@@ -169,6 +222,16 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 				new RelatedModel<>(key, modelClass, modelFunction));
 		}
 
+		private <S> void _addLinkedModelIdentifier(
+			String key, Class<S> modelClass,
+			Function<T, Identifier> identifierFunction) {
+
+			_linkedRelatedModels.add(
+				new RelatedModel<>(
+					key, modelClass, model -> Optional.empty(),
+					identifierFunction));
+		}
+
 		private void _addLocalizedString(
 			String key, BiFunction<T, Language, String> fieldFunction) {
 
@@ -195,6 +258,11 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			_types.add(type);
 		}
 
+		private void _addVersion(Function<T, Object> versionFunction) {
+			_versionFunction = versionFunction;
+		}
+
+		private volatile List<RelatedCollection<T, ?>> _allRelatedCollections;
 		private Map<String, BinaryFunction<T>> _binaryFunctions =
 			new HashMap<>();
 		private Map<String, Function<T, Boolean>> _booleanFunctions =
@@ -202,6 +270,7 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 		private List<RelatedModel<T, ?>> _embeddedRelatedModels =
 			new ArrayList<>();
 		private final Function<T, U> _identifierFunction;
+		private Function<T, Date> _lastModifiedFunction;
 		private List<RelatedModel<T, ?>> _linkedRelatedModels =
 			new ArrayList<>();
 		private Map<String, String> _links = new HashMap<>();
@@ -214,6 +283,7 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 		private Map<String, Function<T, String>> _stringFunctions =
 			new HashMap<>();
 		private List<String> _types = new ArrayList<>();
+		private Function<T, Object> _versionFunction;
 
 	}
 
@@ -229,6 +299,17 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			_representor = new RepresentorImpl(identifierFunction);
 		}
 
+		@Override
+		public <S> FirstStep<T, U> addBatchEmbeddedModel(
+			String key, Class<S> modelClass,
+			Function<Collection<T>, Map<T, S>> batchFunction) {
+
+			_representor._addBatchEmbeddedModel(
+				key, modelClass, batchFunction);
+
+			return this;
+		}
+
 		@Override
 		public <S> FirstStep<T, U> addBidirectionalModel(
 			String key, String relatedKey, Class<S> modelClass,
@@ -296,6 +377,27 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return this;
 		}
 
+		@Override
+		public <S> FirstStep<T, U> addEmbeddedModel(
+			String key, Class<S> modelClass,
+			Function<T, Optional<S>> modelFunction,
+			Function<T, Identifier> identifierFunction) {
+
+			_representor._addEmbeddedModel(
+				key, modelClass, modelFunction, identifierFunction);
+
+			return this;
+		}
+
+		@Override
+		public FirstStep<T, U> addLastModified(
+			Function<T, Date> lastModifiedFunction) {
+
+			_representor._addLastModified(lastModifiedFunction);
+
+			return this;
+		}
+
 		@Override
 		public FirstStep<T, U> addLink(String key, String url) {
 			_representor._addLink(key, url);
@@ -313,6 +415,17 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return this;
 		}
 
+		@Override
+		public <S> FirstStep<T, U> addLinkedModelIdentifier(
+			String key, Class<S> modelClass,
+			Function<T, Identifier> identifierFunction) {
+
+			_representor._addLinkedModelIdentifier(
+				key, modelClass, identifierFunction);
+
+			return this;
+		}
+
 		@Override
 		public FirstStep<T, U> addLocalizedString(
 			String key, BiFunction<T, Language, String> stringFunction) {
@@ -358,6 +471,13 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return this;
 		}
 
+		@Override
+		public FirstStep<T, U> addVersion(Function<T, Object> versionFunction) {
+			_representor._addVersion(versionFunction);
+
+			return this;
+		}
+
 		@Override
 		public Representor<T, U> build() {
 			return _representor;
@@ -34,9 +34,11 @@ import com.liferay.vulcan.function.PentaFunction;
 import com.liferay.vulcan.function.TetraFunction;
 import com.liferay.vulcan.function.TriFunction;
 import com.liferay.vulcan.function.UndecaFunction;
+import com.liferay.vulcan.pagination.CollectionStream;
 import com.liferay.vulcan.pagination.PageItems;
 import com.liferay.vulcan.pagination.Pagination;
 import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.CachePolicy;
 import com.liferay.vulcan.resource.Routes;
 import com.liferay.vulcan.resource.builder.RoutesBuilder;
 import com.liferay.vulcan.resource.identifier.Identifier;
@@ -50,6 +52,9 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
 
 /**
  * @author Alejandro Hernández
@@ -59,7 +64,8 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 
 	public RoutesBuilderImpl(
 		Class<T> modelClass, Class<U> singleModelIdentifierClass,
-		Function<Class<?>, Optional<?>> provideClassFunction,
+		Function<Class<?>, Function<HttpServletRequest, Optional<?>>>
+			provideClassFunction,
 		BiFunction<Class<? extends Identifier>, Path,
 			Optional<? extends Identifier>> identifierFunction) {
 
@@ -69,6 +75,15 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		_identifierFunction = identifierFunction;
 	}
 
+	@Override
+	public RoutesBuilder<T, U> addCollectionPageCachePolicy(
+		CachePolicy cachePolicy) {
+
+		_routesImpl.setPageCachePolicy(cachePolicy);
+
+		return this;
+	}
+
 	@Override
 	public <V extends Identifier> RoutesBuilder<T, U> addCollectionPageGetter(
 		BiFunction<Pagination, V, PageItems<T>> biFunction,
@@ -77,19 +92,20 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
 
 					PageItems<T> pageItems = biFunction.apply(
 						pagination, identifier);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -107,27 +123,38 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+					H h = hFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = decaFunction.apply(
 						pagination, identifier, a, b, c, d, e, f, g, h);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -145,26 +172,36 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = enneaFunction.apply(
 						pagination, identifier, a, b, c, d, e, f, g);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -181,24 +218,32 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = heptaFunction.apply(
 						pagination, identifier, a, b, c, d, e);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -214,23 +259,30 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = hexaFunction.apply(
 						pagination, identifier, a, b, c, d);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -248,25 +300,34 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = octaFunction.apply(
 						pagination, identifier, a, b, c, d, e, f);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -282,22 +343,28 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = pentaFunction.apply(
 						pagination, identifier, a, b, c);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -312,21 +379,26 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = tetraFunction.apply(
 						pagination, identifier, a, b);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -341,20 +413,24 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, Pagination> paginationFunction =
+			_getProvideFunction(Pagination.class);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
+					Pagination pagination = paginationFunction.apply(
+						httpServletRequest);
+
+					A a = aFunction.apply(httpServletRequest);
 
 					PageItems<T> pageItems = triFunction.apply(
 						pagination, identifier, a);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination, path);
 				}));
 
 		return this;
@@ -370,7 +446,7 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
 					T t = biFunction.apply(v, body);
 
@@ -392,17 +468,26 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+					H h = hFunction.apply(httpServletRequest);
 
 					T t = decaFunction.apply(v, body, a, b, c, d, e, f, g, h);
 
@@ -424,16 +509,24 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
 
 					T t = enneaFunction.apply(v, body, a, b, c, d, e, f, g);
 
@@ -454,14 +547,20 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
 
 					T t = heptaFunction.apply(v, body, a, b, c, d, e);
 
@@ -481,13 +580,18 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
 
 					T t = hexaFunction.apply(v, body, a, b, c, d);
 
@@ -509,15 +613,22 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
 
 					T t = octaFunction.apply(v, body, a, b, c, d, e, f);
 
@@ -537,12 +648,16 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
 
 					T t = pentaFunction.apply(v, body, a, b, c);
 
@@ -561,11 +676,14 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
 
 					T t = tetraFunction.apply(v, body, a, b);
 
@@ -584,10 +702,12 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
+					A a = aFunction.apply(httpServletRequest);
 
 					T t = triFunction.apply(v, body, a);
 
@@ -609,18 +729,28 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Identifier, V> collectionIdentifierFunction =
 			_getCollectionIdentifierFunction(identifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+		Function<HttpServletRequest, I> iFunction = _getProvideFunction(iClass);
+
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
-					I i = _provideClass(iClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+					H h = hFunction.apply(httpServletRequest);
+					I i = iFunction.apply(httpServletRequest);
 
 					T t = undecaFunction.apply(
 						v, body, a, b, c, d, e, f, g, h, i);
@@ -631,6 +761,15 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		return this;
 	}
 
+	@Override
+	public RoutesBuilder<T, U> addCollectionPageItemCachePolicy(
+		CachePolicy cachePolicy) {
+
+		_routesImpl.setSingleModelCachePolicy(cachePolicy);
+
+		return this;
+	}
+
 	@Override
 	public <A> RoutesBuilder<T, U> addCollectionPageItemGetter(
 		BiFunction<U, A, T> biFunction, Class<A> aClass) {
@@ -638,15 +777,18 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-
-				return biFunction.apply(id, a);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+
+					return biFunction.apply(id, a);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -662,23 +804,34 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-				G g = _provideClass(gClass);
-				H h = _provideClass(hClass);
-				I i = _provideClass(iClass);
-
-				return decaFunction.apply(id, a, b, c, d, e, f, g, h, i);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+		Function<HttpServletRequest, I> iFunction = _getProvideFunction(iClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+					H h = hFunction.apply(httpServletRequest);
+					I i = iFunction.apply(httpServletRequest);
+
+					return decaFunction.apply(id, a, b, c, d, e, f, g, h, i);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -694,22 +847,32 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-				G g = _provideClass(gClass);
-				H h = _provideClass(hClass);
-
-				return enneaFunction.apply(id, a, b, c, d, e, f, g, h);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+					H h = hFunction.apply(httpServletRequest);
+
+					return enneaFunction.apply(id, a, b, c, d, e, f, g, h);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -721,10 +884,15 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(function);
+		Function<Path, SingleModel<T>> singleModelFunction =
+			identifierFunction.andThen(
+				function
+			).andThen(
+				_getCreateSingleModelFunction()
+			);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> singleModelFunction);
 
 		return this;
 	}
@@ -738,20 +906,28 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-
-				return heptaFunction.apply(id, a, b, c, d, e, f);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+
+					return heptaFunction.apply(id, a, b, c, d, e, f);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -764,19 +940,26 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-
-				return hexaFunction.apply(id, a, b, c, d, e);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+
+					return hexaFunction.apply(id, a, b, c, d, e);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -791,21 +974,30 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-				G g = _provideClass(gClass);
-
-				return octaFunction.apply(id, a, b, c, d, e, f, g);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+
+					return octaFunction.apply(id, a, b, c, d, e, f, g);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -818,18 +1010,24 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-
-				return pentaFunction.apply(id, a, b, c, d);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+
+					return pentaFunction.apply(id, a, b, c, d);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -842,17 +1040,22 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-
-				return tetraFunction.apply(id, a, b, c);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+
+					return tetraFunction.apply(id, a, b, c);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -864,16 +1067,20 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-
-				return triFunction.apply(id, a, b);
-			});
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
 
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+
+					return triFunction.apply(id, a, b);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -885,14 +1092,15 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
 
-			biConsumer.accept(u, a);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				biConsumer.accept(u, a);
+			});
 
 		return this;
 	}
@@ -910,7 +1118,8 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			consumer.accept(u);
 		};
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> deleteSingleModelConsumer);
 
 		return this;
 	}
@@ -926,22 +1135,31 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-			G g = _provideClass(gClass);
-			H h = _provideClass(hClass);
-			I i = _provideClass(iClass);
-
-			decaConsumer.accept(u, a, b, c, d, e, f, g, h, i);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+		Function<HttpServletRequest, I> iFunction = _getProvideFunction(iClass);
+
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
+				C c = cFunction.apply(httpServletRequest);
+				D d = dFunction.apply(httpServletRequest);
+				E e = eFunction.apply(httpServletRequest);
+				F f = fFunction.apply(httpServletRequest);
+				G g = gFunction.apply(httpServletRequest);
+				H h = hFunction.apply(httpServletRequest);
+				I i = iFunction.apply(httpServletRequest);
+
+				decaConsumer.accept(u, a, b, c, d, e, f, g, h, i);
+			});
 
 		return this;
 	}
@@ -957,21 +1175,29 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-			G g = _provideClass(gClass);
-			H h = _provideClass(hClass);
-
-			enneaConsumer.accept(u, a, b, c, d, e, f, g, h);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
+				C c = cFunction.apply(httpServletRequest);
+				D d = dFunction.apply(httpServletRequest);
+				E e = eFunction.apply(httpServletRequest);
+				F f = fFunction.apply(httpServletRequest);
+				G g = gFunction.apply(httpServletRequest);
+				H h = hFunction.apply(httpServletRequest);
+
+				enneaConsumer.accept(u, a, b, c, d, e, f, g, h);
+			});
 
 		return this;
 	}
@@ -985,19 +1211,25 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-
-			heptaConsumer.accept(u, a, b, c, d, e, f);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
+				C c = cFunction.apply(httpServletRequest);
+				D d = dFunction.apply(httpServletRequest);
+				E e = eFunction.apply(httpServletRequest);
+				F f = fFunction.apply(httpServletRequest);
+
+				heptaConsumer.accept(u, a, b, c, d, e, f);
+			});
 
 		return this;
 	}
@@ -1010,18 +1242,23 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-
-			hexaConsumer.accept(u, a, b, c, d, e);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
+				C c = cFunction.apply(httpServletRequest);
+				D d = dFunction.apply(httpServletRequest);
+				E e = eFunction.apply(httpServletRequest);
+
+				hexaConsumer.accept(u, a, b, c, d, e);
+			});
 
 		return this;
 	}
@@ -1036,20 +1273,27 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-			G g = _provideClass(gClass);
-
-			octaConsumer.accept(u, a, b, c, d, e, f, g);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
+				C c = cFunction.apply(httpServletRequest);
+				D d = dFunction.apply(httpServletRequest);
+				E e = eFunction.apply(httpServletRequest);
+				F f = fFunction.apply(httpServletRequest);
+				G g = gFunction.apply(httpServletRequest);
+
+				octaConsumer.accept(u, a, b, c, d, e, f, g);
+			});
 
 		return this;
 	}
@@ -1062,17 +1306,21 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
 
-			pentaConsumer.accept(u, a, b, c, d);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
+				C c = cFunction.apply(httpServletRequest);
+				D d = dFunction.apply(httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				pentaConsumer.accept(u, a, b, c, d);
+			});
 
 		return this;
 	}
@@ -1085,16 +1333,19 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
 
-			tetraConsumer.accept(u, a, b, c);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
+				C c = cFunction.apply(httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				tetraConsumer.accept(u, a, b, c);
+			});
 
 		return this;
 	}
@@ -1106,15 +1357,17 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
 
-			triConsumer.accept(u, a, b);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = aFunction.apply(httpServletRequest);
+				B b = bFunction.apply(httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				triConsumer.accept(u, a, b);
+			});
 
 		return this;
 	}
@@ -1127,7 +1380,7 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
 					T t = biFunction.apply(id, body);
 
@@ -1149,17 +1402,26 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+					H h = hFunction.apply(httpServletRequest);
 
 					T t = decaFunction.apply(id, body, a, b, c, d, e, f, g, h);
 
@@ -1180,16 +1442,24 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
 
 					T t = enneaFunction.apply(id, body, a, b, c, d, e, f, g);
 
@@ -1208,14 +1478,20 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
 
 					T t = heptaFunction.apply(id, body, a, b, c, d, e);
 
@@ -1233,13 +1509,18 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
 
 					T t = hexaFunction.apply(id, body, a, b, c, d);
 
@@ -1258,15 +1539,22 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
 
 					T t = octaFunction.apply(id, body, a, b, c, d, e, f);
 
@@ -1284,12 +1572,16 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
 
 					T t = pentaFunction.apply(id, body, a, b, c);
 
@@ -1307,11 +1599,14 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
 
 					T t = tetraFunction.apply(id, body, a, b);
 
@@ -1329,10 +1624,12 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
+					A a = aFunction.apply(httpServletRequest);
 
 					T t = triFunction.apply(id, body, a);
 
@@ -1354,18 +1651,28 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+		Function<HttpServletRequest, C> cFunction = _getProvideFunction(cClass);
+		Function<HttpServletRequest, D> dFunction = _getProvideFunction(dClass);
+		Function<HttpServletRequest, E> eFunction = _getProvideFunction(eClass);
+		Function<HttpServletRequest, F> fFunction = _getProvideFunction(fClass);
+		Function<HttpServletRequest, G> gFunction = _getProvideFunction(gClass);
+		Function<HttpServletRequest, H> hFunction = _getProvideFunction(hClass);
+		Function<HttpServletRequest, I> iFunction = _getProvideFunction(iClass);
+
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
-					I i = _provideClass(iClass);
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+					C c = cFunction.apply(httpServletRequest);
+					D d = dFunction.apply(httpServletRequest);
+					E e = eFunction.apply(httpServletRequest);
+					F f = fFunction.apply(httpServletRequest);
+					G g = gFunction.apply(httpServletRequest);
+					H h = hFunction.apply(httpServletRequest);
+					I i = iFunction.apply(httpServletRequest);
 
 					T t = undecaFunction.apply(
 						id, body, a, b, c, d, e, f, g, h, i);
@@ -1376,6 +1683,69 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		return this;
 	}
 
+	@Override
+	public <V extends Identifier, A> RoutesBuilder<T, U>
+		addCollectionStreamGetter(
+			BiFunction<V, A, Stream<T>> biFunction, Class<V> identifierClass,
+			Class<A> aClass) {
+
+		Function<Identifier, V> collectionIdentifierFunction =
+			_getCollectionIdentifierFunction(identifierClass);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+
+		_routesImpl.setCollectionStreamFunction(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
+				identifier -> {
+					A a = aFunction.apply(httpServletRequest);
+
+					return new CollectionStream<>(
+						biFunction.apply(identifier, a), _modelClass);
+				}));
+
+		return this;
+	}
+
+	@Override
+	public <V extends Identifier> RoutesBuilder<T, U> addCollectionStreamGetter(
+		Function<V, Stream<T>> function, Class<V> identifierClass) {
+
+		Function<Identifier, V> collectionIdentifierFunction =
+			_getCollectionIdentifierFunction(identifierClass);
+
+		_routesImpl.setCollectionStreamFunction(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
+				identifier -> new CollectionStream<>(
+					function.apply(identifier), _modelClass)));
+
+		return this;
+	}
+
+	@Override
+	public <V extends Identifier, A, B> RoutesBuilder<T, U>
+		addCollectionStreamGetter(
+			TriFunction<V, A, B, Stream<T>> triFunction,
+			Class<V> identifierClass, Class<A> aClass, Class<B> bClass) {
+
+		Function<Identifier, V> collectionIdentifierFunction =
+			_getCollectionIdentifierFunction(identifierClass);
+
+		Function<HttpServletRequest, A> aFunction = _getProvideFunction(aClass);
+		Function<HttpServletRequest, B> bFunction = _getProvideFunction(bClass);
+
+		_routesImpl.setCollectionStreamFunction(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
+				identifier -> {
+					A a = aFunction.apply(httpServletRequest);
+					B b = bFunction.apply(httpServletRequest);
+
+					return new CollectionStream<>(
+						triFunction.apply(identifier, a, b), _modelClass);
+				}));
+
+		return this;
+	}
+
 	@Override
 	public Routes<T> build() {
 		return _routesImpl;
@@ -1414,20 +1784,28 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		return t -> new SingleModel<>(t, _modelClass);
 	}
 
-	private <V> V _provideClass(Class<V> clazz) {
-		Optional<?> optional = _provideClassFunction.apply(clazz);
+	private <V> Function<HttpServletRequest, V> _getProvideFunction(
+		Class<V> clazz) {
+
+		Function<HttpServletRequest, Optional<?>> provideFunction =
+			_provideClassFunction.apply(clazz);
 
-		return optional.map(
-			provided -> (V)provided
-		).orElseThrow(
-			() -> new MustHaveProvider(clazz)
-		);
+		return httpServletRequest -> {
+			Optional<?> optional = provideFunction.apply(httpServletRequest);
+
+			return optional.map(
+				provided -> (V)provided
+			).orElseThrow(
+				() -> new MustHaveProvider(clazz)
+			);
+		};
 	}
 
 	private final BiFunction<Class<? extends Identifier>, Path,
 		Optional<? extends Identifier>> _identifierFunction;
 	private final Class<T> _modelClass;
-	private final Function<Class<?>, Optional<?>> _provideClassFunction;
+	private final Function<Class<?>, Function<HttpServletRequest, Optional<?>>>
+		_provideClassFunction;
 	private final RoutesImpl<T> _routesImpl = new RoutesImpl<>();
 	private final Class<U> _singleModelIdentifierClass;
 
@@ -46,13 +46,11 @@ public class PathLongIdentifierMapper
 
 	@Override
 	public <U> Path map(LongIdentifier longIdentifier, Class<U> modelClass) {
-		String className = modelClass.getName();
-
 		Optional<String> optional = _collectionResourceManager.getNameOptional(
-			className);
+			modelClass);
 
 		String name = optional.orElseThrow(
-			() -> new UnresolvableURI(className));
+			() -> new UnresolvableURI(modelClass.getName()));
 
 		return new Path(name, String.valueOf(longIdentifier.getId()));
 	}
@@ -18,10 +18,11 @@ import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.result.Try;
 import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.osgi.framework.Bundle;
@@ -32,6 +33,13 @@ import org.osgi.framework.ServiceReference;
 /**
  * Use descendants of this class to manage services that have a generic type.
  *
+ * <p>
+ * Registrations are ranked under a lock, and every change publishes an
+ * immutable snapshot with the top ranked service of each class. Lookups only
+ * read the current snapshot, so they never block or race with bundles coming
+ * and going.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @review
  */
@@ -43,6 +51,16 @@ public abstract class BaseManager<T> {
 		_bundleContext = bundle.getBundleContext();
 	}
 
+	/**
+	 * Creates a manager that obtains the services from a bundle context.
+	 *
+	 * @param bundleContext the bundle context
+	 * @review
+	 */
+	protected BaseManager(BundleContext bundleContext) {
+		_bundleContext = bundleContext;
+	}
+
 	/**
 	 * Adds a new serviceReference/service tuple to the internal map.
 	 *
@@ -63,16 +81,18 @@ public abstract class BaseManager<T> {
 
 		Class<U> genericClass = _getGenericClass(service);
 
-		_services.computeIfAbsent(
-			genericClass.getName(), name -> new TreeSet<>());
-
-		TreeSet<ServiceReferenceServiceTuple<T>> serviceReferenceServiceTuples =
-			_services.get(genericClass.getName());
-
 		ServiceReferenceServiceTuple<T> serviceReferenceServiceTuple =
 			new ServiceReferenceServiceTuple<>(serviceReference, service);
 
-		serviceReferenceServiceTuples.add(serviceReferenceServiceTuple);
+		synchronized (_services) {
+			TreeSet<ServiceReferenceServiceTuple<T>>
+				serviceReferenceServiceTuples = _services.computeIfAbsent(
+					genericClass.getName(), name -> new TreeSet<>());
+
+			serviceReferenceServiceTuples.add(serviceReferenceServiceTuple);
+
+			_publishTopServices();
+		}
 
 		return Optional.of(genericClass);
 	}
@@ -98,19 +118,7 @@ public abstract class BaseManager<T> {
 	 * @review
 	 */
 	protected Optional<T> getServiceOptional(String className) {
-		TreeSet<ServiceReferenceServiceTuple<T>> serviceReferenceServiceTuples =
-			_services.get(className);
-
-		Optional<TreeSet<ServiceReferenceServiceTuple<T>>> optional =
-			Optional.ofNullable(serviceReferenceServiceTuples);
-
-		return optional.filter(
-			treeSet -> !treeSet.isEmpty()
-		).map(
-			TreeSet::first
-		).map(
-			ServiceReferenceServiceTuple::getService
-		);
+		return Optional.ofNullable(_topServices.get(className));
 	}
 
 	/**
@@ -154,20 +162,31 @@ public abstract class BaseManager<T> {
 
 		Class<U> genericClass = _getGenericClass(service);
 
-		TreeSet<ServiceReferenceServiceTuple<T>> serviceReferenceServiceTuples =
-			_services.get(genericClass.getName());
-
 		beforeRemovingConsumer.accept(service);
 
-		if (serviceReferenceServiceTuples != null) {
-			serviceReferenceServiceTuples.removeIf(
-				serviceReferenceServiceTuple -> {
-					if (serviceReferenceServiceTuple.getService() == service) {
-						return true;
-					}
+		synchronized (_services) {
+			TreeSet<ServiceReferenceServiceTuple<T>>
+				serviceReferenceServiceTuples = _services.get(
+					genericClass.getName());
+
+			if (serviceReferenceServiceTuples != null) {
+				serviceReferenceServiceTuples.removeIf(
+					serviceReferenceServiceTuple -> {
+						if (serviceReferenceServiceTuple.getService() ==
+								service) {
+
+							return true;
+						}
+
+						return false;
+					});
+
+				if (serviceReferenceServiceTuples.isEmpty()) {
+					_services.remove(genericClass.getName());
+				}
+			}
 
-					return false;
-				});
+			_publishTopServices();
 		}
 
 		return Optional.of(genericClass);
@@ -184,9 +203,25 @@ public abstract class BaseManager<T> {
 				serviceClass));
 	}
 
+	private void _publishTopServices() {
+		Map<String, T> topServices = new HashMap<>();
+
+		_services.forEach(
+			(className, serviceReferenceServiceTuples) -> {
+				ServiceReferenceServiceTuple<T> serviceReferenceServiceTuple =
+					serviceReferenceServiceTuples.first();
+
+				topServices.put(
+					className, serviceReferenceServiceTuple.getService());
+			});
+
+		_topServices = Collections.unmodifiableMap(topServices);
+	}
+
 	private final BundleContext _bundleContext;
 	private final Map<String, TreeSet<ServiceReferenceServiceTuple<T>>>
-		_services = new ConcurrentHashMap<>();
+		_services = new HashMap<>();
+	private volatile Map<String, T> _topServices = Collections.emptyMap();
 
 	private static class ServiceReferenceServiceTuple<T>
 		implements Comparable<ServiceReferenceServiceTuple> {
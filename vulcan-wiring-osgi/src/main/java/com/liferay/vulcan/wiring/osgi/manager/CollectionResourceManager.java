@@ -18,28 +18,20 @@ import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIP
 import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
-import com.liferay.vulcan.consumer.TriConsumer;
-import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.resource.CollectionResource;
-import com.liferay.vulcan.resource.RelatedCollection;
 import com.liferay.vulcan.resource.Representor;
 import com.liferay.vulcan.resource.Routes;
-import com.liferay.vulcan.resource.ScopedCollectionResource;
 import com.liferay.vulcan.resource.identifier.Identifier;
-import com.liferay.vulcan.result.Try;
-import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RepresentorBuilderImpl;
-import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RepresentorBuilderImpl.RepresentorImpl;
-import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RoutesBuilderImpl;
-import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
-
-import java.util.ArrayList;
-import java.util.Collection;
+import com.liferay.vulcan.wiring.osgi.internal.resource.APIModel;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -69,10 +61,18 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	 * @review
 	 */
 	public <T> Optional<Class<T>> getModelClassOptional(String name) {
-		Optional<? extends Class<?>> optional = Optional.ofNullable(
-			_classes.get(name));
+		return _apiModel.getModelClassOptional(name);
+	}
 
-		return optional.map(clazz -> (Class<T>)clazz);
+	/**
+	 * Returns the name of a model class's resource.
+	 *
+	 * @param  modelClass the model class of a {@link CollectionResource}
+	 * @return the name of a model class's resource.
+	 * @review
+	 */
+	public Optional<String> getNameOptional(Class<?> modelClass) {
+		return _apiModel.getNameOptional(modelClass);
 	}
 
 	/**
@@ -83,10 +83,7 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	 * @review
 	 */
 	public Optional<String> getNameOptional(String className) {
-		Optional<CollectionResource> optional = _getCollectionResourceOptional(
-			className);
-
-		return optional.map(CollectionResource::getName);
+		return _apiModel.getNameOptional(className);
 	}
 
 	/**
@@ -101,10 +98,7 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	public <T, U extends Identifier> Optional<Representor<T, U>>
 		getRepresentorOptional(Class<T> modelClass) {
 
-		Optional<RepresentorImpl> optional = Optional.ofNullable(
-			_representors.get(modelClass.getName()));
-
-		return optional.map(representor -> (Representor<T, U>)representor);
+		return _apiModel.getRepresentorOptional(modelClass);
 	}
 
 	/**
@@ -113,28 +107,33 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	 * @return the list of names of the root {@link CollectionResource}.
 	 */
 	public List<String> getRootCollectionResourceNames() {
-		return _rootCollectionResourceNames;
+		return _apiModel.getRootCollectionResourceNames();
 	}
 
 	/**
 	 * Returns the routes of the model class for a certain name.
 	 *
 	 * @param  name the name of a {@link CollectionResource}.
-	 * @param  httpServletRequest the actual request.
 	 * @return the routes of the model class.
 	 * @review
 	 */
-	public <T> Optional<Routes<T>> getRoutesOptional(
-		String name, HttpServletRequest httpServletRequest) {
+	public <T> Optional<Routes<T>> getRoutesOptional(String name) {
+		return _apiModel.getRoutesOptional(name);
+	}
 
-		Optional<Function<HttpServletRequest, Routes<?>>> optional =
-			Optional.ofNullable(_routesFunctions.get(name));
+	/**
+	 * Returns the serialization plan of the model class, if present. Returns
+	 * {@code Optional#empty()} if no representor can be found.
+	 *
+	 * @param  modelClass the model class of a {@link CollectionResource}.
+	 * @return the serialization plan of the model class, if present; {@code
+	 *         Optional#empty()} otherwise.
+	 * @review
+	 */
+	public <T> Optional<SerializationPlan<T>> getSerializationPlanOptional(
+		Class<T> modelClass) {
 
-		return optional.map(
-			routesFunction -> routesFunction.apply(httpServletRequest)
-		).map(
-			routes -> (Routes<T>)routes
-		);
+		return _apiModel.getSerializationPlanOptional(modelClass);
 	}
 
 	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
@@ -143,7 +142,7 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 
 		Optional<Class<Object>> optional = addService(serviceReference);
 
-		optional.ifPresent(this::_addModelClassMaps);
+		optional.ifPresent(this::_updateAPIModel);
 	}
 
 	@SuppressWarnings("unused")
@@ -152,132 +151,45 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 
 		Optional<Class<Object>> optional = removeService(serviceReference);
 
-		optional.ifPresent(this::_removeModelClassMaps);
-
-		optional.filter(
-			modelClass -> {
-				Optional<CollectionResource> collectionResourceOptional =
-					_getCollectionResourceOptional(modelClass.getName());
-
-				return collectionResourceOptional.isPresent();
-			}
-		).ifPresent(
-			this::_addModelClassMaps
-		);
+		optional.ifPresent(this::_updateAPIModel);
 	}
 
-	private <T, U extends Identifier> void _addModelClassMaps(
-		Class<T> modelClass) {
-
-		Optional<CollectionResource> optional = _getCollectionResourceOptional(
-			modelClass.getName());
-
-		optional.map(
-			collectionResource -> (CollectionResource<T, U>)collectionResource
-		).ifPresent(
-			collectionResource -> {
-				_classes.put(collectionResource.getName(), modelClass);
-
-				if (!(collectionResource instanceof ScopedCollectionResource)) {
-					_rootCollectionResourceNames.add(
-						collectionResource.getName());
-				}
-
-				Class<U> identifierClass = _getIdentifierClass(
-					collectionResource);
-
-				Supplier<List<RelatedCollection<T, ?>>>
-					relatedCollectionSupplier =
-						() -> (List)_relatedCollections.get(
-							modelClass.getName());
-
-				RepresentorImpl representor =
-					(RepresentorImpl)collectionResource.buildRepresentor(
-						new RepresentorBuilderImpl<>(
-							identifierClass,
-							_addRelatedCollectionTriConsumer(modelClass),
-							relatedCollectionSupplier));
-
-				_representors.put(modelClass.getName(), representor);
-
-				Function<HttpServletRequest, Routes<?>> routesFunction =
-					_getRoutesFunction(
-						modelClass, identifierClass, collectionResource);
-
-				_routesFunctions.put(
-					collectionResource.getName(), routesFunction);
-			}
-		);
-	}
-
-	private <T> TriConsumer<String, Class<?>, Function<Object, Identifier>>
-		_addRelatedCollectionTriConsumer(Class<T> relatedModelClass) {
-
-		return (key, modelClass, identifierFunction) -> {
-			List<RelatedCollection<?, ?>> relatedCollections =
-				_relatedCollections.computeIfAbsent(
-					modelClass.getName(), className -> new ArrayList<>());
-
-			relatedCollections.add(
-				new RelatedCollection<>(
-					key, relatedModelClass, identifierFunction));
-		};
-	}
-
-	private Optional<CollectionResource> _getCollectionResourceOptional(
-		String modelClassName) {
-
-		return getServiceOptional(modelClassName);
-	}
-
-	private <T, U extends Identifier> Class<U> _getIdentifierClass(
-		CollectionResource<T, U> collectionResource) {
-
-		Class<? extends CollectionResource> resourceClass =
-			collectionResource.getClass();
+	private Function<HttpServletRequest, Optional<?>> _getProvideFunction(
+		Class<?> clazz) {
 
-		Try<Class<U>> classTry = GenericUtil.getGenericTypeArgumentTry(
-			resourceClass, 1);
-
-		return classTry.orElseThrow(
-			() -> new VulcanDeveloperError.MustHaveValidGenericType(
-				resourceClass));
+		return httpServletRequest -> _providerManager.provide(
+			clazz, httpServletRequest);
 	}
 
-	private Function<Class<?>, Optional<?>> _getProvideClassFunction(
-		HttpServletRequest httpServletRequest) {
+	private synchronized void _updateAPIModel(Class<?> modelClass) {
+		Optional<CollectionResource> optional = getServiceOptional(modelClass);
 
-		return clazz -> _providerManager.provide(clazz, httpServletRequest);
-	}
+		if (optional.isPresent()) {
+			_modelClasses.add(modelClass);
+		}
+		else {
+			_modelClasses.remove(modelClass);
+		}
 
-	private <T, U extends Identifier> Function<HttpServletRequest, Routes<?>>
-		_getRoutesFunction(
-			Class<T> modelClass, Class<U> identifierClass,
-			CollectionResource<T, U> collectionResource) {
+		Map<Class<?>, CollectionResource> collectionResources =
+			new LinkedHashMap<>();
 
-		return httpServletRequest -> {
-			RoutesBuilderImpl<T, U> routesBuilder = new RoutesBuilderImpl<>(
-				modelClass, identifierClass,
-				_getProvideClassFunction(httpServletRequest),
-				_pathIdentifierMapperManager::map);
+		for (Class<?> registeredModelClass : _modelClasses) {
+			Optional<CollectionResource> collectionResourceOptional =
+				getServiceOptional(registeredModelClass);
 
-			return collectionResource.routes(routesBuilder);
-		};
-	}
-
-	private <T> void _removeModelClassMaps(Class<T> modelClass) {
-		Collection<Class<?>> classes = _classes.values();
+			collectionResourceOptional.ifPresent(
+				collectionResource -> collectionResources.put(
+					registeredModelClass, collectionResource));
+		}
 
-		classes.removeIf(next -> next.equals(modelClass));
-
-		_relatedCollections.forEach(
-			(className, relatedCollections) -> relatedCollections.removeIf(
-				relatedCollection ->
-					relatedCollection.getModelClass().equals(modelClass)));
-		_representors.remove(modelClass.getName());
+		_apiModel = new APIModel(
+			collectionResources, this::_getProvideFunction,
+			_pathIdentifierMapperManager::map);
 	}
 
-	private final Map<String, Class<?>> _classes = new ConcurrentHashMap<>();
+	private volatile APIModel _apiModel = new APIModel();
+	private final Set<Class<?>> _modelClasses = new LinkedHashSet<>();
 
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
@@ -285,12 +197,4 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	@Reference
 	private ProviderManager _providerManager;
 
-	private final Map<String, List<RelatedCollection<?, ?>>>
-		_relatedCollections = new ConcurrentHashMap<>();
-	private final Map<String, RepresentorImpl> _representors =
-		new ConcurrentHashMap<>();
-	private final List<String> _rootCollectionResourceNames = new ArrayList<>();
-	private final Map<String, Function<HttpServletRequest, Routes<?>>>
-		_routesFunctions = new ConcurrentHashMap<>();
-
 }
\ No newline at end of file
@@ -21,14 +21,18 @@ import com.liferay.vulcan.error.VulcanDeveloperError.MustHaveProblemJSONErrorMes
 import com.liferay.vulcan.message.json.ErrorMessageMapper;
 import com.liferay.vulcan.result.APIError;
 import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.util.MessageMapperIndex;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -42,12 +46,23 @@ import org.osgi.service.component.annotations.Reference;
 @Component(immediate = true, service = ErrorMessageMapperManager.class)
 public class ErrorMessageMapperManager {
 
+	@Activate
+	public void activate() {
+		_errorMessageMapperIndex = new MessageMapperIndex<>(
+			_errorMessageMappers, ErrorMessageMapper::getMediaType);
+	}
+
 	/**
 	 * Returns the {@code ErrorMessageMapper} for the combination of {@code
 	 * APIError} and {@code HttpHeaders}. If no acceptable media type is found
 	 * on the current request, or no mapper is found for that accept type,
 	 * returns a mapper for the {@code "application/problem+json} media type.
 	 *
+	 * <p>
+	 * The candidate mappers of the most common {@code Accept} header values
+	 * are cached, so the header is only negotiated the first time it's found.
+	 * </p>
+	 *
 	 * @param  apiError the {@code APIError} to be mapped.
 	 * @param  httpHeaders the HTTP headers of the current request.
 	 * @return the mapper for this combination of the error and HTTP headers.
@@ -56,28 +71,54 @@ public class ErrorMessageMapperManager {
 	public ErrorMessageMapper getErrorMessageMapper(
 		APIError apiError, HttpHeaders httpHeaders) {
 
-		String mediaType = _getMediaType(httpHeaders);
+		List<ErrorMessageMapper> errorMessageMappers =
+			_getErrorMessageMappers(httpHeaders);
 
-		Optional<ErrorMessageMapper> optional = _getErrorMessageMapper(
-			mediaType, apiError, httpHeaders);
+		Stream<ErrorMessageMapper> stream = errorMessageMappers.stream();
 
-		return optional.orElseGet(
-			() -> _getProblemJSONMessageMapper(apiError, httpHeaders));
+		return stream.filter(
+			messageMapper -> messageMapper.supports(apiError, httpHeaders)
+		).findFirst(
+		).orElseThrow(
+			MustHaveProblemJSONErrorMessageMapper::new
+		);
 	}
 
-	private Optional<ErrorMessageMapper> _getErrorMessageMapper(
-		String mediaTypeString, APIError apiError, HttpHeaders httpHeaders) {
+	private List<ErrorMessageMapper> _getErrorMessageMappers(
+		HttpHeaders httpHeaders) {
 
-		Stream<ErrorMessageMapper> stream = _errorMessageMappers.stream();
+		String accept = httpHeaders.getHeaderString(HttpHeaders.ACCEPT);
 
-		return stream.filter(
-			messageMapper ->
-				mediaTypeString.equals(messageMapper.getMediaType()) &&
-				messageMapper.supports(apiError, httpHeaders)
-		).findFirst();
+		if (accept == null) {
+			accept = "";
+		}
+
+		List<ErrorMessageMapper> errorMessageMappers =
+			_acceptErrorMessageMappers.get(accept);
+
+		if (errorMessageMappers != null) {
+			return errorMessageMappers;
+		}
+
+		MediaType mediaType = _getMediaType(httpHeaders);
+
+		errorMessageMappers = new ArrayList<>(
+			_errorMessageMapperIndex.getMessageMappers(mediaType));
+
+		if (!_PROBLEM_JSON_MEDIA_TYPE.equals(mediaType)) {
+			errorMessageMappers.addAll(
+				_errorMessageMapperIndex.getMessageMappers(
+					_PROBLEM_JSON_MEDIA_TYPE));
+		}
+
+		if (_acceptErrorMessageMappers.size() < _MAX_ACCEPT_HEADERS) {
+			_acceptErrorMessageMappers.put(accept, errorMessageMappers);
+		}
+
+		return errorMessageMappers;
 	}
 
-	private String _getMediaType(HttpHeaders httpHeaders) {
+	private MediaType _getMediaType(HttpHeaders httpHeaders) {
 		List<MediaType> acceptableMediaTypes =
 			httpHeaders.getAcceptableMediaTypes();
 
@@ -86,21 +127,19 @@ public class ErrorMessageMapperManager {
 
 		return mediaTypeTry.filter(
 			mediaType -> mediaType != MediaType.WILDCARD_TYPE
-		).map(
-			MediaType::toString
 		).orElse(
-			"application/problem+json"
+			_PROBLEM_JSON_MEDIA_TYPE
 		);
 	}
 
-	private ErrorMessageMapper _getProblemJSONMessageMapper(
-		APIError apiError, HttpHeaders httpHeaders) {
+	private static final int _MAX_ACCEPT_HEADERS = 64;
 
-		Optional<ErrorMessageMapper> optional = _getErrorMessageMapper(
-			"application/problem+json", apiError, httpHeaders);
+	private static final MediaType _PROBLEM_JSON_MEDIA_TYPE =
+		new MediaType("application", "problem+json");
 
-		return optional.orElseThrow(MustHaveProblemJSONErrorMessageMapper::new);
-	}
+	private final Map<String, List<ErrorMessageMapper>>
+		_acceptErrorMessageMappers = new ConcurrentHashMap<>();
+	private MessageMapperIndex<ErrorMessageMapper> _errorMessageMapperIndex;
 
 	@Reference(cardinality = MULTIPLE, policyOption = GREEDY)
 	private List<ErrorMessageMapper> _errorMessageMappers;
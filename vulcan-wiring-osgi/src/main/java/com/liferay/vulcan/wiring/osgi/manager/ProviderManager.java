@@ -19,6 +19,7 @@ import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
 import com.liferay.vulcan.provider.Provider;
+import com.liferay.vulcan.wiring.osgi.context.RequestContext;
 
 import java.util.Optional;
 
@@ -53,13 +54,11 @@ public class ProviderManager extends BaseManager<Provider> {
 	public <T> Optional<T> provide(
 		Class<T> clazz, HttpServletRequest httpServletRequest) {
 
-		Optional<Provider> optional = getServiceOptional(clazz);
+		RequestContext requestContext = RequestContext.getRequestContext(
+			httpServletRequest);
 
-		return optional.map(
-			service -> (Provider<T>)service
-		).map(
-			provider -> provider.createContext(httpServletRequest)
-		);
+		return requestContext.getProvidedOptional(
+			clazz, request -> _createContextOptional(clazz, request));
 	}
 
 	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
@@ -76,4 +75,16 @@ public class ProviderManager extends BaseManager<Provider> {
 		removeService(serviceReference);
 	}
 
+	private <T> Optional<T> _createContextOptional(
+		Class<T> clazz, HttpServletRequest httpServletRequest) {
+
+		Optional<Provider> optional = getServiceOptional(clazz);
+
+		return optional.map(
+			service -> (Provider<T>)service
+		).map(
+			provider -> provider.createContext(httpServletRequest)
+		);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,416 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.plan;
+
+import com.liferay.vulcan.language.Language;
+import com.liferay.vulcan.resource.RelatedCollection;
+import com.liferay.vulcan.resource.RelatedModel;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.identifier.Identifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Compiled form of a {@link Representor}, used to write its models without
+ * going through the representor's maps and streams for every model.
+ *
+ * <p>
+ * Every kind of field is stored as two parallel arrays: one with the field
+ * keys, and one with the functions that obtain the field values. A plan is
+ * compiled once, when its representor is registered, and can be filtered
+ * once per request with the requested fields by using {@link
+ * #filter(Predicate)}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class SerializationPlan<T> {
+
+	public SerializationPlan(Representor<T, ? extends Identifier> representor) {
+		_representor = representor;
+
+		Map<String, Function<T, Boolean>> booleanFunctions =
+			representor.getBooleanFunctions();
+
+		_booleanKeys = _getKeys(booleanFunctions);
+		_booleanFunctions = _getValues(
+			booleanFunctions, _booleanKeys, new Function[0]);
+
+		Map<String, BiFunction<T, Language, String>> localizedStringFunctions =
+			representor.getLocalizedStringFunctions();
+
+		_localizedStringKeys = _getKeys(localizedStringFunctions);
+		_localizedStringFunctions = _getValues(
+			localizedStringFunctions, _localizedStringKeys,
+			new BiFunction[0]);
+
+		Map<String, Function<T, Number>> numberFunctions =
+			representor.getNumberFunctions();
+
+		_numberKeys = _getKeys(numberFunctions);
+		_numberFunctions = _getValues(
+			numberFunctions, _numberKeys, new Function[0]);
+
+		Map<String, Function<T, String>> stringFunctions =
+			representor.getStringFunctions();
+
+		_stringKeys = _getKeys(stringFunctions);
+		_stringFunctions = _getValues(
+			stringFunctions, _stringKeys, new Function[0]);
+
+		Map<String, String> links = representor.getLinks();
+
+		_linkKeys = _getKeys(links);
+		_linkURLs = _getValues(links, _linkKeys, new String[0]);
+
+		_binaryKeys = _getKeys(representor.getBinaryFunctions());
+
+		List<RelatedModel<T, ?>> embeddedRelatedModels =
+			representor.getEmbeddedRelatedModels();
+
+		_embeddedRelatedModels = embeddedRelatedModels.toArray(
+			new RelatedModel[0]);
+
+		List<RelatedModel<T, ?>> linkedRelatedModels =
+			representor.getLinkedRelatedModels();
+
+		_linkedRelatedModels = linkedRelatedModels.toArray(
+			new RelatedModel[0]);
+
+		Stream<RelatedCollection<T, ?>> stream =
+			representor.getRelatedCollections();
+
+		_relatedCollections = stream.toArray(RelatedCollection[]::new);
+
+		_types = representor.getTypes();
+	}
+
+	/**
+	 * Returns a copy of this plan that only contains the fields, links, related
+	 * models and related collections whose keys match a predicate. Binaries
+	 * and types are never filtered.
+	 *
+	 * @param  fieldsPredicate the predicate the keys must match
+	 * @return the filtered plan
+	 * @review
+	 */
+	public SerializationPlan<T> filter(Predicate<String> fieldsPredicate) {
+		return new SerializationPlan<>(this, fieldsPredicate);
+	}
+
+	/**
+	 * Returns the keys of the model's binaries.
+	 *
+	 * @return the keys of the model's binaries
+	 * @review
+	 */
+	public String[] getBinaryKeys() {
+		return _binaryKeys;
+	}
+
+	/**
+	 * Returns the functions of the model's boolean fields, in the same order
+	 * as {@link #getBooleanKeys()}.
+	 *
+	 * @return the functions of the model's boolean fields
+	 * @review
+	 */
+	public Function<T, Boolean>[] getBooleanFunctions() {
+		return _booleanFunctions;
+	}
+
+	/**
+	 * Returns the keys of the model's boolean fields.
+	 *
+	 * @return the keys of the model's boolean fields
+	 * @review
+	 */
+	public String[] getBooleanKeys() {
+		return _booleanKeys;
+	}
+
+	/**
+	 * Returns the model's embedded related models.
+	 *
+	 * @return the model's embedded related models
+	 * @review
+	 */
+	public RelatedModel<T, ?>[] getEmbeddedRelatedModels() {
+		return _embeddedRelatedModels;
+	}
+
+	/**
+	 * Returns the model's linked related models.
+	 *
+	 * @return the model's linked related models
+	 * @review
+	 */
+	public RelatedModel<T, ?>[] getLinkedRelatedModels() {
+		return _linkedRelatedModels;
+	}
+
+	/**
+	 * Returns the keys of the model's links.
+	 *
+	 * @return the keys of the model's links
+	 * @review
+	 */
+	public String[] getLinkKeys() {
+		return _linkKeys;
+	}
+
+	/**
+	 * Returns the URLs of the model's links, in the same order as {@link
+	 * #getLinkKeys()}.
+	 *
+	 * @return the URLs of the model's links
+	 * @review
+	 */
+	public String[] getLinkURLs() {
+		return _linkURLs;
+	}
+
+	/**
+	 * Returns the functions of the model's localized string fields, in the
+	 * same order as {@link #getLocalizedStringKeys()}.
+	 *
+	 * @return the functions of the model's localized string fields
+	 * @review
+	 */
+	public BiFunction<T, Language, String>[] getLocalizedStringFunctions() {
+		return _localizedStringFunctions;
+	}
+
+	/**
+	 * Returns the keys of the model's localized string fields.
+	 *
+	 * @return the keys of the model's localized string fields
+	 * @review
+	 */
+	public String[] getLocalizedStringKeys() {
+		return _localizedStringKeys;
+	}
+
+	/**
+	 * Returns the functions of the model's number fields, in the same order as
+	 * {@link #getNumberKeys()}.
+	 *
+	 * @return the functions of the model's number fields
+	 * @review
+	 */
+	public Function<T, Number>[] getNumberFunctions() {
+		return _numberFunctions;
+	}
+
+	/**
+	 * Returns the keys of the model's number fields.
+	 *
+	 * @return the keys of the model's number fields
+	 * @review
+	 */
+	public String[] getNumberKeys() {
+		return _numberKeys;
+	}
+
+	/**
+	 * Returns the model's related collections.
+	 *
+	 * @return the model's related collections
+	 * @review
+	 */
+	public RelatedCollection<T, ?>[] getRelatedCollections() {
+		return _relatedCollections;
+	}
+
+	/**
+	 * Returns the representor this plan was compiled from.
+	 *
+	 * @return the representor
+	 * @review
+	 */
+	public Representor<T, ? extends Identifier> getRepresentor() {
+		return _representor;
+	}
+
+	/**
+	 * Returns the functions of the model's string fields, in the same order as
+	 * {@link #getStringKeys()}.
+	 *
+	 * @return the functions of the model's string fields
+	 * @review
+	 */
+	public Function<T, String>[] getStringFunctions() {
+		return _stringFunctions;
+	}
+
+	/**
+	 * Returns the keys of the model's string fields.
+	 *
+	 * @return the keys of the model's string fields
+	 * @review
+	 */
+	public String[] getStringKeys() {
+		return _stringKeys;
+	}
+
+	/**
+	 * Returns the model's types.
+	 *
+	 * @return the model's types
+	 * @review
+	 */
+	public List<String> getTypes() {
+		return _types;
+	}
+
+	private SerializationPlan(
+		SerializationPlan<T> serializationPlan,
+		Predicate<String> fieldsPredicate) {
+
+		_representor = serializationPlan._representor;
+
+		int[] booleanIndexes = _getIndexes(
+			serializationPlan._booleanKeys, fieldsPredicate);
+
+		_booleanKeys = _select(serializationPlan._booleanKeys, booleanIndexes);
+		_booleanFunctions = _select(
+			serializationPlan._booleanFunctions, booleanIndexes);
+
+		int[] localizedStringIndexes = _getIndexes(
+			serializationPlan._localizedStringKeys, fieldsPredicate);
+
+		_localizedStringKeys = _select(
+			serializationPlan._localizedStringKeys, localizedStringIndexes);
+		_localizedStringFunctions = _select(
+			serializationPlan._localizedStringFunctions,
+			localizedStringIndexes);
+
+		int[] numberIndexes = _getIndexes(
+			serializationPlan._numberKeys, fieldsPredicate);
+
+		_numberKeys = _select(serializationPlan._numberKeys, numberIndexes);
+		_numberFunctions = _select(
+			serializationPlan._numberFunctions, numberIndexes);
+
+		int[] stringIndexes = _getIndexes(
+			serializationPlan._stringKeys, fieldsPredicate);
+
+		_stringKeys = _select(serializationPlan._stringKeys, stringIndexes);
+		_stringFunctions = _select(
+			serializationPlan._stringFunctions, stringIndexes);
+
+		int[] linkIndexes = _getIndexes(
+			serializationPlan._linkKeys, fieldsPredicate);
+
+		_linkKeys = _select(serializationPlan._linkKeys, linkIndexes);
+		_linkURLs = _select(serializationPlan._linkURLs, linkIndexes);
+
+		_binaryKeys = serializationPlan._binaryKeys;
+
+		_embeddedRelatedModels = Arrays.stream(
+			serializationPlan._embeddedRelatedModels
+		).filter(
+			relatedModel -> fieldsPredicate.test(relatedModel.getKey())
+		).toArray(
+			RelatedModel[]::new
+		);
+
+		_linkedRelatedModels = Arrays.stream(
+			serializationPlan._linkedRelatedModels
+		).filter(
+			relatedModel -> fieldsPredicate.test(relatedModel.getKey())
+		).toArray(
+			RelatedModel[]::new
+		);
+
+		_relatedCollections = Arrays.stream(
+			serializationPlan._relatedCollections
+		).filter(
+			relatedCollection -> fieldsPredicate.test(
+				relatedCollection.getKey())
+		).toArray(
+			RelatedCollection[]::new
+		);
+
+		_types = serializationPlan._types;
+	}
+
+	private static int[] _getIndexes(
+		String[] keys, Predicate<String> fieldsPredicate) {
+
+		int[] indexes = new int[keys.length];
+
+		int count = 0;
+
+		for (int i = 0; i < keys.length; i++) {
+			if (fieldsPredicate.test(keys[i])) {
+				indexes[count++] = i;
+			}
+		}
+
+		return Arrays.copyOf(indexes, count);
+	}
+
+	private static String[] _getKeys(Map<String, ?> map) {
+		return map.keySet().toArray(new String[0]);
+	}
+
+	private static <V> V[] _getValues(
+		Map<String, V> map, String[] keys, V[] array) {
+
+		V[] values = Arrays.copyOf(array, keys.length);
+
+		for (int i = 0; i < keys.length; i++) {
+			values[i] = map.get(keys[i]);
+		}
+
+		return values;
+	}
+
+	private static <V> V[] _select(V[] array, int[] indexes) {
+		V[] values = Arrays.copyOf(array, indexes.length);
+
+		for (int i = 0; i < indexes.length; i++) {
+			values[i] = array[indexes[i]];
+		}
+
+		return values;
+	}
+
+	private final String[] _binaryKeys;
+	private final Function<T, Boolean>[] _booleanFunctions;
+	private final String[] _booleanKeys;
+	private final RelatedModel<T, ?>[] _embeddedRelatedModels;
+	private final RelatedModel<T, ?>[] _linkedRelatedModels;
+	private final String[] _linkKeys;
+	private final String[] _linkURLs;
+	private final BiFunction<T, Language, String>[] _localizedStringFunctions;
+	private final String[] _localizedStringKeys;
+	private final Function<T, Number>[] _numberFunctions;
+	private final String[] _numberKeys;
+	private final RelatedCollection<T, ?>[] _relatedCollections;
+	private final Representor<T, ? extends Identifier> _representor;
+	private final Function<T, String>[] _stringFunctions;
+	private final String[] _stringKeys;
+	private final List<String> _types;
+
+}
\ No newline at end of file
@@ -19,9 +19,22 @@ import com.liferay.vulcan.result.Try;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Provides methods for skipping problems related to the Java generic system.
  *
+ * <p>
+ * Results for classes are cached per class and position, so repeated lookups
+ * return the same {@link Try} without walking the type hierarchy again. The
+ * caches are stored in {@link ClassValue}s, so they don't prevent unloading
+ * the classes, or the bundles that define them. A parameterized type's result
+ * only depends on the type argument in the requested position, so it's cached
+ * in the argument's class (or its raw class), and no class holds a reference
+ * to another one. Type variables and wildcards aren't cached.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -74,21 +87,17 @@ public class GenericUtil {
 	public static <S> Try<Class<S>> getGenericTypeArgumentTry(
 		Class<?> clazz, int position) {
 
-		Type[] genericInterfaces = clazz.getGenericInterfaces();
+		Map<Integer, Try<?>> classTries = _classTries.get(clazz);
 
-		Try<Class<S>> classTry = Try.fail(
-			new IllegalArgumentException(
-				"Class " + clazz + " does not implement any interfaces"));
+		Try<?> classTry = classTries.get(position);
 
-		for (Type genericInterface : genericInterfaces) {
-			classTry = classTry.recoverWith(
-				throwable -> getGenericTypeArgumentTry(
-					genericInterface, position));
+		if (classTry == null) {
+			classTry = _getGenericTypeArgumentTry(clazz, position);
+
+			classTries.put(position, classTry);
 		}
 
-		return classTry.recoverWith(
-			throwable -> getGenericTypeArgumentTry(
-				clazz.getSuperclass(), position));
+		return (Try<Class<S>>)classTry;
 	}
 
 	/**
@@ -106,6 +115,52 @@ public class GenericUtil {
 	public static <S> Try<Class<S>> getGenericTypeArgumentTry(
 		Type type, int position) {
 
+		if (type instanceof ParameterizedType) {
+			return _getParameterizedTypeArgumentTry(
+				(ParameterizedType)type, position);
+		}
+
+		if (!(type instanceof Class)) {
+			return _getGenericTypeArgumentTry(type, position);
+		}
+
+		Map<Integer, Try<?>> classTries = _rawTypeClassTries.get(
+			(Class<?>)type);
+
+		Try<?> classTry = classTries.get(position);
+
+		if (classTry == null) {
+			classTry = _getGenericTypeArgumentTry(type, position);
+
+			classTries.put(position, classTry);
+		}
+
+		return (Try<Class<S>>)classTry;
+	}
+
+	private static <S> Try<Class<S>> _getGenericTypeArgumentTry(
+		Class<?> clazz, int position) {
+
+		Type[] genericInterfaces = clazz.getGenericInterfaces();
+
+		Try<Class<S>> classTry = Try.fail(
+			new IllegalArgumentException(
+				"Class " + clazz + " does not implement any interfaces"));
+
+		for (Type genericInterface : genericInterfaces) {
+			classTry = classTry.recoverWith(
+				throwable -> getGenericTypeArgumentTry(
+					genericInterface, position));
+		}
+
+		return classTry.recoverWith(
+			throwable -> getGenericTypeArgumentTry(
+				clazz.getSuperclass(), position));
+	}
+
+	private static <S> Try<Class<S>> _getGenericTypeArgumentTry(
+		Type type, int position) {
+
 		Try<Type> typeTry = Try.success(type);
 
 		return typeTry.filter(
@@ -137,4 +192,56 @@ public class GenericUtil {
 		);
 	}
 
+	private static <S> Try<Class<S>> _getParameterizedTypeArgumentTry(
+		ParameterizedType parameterizedType, int position) {
+
+		Type[] typeArguments = parameterizedType.getActualTypeArguments();
+
+		if ((position < 0) || (position >= typeArguments.length)) {
+			return _getGenericTypeArgumentTry(parameterizedType, position);
+		}
+
+		Type typeArgument = typeArguments[position];
+
+		if (typeArgument instanceof ParameterizedType) {
+			typeArgument = ((ParameterizedType)typeArgument).getRawType();
+		}
+
+		if (!(typeArgument instanceof Class)) {
+			return _getGenericTypeArgumentTry(parameterizedType, position);
+		}
+
+		return (Try<Class<S>>)_typeArgumentTries.get((Class<?>)typeArgument);
+	}
+
+	private static final ClassValue<Map<Integer, Try<?>>> _classTries =
+		new ClassValue<Map<Integer, Try<?>>>() {
+
+			@Override
+			protected Map<Integer, Try<?>> computeValue(Class<?> clazz) {
+				return new ConcurrentHashMap<>();
+			}
+
+		};
+
+	private static final ClassValue<Map<Integer, Try<?>>> _rawTypeClassTries =
+		new ClassValue<Map<Integer, Try<?>>>() {
+
+			@Override
+			protected Map<Integer, Try<?>> computeValue(Class<?> clazz) {
+				return new ConcurrentHashMap<>();
+			}
+
+		};
+
+	private static final ClassValue<Try<?>> _typeArgumentTries =
+		new ClassValue<Try<?>>() {
+
+			@Override
+			protected Try<?> computeValue(Class<?> clazz) {
+				return Try.success(clazz);
+			}
+
+		};
+
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Indexes a list of message mappers by their parsed media type, so the mappers
+ * that can write a media type are found with one lookup instead of comparing
+ * the media type of every mapper on each request. The mappers of each media
+ * type keep the order they have in the original list.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MessageMapperIndex<M> {
+
+	public MessageMapperIndex(
+		List<M> messageMappers, Function<M, String> mediaTypeFunction) {
+
+		for (M messageMapper : messageMappers) {
+			MediaType mediaType = MediaType.valueOf(
+				mediaTypeFunction.apply(messageMapper));
+
+			List<M> mediaTypeMessageMappers = _messageMappers.computeIfAbsent(
+				mediaType, key -> new ArrayList<>());
+
+			mediaTypeMessageMappers.add(messageMapper);
+		}
+
+		_messageMappers.replaceAll(
+			(mediaType, mediaTypeMessageMappers) ->
+				Collections.unmodifiableList(mediaTypeMessageMappers));
+	}
+
+	/**
+	 * Returns the message mappers of a media type, in their original order.
+	 * Returns an empty list if no mapper has that media type.
+	 *
+	 * @param  mediaType the media type
+	 * @return the message mappers of the media type
+	 * @review
+	 */
+	public List<M> getMessageMappers(MediaType mediaType) {
+		List<M> messageMappers = _messageMappers.get(mediaType);
+
+		if (messageMappers == null) {
+			return Collections.emptyList();
+		}
+
+		return messageMappers;
+	}
+
+	private final Map<MediaType, List<M>> _messageMappers = new HashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import java.util.Map;
+
+/**
+ * Provides methods for reading numeric component properties, whether they're
+ * configured as numbers or as strings.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class PropertiesUtil {
+
+	/**
+	 * Returns the value of an integer property. If the property isn't set or
+	 * isn't a valid integer, returns the default value.
+	 *
+	 * @param  properties the component properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value returned if the property isn't valid
+	 * @return the property's value, or the default value
+	 * @review
+	 */
+	public static int getIntegerProperty(
+		Map<String, Object> properties, String key, int defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value instanceof Number) {
+			Number number = (Number)value;
+
+			return number.intValue();
+		}
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(String.valueOf(value));
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Returns the value of a long property. If the property isn't set or
+	 * isn't a valid long, returns the default value.
+	 *
+	 * @param  properties the component properties
+	 * @param  key the property's key
+	 * @param  defaultValue the value returned if the property isn't valid
+	 * @return the property's value, or the default value
+	 * @review
+	 */
+	public static long getLongProperty(
+		Map<String, Object> properties, String key, long defaultValue) {
+
+		Object value = properties.get(key);
+
+		if (value instanceof Number) {
+			Number number = (Number)value;
+
+			return number.longValue();
+		}
+
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Long.parseLong(String.valueOf(value));
+		}
+		catch (NumberFormatException nfe) {
+			return defaultValue;
+		}
+	}
+
+}
\ No newline at end of file
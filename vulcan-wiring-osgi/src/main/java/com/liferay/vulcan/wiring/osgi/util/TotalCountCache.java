@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Caches the total count of a collection for each of its scopes during a
+ * fixed time, so the count query of a collection runs at most once per scope
+ * and time to live. Resources create one cache per collection and wrap their
+ * count supplier with it, using the collection's scope (for example, the ID
+ * of its group) as key.
+ *
+ * <p>
+ * Cached counts are shared by every request of a scope. Counts that depend on
+ * the current user's permissions shouldn't be cached.
+ * </p>
+ *
+ * <p>
+ * The cache holds up to 1024 scopes. When it's full, expired counts are
+ * removed first and, if none has expired, the oldest count is evicted.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class TotalCountCache {
+
+	public TotalCountCache(long timeToLive, TimeUnit timeUnit) {
+		_timeToLive = timeUnit.toNanos(timeToLive);
+	}
+
+	/**
+	 * Returns a supplier of the total count of a scope. The supplier returns
+	 * the cached count, if it hasn't expired; otherwise, it calculates the
+	 * count with the provided supplier and caches it.
+	 *
+	 * @param  scope the collection's scope
+	 * @param  totalCountSupplier the supplier that calculates the count
+	 * @return the supplier of the scope's total count
+	 * @review
+	 */
+	public IntSupplier getTotalCountSupplier(
+		Object scope, IntSupplier totalCountSupplier) {
+
+		return () -> _getTotalCount(scope, totalCountSupplier);
+	}
+
+	/**
+	 * Removes the cached total count of a scope, so it's calculated again the
+	 * next time it's needed.
+	 *
+	 * @param scope the collection's scope
+	 * @review
+	 */
+	public void invalidate(Object scope) {
+		_totalCounts.remove(scope);
+	}
+
+	private int _getTotalCount(Object scope, IntSupplier totalCountSupplier) {
+		long now = System.nanoTime();
+
+		TotalCount totalCount = _totalCounts.get(scope);
+
+		if ((totalCount != null) && !totalCount.isExpired(now)) {
+			return totalCount.getCount();
+		}
+
+		int count = totalCountSupplier.getAsInt();
+
+		if (_totalCounts.size() >= _MAX_SCOPES) {
+			Collection<TotalCount> totalCounts = _totalCounts.values();
+
+			totalCounts.removeIf(
+				cachedTotalCount -> cachedTotalCount.isExpired(now));
+		}
+
+		if (_totalCounts.size() >= _MAX_SCOPES) {
+			_removeOldestTotalCount();
+		}
+
+		_totalCounts.put(scope, new TotalCount(count, now + _timeToLive));
+
+		return count;
+	}
+
+	private void _removeOldestTotalCount() {
+		Set<Map.Entry<Object, TotalCount>> entries = _totalCounts.entrySet();
+
+		Optional<Map.Entry<Object, TotalCount>> optional = entries.stream(
+		).min(
+			Comparator.comparingLong(
+				entry -> {
+					TotalCount totalCount = entry.getValue();
+
+					return totalCount.getExpirationTime();
+				})
+		);
+
+		optional.ifPresent(
+			entry -> _totalCounts.remove(entry.getKey(), entry.getValue()));
+	}
+
+	private static final int _MAX_SCOPES = 1024;
+
+	private final long _timeToLive;
+	private final Map<Object, TotalCount> _totalCounts =
+		new ConcurrentHashMap<>();
+
+	private static class TotalCount {
+
+		public TotalCount(int count, long expirationTime) {
+			_count = count;
+			_expirationTime = expirationTime;
+		}
+
+		public int getCount() {
+			return _count;
+		}
+
+		public long getExpirationTime() {
+			return _expirationTime;
+		}
+
+		public boolean isExpired(long now) {
+			if ((now - _expirationTime) >= 0) {
+				return true;
+			}
+
+			return false;
+		}
+
+		private final int _count;
+		private final long _expirationTime;
+
+	}
+
+}
\ No newline at end of file
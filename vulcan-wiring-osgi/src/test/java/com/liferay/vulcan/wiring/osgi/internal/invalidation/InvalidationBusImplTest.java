@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.internal.invalidation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.vulcan.invalidation.InvalidationEvent;
+import com.liferay.vulcan.invalidation.LoopbackInvalidationTransport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class InvalidationBusImplTest {
+
+	@Before
+	public void setUp() {
+		Map<String, Object> properties = Collections.singletonMap(
+			"invalidation.batch.delay", 60000);
+
+		_invalidationBusImpl.activate(properties);
+
+		LoopbackInvalidationTransport loopbackInvalidationTransport =
+			new LoopbackInvalidationTransport();
+
+		LoopbackInvalidationTransport peerLoopbackInvalidationTransport =
+			loopbackInvalidationTransport.createPeer();
+
+		peerLoopbackInvalidationTransport.open(_peerInvalidationEvents::addAll);
+
+		_invalidationBusImpl.setInvalidationTransport(
+			loopbackInvalidationTransport);
+	}
+
+	@Test
+	public void testDeactivatingTheBusSendsThePendingBatch() {
+		_invalidationBusImpl.publish(new InvalidationEvent("people", "1"));
+
+		assertThat(_peerInvalidationEvents, is(empty()));
+
+		_invalidationBusImpl.deactivate();
+
+		assertThat(
+			_peerInvalidationEvents,
+			contains(new InvalidationEvent("people", "1")));
+	}
+
+	@Test
+	public void testEventsArePublishedLocallyRightAway() {
+		List<InvalidationEvent> invalidationEvents = new ArrayList<>();
+
+		_invalidationBusImpl.addInvalidationListener(
+			invalidationEvents::addAll);
+
+		_invalidationBusImpl.publish(new InvalidationEvent("people"));
+
+		assertThat(
+			invalidationEvents, contains(new InvalidationEvent("people")));
+
+		_invalidationBusImpl.deactivate();
+	}
+
+	@Test
+	public void testEventsPublishedAfterDeactivatingTheBusAreSentRightAway() {
+		_invalidationBusImpl.deactivate();
+
+		_invalidationBusImpl.publish(new InvalidationEvent("people", "1"));
+
+		assertThat(
+			_peerInvalidationEvents,
+			contains(new InvalidationEvent("people", "1")));
+	}
+
+	private final InvalidationBusImpl _invalidationBusImpl =
+		new InvalidationBusImpl();
+	private final List<InvalidationEvent> _peerInvalidationEvents =
+		new ArrayList<>();
+
+}
\ No newline at end of file
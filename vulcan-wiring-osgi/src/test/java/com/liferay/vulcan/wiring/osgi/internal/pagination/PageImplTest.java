@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.internal.pagination;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.vulcan.pagination.PageItems;
+import com.liferay.vulcan.pagination.Pagination;
+import com.liferay.vulcan.uri.Path;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageImplTest {
+
+	@Test
+	public void testCursorFromTheClientDoesNotMakeAPageCursorPaginated() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("a", "b"), 4);
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 2, "cursor", false),
+			new Path());
+
+		assertThat(pageImpl.isCursorPaginated(), is(false));
+		assertThat(pageImpl.hasNext(), is(false));
+		assertThat(pageImpl.hasPrevious(), is(true));
+	}
+
+	@Test
+	public void testFirstCursorPageHasNextButNoPrevious() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("a", "b"), 4, "next");
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 1, null, false),
+			new Path());
+
+		assertThat(pageImpl.isCursorPaginated(), is(true));
+		assertThat(pageImpl.hasNext(), is(true));
+		assertThat(pageImpl.hasPrevious(), is(false));
+		assertThat(pageImpl.getNextCursorOptional(), is(Optional.of("next")));
+	}
+
+	@Test
+	public void testLastCursorPageWithoutNextCursorIsCursorPaginated() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("a", "b"), 4, null);
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 1, "cursor", false),
+			new Path());
+
+		assertThat(pageImpl.isCursorPaginated(), is(true));
+		assertThat(pageImpl.hasNext(), is(false));
+		assertThat(pageImpl.hasPrevious(), is(true));
+		assertThat(pageImpl.getNextCursorOptional(), is(Optional.empty()));
+	}
+
+	@Test
+	public void testSingleCursorPageWithoutNextCursorIsCursorPaginated() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("a", "b"), 2, null);
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 1, null, false),
+			new Path());
+
+		assertThat(pageImpl.isCursorPaginated(), is(true));
+		assertThat(pageImpl.hasNext(), is(false));
+		assertThat(pageImpl.hasPrevious(), is(false));
+	}
+
+	@Test
+	public void testSkippedTotalCountDetectsTheExtraItemWhileStreaming() {
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Stream<String> stream = Stream.of("a", "b", "c");
+
+		PageItems<String> pageItems = new PageItems<>(
+			stream.onClose(() -> closed.set(true)), () -> 3);
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 1, null, true),
+			new Path());
+
+		try (Stream<String> itemsStream = pageImpl.getItemsStream()) {
+			assertThat(
+				itemsStream.collect(Collectors.toList()), contains("a", "b"));
+		}
+
+		assertThat(closed.get(), is(true));
+		assertThat(pageImpl.hasNext(), is(true));
+	}
+
+	@Test
+	public void testSkippedTotalCountWithoutExtraItemHasNoNextPage() {
+		PageItems<String> pageItems = new PageItems<>(
+			Stream.of("a", "b"), () -> 2);
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 1, null, true),
+			new Path());
+
+		assertThat(pageImpl.hasNext(), is(false));
+		assertThat(pageImpl.getItems(), contains("a", "b"));
+	}
+
+	@Test
+	public void testSkippedTotalCountIsNeverCalculated() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("a", "b", "c"),
+			() -> {
+				throw new AssertionError("Total count calculated");
+			});
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 1, null, true),
+			new Path());
+
+		assertThat(pageImpl.isTotalCountSkipped(), is(true));
+		assertThat(pageImpl.hasNext(), is(true));
+		assertThat(pageImpl.hasPrevious(), is(false));
+		assertThat(pageImpl.getItems(), contains("a", "b"));
+	}
+
+	@Test
+	public void testTotalCountIsUsedWhenNotSkipped() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("c", "d"), 5);
+
+		PageImpl<String> pageImpl = new PageImpl<>(
+			String.class, pageItems, new TestPagination(2, 2, null, false),
+			new Path());
+
+		assertThat(pageImpl.isTotalCountSkipped(), is(false));
+		assertThat(pageImpl.getTotalCount(), is(5));
+		assertThat(pageImpl.getLastPageNumber(), is(3));
+		assertThat(pageImpl.hasNext(), is(true));
+		assertThat(pageImpl.hasPrevious(), is(true));
+	}
+
+	private static class TestPagination implements Pagination {
+
+		public TestPagination(
+			int itemsPerPage, int pageNumber, String cursor,
+			boolean totalCountSkipped) {
+
+			_itemsPerPage = itemsPerPage;
+			_pageNumber = pageNumber;
+			_cursorOptional = Optional.ofNullable(cursor);
+			_totalCountSkipped = totalCountSkipped;
+		}
+
+		@Override
+		public Optional<String> getCursorOptional() {
+			return _cursorOptional;
+		}
+
+		@Override
+		public int getEndPosition() {
+			return _pageNumber * _itemsPerPage;
+		}
+
+		@Override
+		public int getItemsPerPage() {
+			return _itemsPerPage;
+		}
+
+		@Override
+		public int getPageNumber() {
+			return _pageNumber;
+		}
+
+		@Override
+		public int getStartPosition() {
+			return (_pageNumber - 1) * _itemsPerPage;
+		}
+
+		@Override
+		public boolean isTotalCountSkipped() {
+			return _totalCountSkipped;
+		}
+
+		private final Optional<String> _cursorOptional;
+		private final int _itemsPerPage;
+		private final int _pageNumber;
+		private final boolean _totalCountSkipped;
+
+	}
+
+}
\ No newline at end of file
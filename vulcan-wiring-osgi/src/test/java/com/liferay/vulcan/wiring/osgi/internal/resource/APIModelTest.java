@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.internal.resource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import com.liferay.vulcan.resource.CollectionResource;
+import com.liferay.vulcan.resource.RelatedCollection;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.Routes;
+import com.liferay.vulcan.resource.ScopedCollectionResource;
+import com.liferay.vulcan.resource.builder.RepresentorBuilder;
+import com.liferay.vulcan.resource.builder.RoutesBuilder;
+import com.liferay.vulcan.resource.identifier.LongIdentifier;
+import com.liferay.vulcan.wiring.osgi.plan.SerializationPlan;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class APIModelTest {
+
+	@Test
+	public void testEmptyModelHasNoResources() {
+		APIModel apiModel = new APIModel();
+
+		Optional<String> optional = apiModel.getNameOptional(String.class);
+
+		assertThat(optional.isPresent(), is(false));
+		assertThat(apiModel.getRootCollectionResourceNames(), is(empty()));
+	}
+
+	@Test
+	public void testOnlyUnscopedResourcesAreRootResources() {
+		APIModel apiModel = _createAPIModel();
+
+		assertThat(
+			apiModel.getRootCollectionResourceNames(), contains("people"));
+	}
+
+	@Test
+	public void testPlansHaveTheRelatedCollectionsOfLaterResources() {
+		APIModel apiModel = _createAPIModel();
+
+		Optional<SerializationPlan<String>> optional =
+			apiModel.getSerializationPlanOptional(String.class);
+
+		SerializationPlan<String> serializationPlan = optional.get();
+
+		RelatedCollection<String, ?>[] relatedCollections =
+			serializationPlan.getRelatedCollections();
+
+		assertThat(relatedCollections.length, is(1));
+
+		RelatedCollection<String, ?> relatedCollection = relatedCollections[0];
+
+		assertThat(relatedCollection.getKey(), is(equalTo("blogPostings")));
+		assertThat(
+			relatedCollection.getModelClass(), is(equalTo(Integer.class)));
+	}
+
+	@Test
+	public void testResourcesAreIndexedByNameAndModelClass() {
+		APIModel apiModel = _createAPIModel();
+
+		assertThat(
+			apiModel.getNameOptional(String.class),
+			is(equalTo(Optional.of("people"))));
+		assertThat(
+			apiModel.getNameOptional(Integer.class.getName()),
+			is(equalTo(Optional.of("blog-postings"))));
+		assertThat(
+			apiModel.getModelClassOptional("people"),
+			is(equalTo(Optional.of(String.class))));
+
+		Optional<Routes<Integer>> routesOptional = apiModel.getRoutesOptional(
+			"blog-postings");
+
+		assertThat(routesOptional.isPresent(), is(true));
+
+		Optional<Representor<Integer, LongIdentifier>> representorOptional =
+			apiModel.getRepresentorOptional(Integer.class);
+
+		assertThat(representorOptional.isPresent(), is(true));
+
+		Optional<String> nameOptional = apiModel.getNameOptional(Long.class);
+
+		assertThat(nameOptional.isPresent(), is(false));
+	}
+
+	private APIModel _createAPIModel() {
+		Map<Class<?>, CollectionResource> collectionResources =
+			new LinkedHashMap<>();
+
+		collectionResources.put(String.class, new PersonCollectionResource());
+		collectionResources.put(
+			Integer.class, new BlogPostingCollectionResource());
+
+		return new APIModel(
+			collectionResources, clazz -> request -> Optional.empty(),
+			(clazz, path) -> Optional.empty());
+	}
+
+	private static class BlogPostingCollectionResource
+		implements ScopedCollectionResource<Integer, LongIdentifier> {
+
+		@Override
+		public Representor<Integer, LongIdentifier> buildRepresentor(
+			RepresentorBuilder<Integer, LongIdentifier> representorBuilder) {
+
+			return representorBuilder.identifier(
+				blogPostingId -> () -> blogPostingId
+			).addBidirectionalModel(
+				"creator", "blogPostings", String.class,
+				blogPostingId -> Optional.of("Alice"), name -> () -> 1L
+			).addType(
+				"BlogPosting"
+			).build();
+		}
+
+		@Override
+		public String getName() {
+			return "blog-postings";
+		}
+
+		@Override
+		public Routes<Integer> routes(
+			RoutesBuilder<Integer, LongIdentifier> routesBuilder) {
+
+			return routesBuilder.build();
+		}
+
+	}
+
+	private static class PersonCollectionResource
+		implements CollectionResource<String, LongIdentifier> {
+
+		@Override
+		public Representor<String, LongIdentifier> buildRepresentor(
+			RepresentorBuilder<String, LongIdentifier> representorBuilder) {
+
+			return representorBuilder.identifier(
+				name -> () -> 1L
+			).addType(
+				"Person"
+			).build();
+		}
+
+		@Override
+		public String getName() {
+			return "people";
+		}
+
+		@Override
+		public Routes<String> routes(
+			RoutesBuilder<String, LongIdentifier> routesBuilder) {
+
+			return routesBuilder.build();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.manager;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BaseManagerTest {
+
+	@Test
+	public void testRemovingAServicePublishesTheNextServiceOfItsClass() {
+		Supplier<String> supplier1 = new StringSupplier();
+		Supplier<String> supplier2 = new StringSupplier();
+
+		ServiceReference<Supplier> serviceReference1 = _register(supplier1);
+		ServiceReference<Supplier> serviceReference2 = _register(supplier2);
+
+		Mockito.when(
+			serviceReference1.compareTo(serviceReference2)
+		).thenReturn(
+			-1
+		);
+
+		Mockito.when(
+			serviceReference2.compareTo(serviceReference1)
+		).thenReturn(
+			1
+		);
+
+		_supplierManager.addService(serviceReference1);
+		_supplierManager.addService(serviceReference2);
+
+		assertThat(
+			_supplierManager.getServiceOptional(String.class),
+			is(equalTo(Optional.of(supplier1))));
+
+		_supplierManager.removeService(serviceReference1);
+
+		assertThat(
+			_supplierManager.getServiceOptional(String.class),
+			is(equalTo(Optional.of(supplier2))));
+	}
+
+	@Test
+	public void testRemovingTheLastServiceOfAClassOnlyRemovesThatClass() {
+		Supplier<String> stringSupplier = new StringSupplier();
+		Supplier<Integer> integerSupplier = new IntegerSupplier();
+
+		ServiceReference<Supplier> serviceReference = _register(
+			stringSupplier);
+
+		_supplierManager.addService(serviceReference);
+		_supplierManager.addService(_register(integerSupplier));
+
+		_supplierManager.removeService(serviceReference);
+
+		assertThat(
+			_supplierManager.getServiceOptional(String.class),
+			is(equalTo(Optional.empty())));
+		assertThat(
+			_supplierManager.getServiceOptional(Integer.class),
+			is(equalTo(Optional.of(integerSupplier))));
+	}
+
+	@Test
+	public void testServicesAreFoundByTheNameOfTheirGenericClass() {
+		Supplier<String> stringSupplier = new StringSupplier();
+
+		assertThat(
+			_supplierManager.getServiceOptional(String.class.getName()),
+			is(equalTo(Optional.empty())));
+
+		_supplierManager.addService(_register(stringSupplier));
+
+		assertThat(
+			_supplierManager.getServiceOptional(String.class.getName()),
+			is(equalTo(Optional.of(stringSupplier))));
+		assertThat(
+			_supplierManager.getServiceOptional(Integer.class),
+			is(equalTo(Optional.empty())));
+	}
+
+	private ServiceReference<Supplier> _register(Supplier<?> supplier) {
+		ServiceReference<Supplier> serviceReference = Mockito.mock(
+			ServiceReference.class);
+
+		Mockito.when(
+			_bundleContext.getService(serviceReference)
+		).thenReturn(
+			supplier
+		);
+
+		return serviceReference;
+	}
+
+	private final BundleContext _bundleContext = Mockito.mock(
+		BundleContext.class);
+	private final SupplierManager _supplierManager = new SupplierManager(
+		_bundleContext);
+
+	private static class IntegerSupplier implements Supplier<Integer> {
+
+		@Override
+		public Integer get() {
+			return 1;
+		}
+
+	}
+
+	private static class StringSupplier implements Supplier<String> {
+
+		@Override
+		public String get() {
+			return "Alice";
+		}
+
+	}
+
+	private static class SupplierManager extends BaseManager<Supplier> {
+
+		public SupplierManager(BundleContext bundleContext) {
+			super(bundleContext);
+		}
+
+	}
+
+}
\ No newline at end of file
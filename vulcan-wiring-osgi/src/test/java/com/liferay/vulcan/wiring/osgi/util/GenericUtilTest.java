@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import com.liferay.vulcan.result.Try;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class GenericUtilTest {
+
+	@Test
+	public void testParameterizedTypeArgumentsAreCached() {
+		Type type = _getGenericInterface(StringListMap.class);
+
+		Try<Class<String>> firstTry = GenericUtil.getGenericTypeArgumentTry(
+			type, 0);
+
+		assertThat(firstTry.getUnchecked(), is(equalTo(String.class)));
+		assertThat(
+			GenericUtil.getGenericTypeArgumentTry(type, 0),
+			is(sameInstance(firstTry)));
+	}
+
+	@Test
+	public void testParameterizedTypeArgumentsReturnTheirRawClass() {
+		Type type = _getGenericInterface(StringListMap.class);
+
+		Try<Class<List>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			type, 1);
+
+		assertThat(classTry.getUnchecked(), is(equalTo(List.class)));
+	}
+
+	@Test
+	public void testPositionsOutOfRangeFail() {
+		Type type = _getGenericInterface(StringListMap.class);
+
+		Try<Class<Object>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			type, 2);
+
+		assertThat(classTry.isSuccess(), is(false));
+	}
+
+	private Type _getGenericInterface(Class<?> clazz) {
+		Type[] genericInterfaces = clazz.getGenericInterfaces();
+
+		assertThat(genericInterfaces[0] instanceof ParameterizedType, is(true));
+
+		return genericInterfaces[0];
+	}
+
+	private interface StringListMap extends Map<String, List<Integer>> {
+	}
+
+}
\ No newline at end of file
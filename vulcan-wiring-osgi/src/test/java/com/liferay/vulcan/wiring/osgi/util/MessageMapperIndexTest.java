@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MessageMapperIndexTest {
+
+	@Before
+	public void setUp() {
+		RuntimeDelegate runtimeDelegate = Mockito.mock(RuntimeDelegate.class);
+
+		Mockito.when(
+			runtimeDelegate.createHeaderDelegate(MediaType.class)
+		).thenReturn(
+			new MediaTypeHeaderDelegate()
+		);
+
+		RuntimeDelegate.setInstance(runtimeDelegate);
+
+		_mediaTypes.put("hal", "application/hal+json");
+		_mediaTypes.put("json-ld", "application/ld+json");
+		_mediaTypes.put("other-hal", "application/hal+json");
+	}
+
+	@After
+	public void tearDown() {
+		RuntimeDelegate.setInstance(null);
+	}
+
+	@Test
+	public void testMediaTypesWithoutMappersHaveAnEmptyList() {
+		MessageMapperIndex<String> messageMapperIndex =
+			new MessageMapperIndex<>(
+				Collections.singletonList("hal"), _mediaTypes::get);
+
+		List<String> messageMappers = messageMapperIndex.getMessageMappers(
+			MediaType.APPLICATION_JSON_TYPE);
+
+		assertThat(messageMappers, is(empty()));
+	}
+
+	@Test
+	public void testMessageMappersAreIndexedByMediaTypeInTheirOrder() {
+		MessageMapperIndex<String> messageMapperIndex =
+			new MessageMapperIndex<>(
+				Arrays.asList("other-hal", "json-ld", "hal"),
+				_mediaTypes::get);
+
+		List<String> messageMappers = messageMapperIndex.getMessageMappers(
+			new MediaType("application", "hal+json"));
+
+		assertThat(messageMappers, contains("other-hal", "hal"));
+
+		List<String> jsonLDMessageMappers =
+			messageMapperIndex.getMessageMappers(
+				new MediaType("application", "ld+json"));
+
+		assertThat(jsonLDMessageMappers, contains("json-ld"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testMessageMappersOfAMediaTypeCannotBeModified() {
+		MessageMapperIndex<String> messageMapperIndex =
+			new MessageMapperIndex<>(
+				Collections.singletonList("hal"), _mediaTypes::get);
+
+		List<String> messageMappers = messageMapperIndex.getMessageMappers(
+			new MediaType("application", "hal+json"));
+
+		messageMappers.add("json-ld");
+	}
+
+	private final Map<String, String> _mediaTypes = new HashMap<>();
+
+	private static class MediaTypeHeaderDelegate
+		implements RuntimeDelegate.HeaderDelegate<MediaType> {
+
+		@Override
+		public MediaType fromString(String value) {
+			String[] parts = value.split("/");
+
+			return new MediaType(parts[0], parts[1]);
+		}
+
+		@Override
+		public String toString(MediaType mediaType) {
+			return mediaType.getType() + "/" + mediaType.getSubtype();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class TotalCountCacheTest {
+
+	@Test
+	public void testCountIsCachedUntilItExpires() throws InterruptedException {
+		TotalCountCache totalCountCache = new TotalCountCache(
+			50, TimeUnit.MILLISECONDS);
+
+		AtomicInteger calls = new AtomicInteger();
+
+		IntSupplier intSupplier = totalCountCache.getTotalCountSupplier(
+			"scope", calls::incrementAndGet);
+
+		assertThat(intSupplier.getAsInt(), is(1));
+		assertThat(intSupplier.getAsInt(), is(1));
+
+		Thread.sleep(100);
+
+		assertThat(intSupplier.getAsInt(), is(2));
+		assertThat(calls.get(), is(2));
+	}
+
+	@Test
+	public void testCountIsNotCachedWithoutTimeToLive() {
+		TotalCountCache totalCountCache = new TotalCountCache(
+			0, TimeUnit.SECONDS);
+
+		AtomicInteger calls = new AtomicInteger();
+
+		IntSupplier intSupplier = totalCountCache.getTotalCountSupplier(
+			"scope", calls::incrementAndGet);
+
+		assertThat(intSupplier.getAsInt(), is(1));
+		assertThat(intSupplier.getAsInt(), is(2));
+	}
+
+	@Test
+	public void testExpiredScopesAreRemovedWhenTheCacheIsFull()
+		throws InterruptedException {
+
+		TotalCountCache totalCountCache = new TotalCountCache(
+			50, TimeUnit.MILLISECONDS);
+
+		_fill(totalCountCache, 1024);
+
+		Thread.sleep(100);
+
+		AtomicInteger calls = new AtomicInteger();
+
+		IntSupplier intSupplier = totalCountCache.getTotalCountSupplier(
+			"scope", calls::incrementAndGet);
+
+		assertThat(intSupplier.getAsInt(), is(1));
+		assertThat(intSupplier.getAsInt(), is(1));
+	}
+
+	@Test
+	public void testInvalidatingAScopeOnlyRemovesItsCount() {
+		TotalCountCache totalCountCache = new TotalCountCache(
+			1, TimeUnit.HOURS);
+
+		AtomicInteger calls1 = new AtomicInteger();
+		AtomicInteger calls2 = new AtomicInteger();
+
+		IntSupplier intSupplier1 = totalCountCache.getTotalCountSupplier(
+			"scope1", calls1::incrementAndGet);
+		IntSupplier intSupplier2 = totalCountCache.getTotalCountSupplier(
+			"scope2", calls2::incrementAndGet);
+
+		intSupplier1.getAsInt();
+		intSupplier2.getAsInt();
+
+		totalCountCache.invalidate("scope1");
+
+		assertThat(intSupplier1.getAsInt(), is(2));
+		assertThat(intSupplier2.getAsInt(), is(1));
+	}
+
+	@Test
+	public void testTheOldestScopeIsEvictedWhenTheCacheIsFull()
+		throws InterruptedException {
+
+		TotalCountCache totalCountCache = new TotalCountCache(
+			1, TimeUnit.HOURS);
+
+		AtomicInteger oldestCalls = new AtomicInteger();
+
+		IntSupplier oldestIntSupplier = totalCountCache.getTotalCountSupplier(
+			"oldest", oldestCalls::incrementAndGet);
+
+		oldestIntSupplier.getAsInt();
+
+		Thread.sleep(10);
+
+		_fill(totalCountCache, 1023);
+
+		AtomicInteger calls = new AtomicInteger();
+
+		IntSupplier intSupplier = totalCountCache.getTotalCountSupplier(
+			"scope", calls::incrementAndGet);
+
+		assertThat(intSupplier.getAsInt(), is(1));
+		assertThat(intSupplier.getAsInt(), is(1));
+
+		IntSupplier cachedIntSupplier = totalCountCache.getTotalCountSupplier(
+			0,
+			() -> {
+				throw new AssertionError("Cached count calculated again");
+			});
+
+		assertThat(cachedIntSupplier.getAsInt(), is(0));
+		assertThat(oldestIntSupplier.getAsInt(), is(2));
+	}
+
+	private void _fill(TotalCountCache totalCountCache, int scopes) {
+		for (int i = 0; i < scopes; i++) {
+			int count = i;
+
+			IntSupplier intSupplier = totalCountCache.getTotalCountSupplier(
+				i, () -> count);
+
+			intSupplier.getAsInt();
+		}
+	}
+
+}
\ No newline at end of file